@@ -3,6 +3,7 @@ package com.markussecundus.forms.elements.impl.layouts;
 import com.markussecundus.forms.elements.DrawableElem;
 import com.markussecundus.forms.elements.Element;
 import com.markussecundus.forms.elements.UberDrawable;
+import com.markussecundus.forms.elements.UberElement;
 import com.markussecundus.forms.elements.impl.BasicAbstractDrawableElem;
 import com.markussecundus.forms.elements.impl.utils.DefaultSizeBehavior;
 import com.markussecundus.forms.elements.impl.utils.ElementLists;
@@ -10,16 +11,21 @@ import com.markussecundus.forms.elements.impl.utils.ElementsTagMap;
 import com.markussecundus.forms.events.EventDelegate;
 import com.markussecundus.forms.events.EventListener;
 import com.markussecundus.forms.events.ListenerPriorities;
+import com.markussecundus.forms.extensibility.Extensible;
 import com.markussecundus.forms.gfx.Drawable;
 import com.markussecundus.forms.utils.Pair;
+import com.markussecundus.forms.utils.datastruct.AutobucketedList;
 import com.markussecundus.forms.utils.function.Function;
 import com.markussecundus.forms.utils.vector.VectUtil;
 import com.markussecundus.forms.wrappers.WriteonlyWrapper;
+import com.markussecundus.forms.wrappers.property.ChangePolicy;
 import com.markussecundus.forms.wrappers.property.ConstProperty;
 import com.markussecundus.forms.wrappers.property.ReadonlyProperty;
+import com.markussecundus.forms.wrappers.property.binding.BindingGroup;
 import com.markussecundus.forms.wrappers.property.impl.readonly.SimpleReadonlyProperty;
 
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -131,6 +137,12 @@ public abstract class BasicAbstractLayout<Rend, Pos, Scalar extends Comparable<S
      * and possibly able to be deleted from the particular delegate if necessary.
      * */
     protected final class ChildrenListeners {
+        /**
+         * Handles of the <code>onChildResizedAction</code> delegate in the setter listeners of children's <code>size</code> properties,
+         * so that it can be removed without being searched for.
+         * */
+        private final Map<Object, AutobucketedList.Handle<?>> onResizedListenerHandles = new IdentityHashMap<>();
+
         /**
          * Skips execution of the listener for all Objects attempted to be removed, that aren't instances of {@link Element}.
          * <p>
@@ -146,7 +158,7 @@ public abstract class BasicAbstractLayout<Rend, Pos, Scalar extends Comparable<S
         public final EventListener<Object> SIZE_CONSTRAINT_REMOVER__ON_UNCHILD = o -> {
             if (_isDrawableChild(o)) {
                 DrawableElem<?, ?> drw = (DrawableElem<?, ?>) o;
-                ((EventDelegate<?>) (drw.size().setterListeners().get()))._getUtilListeners().remove(onChildResizedAction);
+                removeOnResizedListener(drw);
                 drw._sizeConstraint().set(null);
             }
             return true;
@@ -157,7 +169,7 @@ public abstract class BasicAbstractLayout<Rend, Pos, Scalar extends Comparable<S
          * of the drawable child being added.
          * */
         public final EventListener<Drawable<Rend, Pos>> ADDER_OF__ON_RESIZED_LISTENER = drw -> {
-            drw.size().setterListeners().get()._getUtilListeners().add(onChildResizedAction);
+            onResizedListenerHandles.put(drw, drw.size().setterListeners().get().addListener(ListenerPriorities.PRE_UTIL, onChildResizedAction));
             return true;
         };
 
@@ -167,10 +179,38 @@ public abstract class BasicAbstractLayout<Rend, Pos, Scalar extends Comparable<S
          * */
         public final EventListener<Object> REMOVER_OF__ON_RESIZED_LISTENER = drw -> {
             if(_isDrawableChild(drw)) {
-                ((DrawableElem<?,?>)drw).size().setterListeners().get()._getUtilListeners().remove(onChildResizedAction);
+                removeOnResizedListener((DrawableElem<?,?>)drw);
             }
             return true;
         };
+
+        /**
+         * Disposes the {@link BindingGroup}s attached to the child being removed and to all of its descendants,
+         * if they opted in through {@link BindingGroup#setDisposedOnRemoval(boolean)}.
+         * Groups that didn't opt in survive the removal, so that reordering or moving the child into another layout keeps its bindings alive.
+         * <p>
+         * Gets added to <code>childrenContainer.onElementRemoved</code>
+         * */
+        public final EventListener<Object> BINDING_GROUPS_DISPOSER__ON_UNCHILD = o -> {
+            disposeBindingGroups(o);
+            return true;
+        };
+
+        private void disposeBindingGroups(Object o){
+            if(o instanceof Extensible)
+                BindingGroup.disposeAttachedOnRemoval((Extensible)o);
+            if(o instanceof UberElement)
+                for(Element child: ((UberElement)o).getChildren())
+                    disposeBindingGroups(child);
+        }
+
+        private void removeOnResizedListener(DrawableElem<?,?> drw){
+            AutobucketedList.Handle<?> handle = onResizedListenerHandles.remove(drw);
+            if(handle != null)
+                handle.remove();
+            else
+                ((EventDelegate<?>) (drw.size().setterListeners().get()))._getUtilListeners().remove(onChildResizedAction);
+        }
     }
     /**
      * The instance of {@link ChildrenListeners} belonging to the particular instance of <code>BasicAbstractLayout</code>.
@@ -183,6 +223,7 @@ public abstract class BasicAbstractLayout<Rend, Pos, Scalar extends Comparable<S
      *
      * On construction already has basic listeners added,
      * that remove any <code>sizeConstraint</code> from a child when it is removed,
+     * dispose the {@link BindingGroup}s attached to it and its descendants (if they opted in),
      * and bind the drawable children with their <code>size</code> Property as a tag.
      *
      *
@@ -195,6 +236,7 @@ public abstract class BasicAbstractLayout<Rend, Pos, Scalar extends Comparable<S
 
         childrenContainer.onDrawableAdded._getUtilListeners().add(CHILDREN_LISTENERS.ADDER_OF__ON_RESIZED_LISTENER);
         childrenContainer.onElementRemoved._getUtilListeners().add(CHILDREN_LISTENERS.REMOVER_OF__ON_RESIZED_LISTENER);
+        childrenContainer.onElementRemoved._getUtilListeners().add(CHILDREN_LISTENERS.BINDING_GROUPS_DISPOSER__ON_UNCHILD);
 
         setDrawableChildToTagBinding(DrawableElem::size);
     }
@@ -236,10 +278,14 @@ public abstract class BasicAbstractLayout<Rend, Pos, Scalar extends Comparable<S
     /**
      * Data class for containing both the {@link ReadonlyProperty} of child size
      * and its setter.
+     *
+     * The property uses {@link ChangePolicy#EQUALS}, so setting a position equal to the current one
+     * doesn't notify its listeners.
      * */
     protected class ChildPosition{
         public ChildPosition(Pos initValue){
             Pair<SimpleReadonlyProperty<Pos>, WriteonlyWrapper<Pos>> pos = SimpleReadonlyProperty.make(initValue);
+            pos.first().setChangePolicy(ChangePolicy.EQUALS);
             positionProperty = pos.first();
             positionWriter = pos.second();
         }
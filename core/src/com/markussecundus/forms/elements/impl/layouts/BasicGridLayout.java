@@ -9,7 +9,9 @@ import com.markussecundus.forms.utils.vector.VectUtil;
 import com.markussecundus.forms.wrappers.property.Property;
 import com.markussecundus.forms.wrappers.property.ReadonlyProperty;
 import com.markussecundus.forms.wrappers.property.impl.general.PropertyMap;
+import com.markussecundus.forms.wrappers.property.impl.general.SimpleBooleanProperty;
 import com.markussecundus.forms.wrappers.property.impl.general.SimpleProperty;
+import com.markussecundus.forms.wrappers.property.raw.BooleanProperty;
 
 /**
  * Basic layout for arranging Elements in a grid.
@@ -225,17 +227,17 @@ public class BasicGridLayout<Rend, Pos, Scalar extends Comparable<Scalar>> exten
      * Decides whether the {@link BasicAbstractLayout.LayoutTooShortException} is thrown at the end of child positions recompute
      * if the children don't fit into the layout, or if it is ignored.
      * */
-    public Property<Boolean> ignoreTooShort(){return ignoreTooShort;}
+    public BooleanProperty ignoreTooShort(){return ignoreTooShort;}
 
     /**
-     * @return Shinier shortcut for <code>ignoreTooShort().get()</code>
+     * @return Shinier shortcut for <code>ignoreTooShort().get_raw()</code>
      * */
-    public final Boolean getIgnoreTooShort(){return ignoreTooShort().get();}
+    public final boolean getIgnoreTooShort(){return ignoreTooShort().get_raw();}
 
     /**
-     * @return Shinier shortcut for <code>ignoreTooShort().set(newValue)</code>
+     * @return Shinier shortcut for <code>ignoreTooShort().set_raw(newValue)</code>
      * */
-    public final Boolean setIgnoreTooShort(Boolean newValue){return ignoreTooShort().set(newValue);}
+    public final boolean setIgnoreTooShort(boolean newValue){return ignoreTooShort().set_raw(newValue);}
 
 
 
@@ -254,7 +256,7 @@ public class BasicGridLayout<Rend, Pos, Scalar extends Comparable<Scalar>> exten
     private boolean childPositionsDirty = false;
 
 
-    private final Property<Boolean> ignoreTooShort = new SimpleProperty<>(false);
+    private final BooleanProperty ignoreTooShort = new SimpleBooleanProperty(false);
 
 
 
@@ -8,14 +8,23 @@ import com.markussecundus.forms.utils.vector.VectUtil;
 import com.markussecundus.forms.wrappers.property.Property;
 import com.markussecundus.forms.wrappers.property.ReadonlyProperty;
 import com.markussecundus.forms.wrappers.property.impl.general.ArrayProperty;
+import com.markussecundus.forms.wrappers.property.impl.general.SimpleBooleanProperty;
+import com.markussecundus.forms.wrappers.property.impl.general.SimpleIntProperty;
 import com.markussecundus.forms.wrappers.property.impl.general.SimpleProperty;
+import com.markussecundus.forms.wrappers.property.raw.BooleanProperty;
+import com.markussecundus.forms.wrappers.property.raw.IntProperty;
 
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Basic layout for arranging Elements in line.
  *
+ * Child positions are recomputed incrementally - when a child is added, removed or resized, only the children
+ * from that one onward are repositioned (all of them if the alignment in the dimension of linearity shifts them).
+ *
  * @param <Rend> The renderer type that performs the drawing of the element to the screen or anywhere else
  * @param <Pos> Vector type used to define the position and dimensions of the element
  * @param <Scalar> The type that Pos's individual components consist of (- see {@link VectUtil} )
@@ -61,7 +70,7 @@ public class BasicLinearLayout<Rend, Pos, Scalar extends Comparable<Scalar>> ext
         this.outerPaddingBegin = new SimpleProperty<>(outerPadding);
         this.outerPaddingEnd = new SimpleProperty<>(outerPadding);
         this.innerPadding = new SimpleProperty<>(innerPadding);
-        this.dimension = new SimpleProperty<>(dimension);
+        this.dimension = new SimpleIntProperty(dimension);
         this.allignments = new ArrayProperty<>(allignments);
 
 
@@ -76,17 +85,27 @@ public class BasicLinearLayout<Rend, Pos, Scalar extends Comparable<Scalar>> ext
             return true;
         };
 
-        onChildResizedAction.getListeners(ListenerPriorities.USER).add(positions_dirty);
+        onChildResizedAction.getListeners(ListenerPriorities.USER).add(e->{
+            markChildPositionsAsDirtyFrom(indexOfDrawableChild(e.caller()));
+            return true;
+        });
         this.allignments.massSetterDelegate(ListenerPriorities.PRE_UTIL).getListeners(ListenerPriorities.USER).add(positions_dirty);
 
         size().getSetterListeners()._getUtilListeners().add(dirty_marker);
-        childrenContainer.onDrawableAdded.getListeners(ListenerPriorities.USER).add(dirty_marker);
+
+        childrenContainer.onDrawableAdded.getListeners(ListenerPriorities.USER).add(child->{
+            if(!childSizesDirty)
+                child._sizeConstraint().set(POS.compose(computeChildSizeConstraint()));
+            markChildPositionsAsDirtyFrom(indexOfDrawableChild(child.size()));
+            return true;
+        });
 
         childrenContainer.onElementRemoved.getListeners(ListenerPriorities.USER).add(e->{
-            if(_isDrawableChild(e)) {
-                markChildSizesAsDirty();
+            Integer index = e instanceof DrawableElem ? childIndexHints.remove(((DrawableElem<?,?>)e).size()) : null;   //prvek již v seznamu není - platí jeho poslední známý index
+            if(index != null)
+                markChildPositionsAsDirtyFrom(index);
+            else if(childPositionsContainer.containsKey(e))
                 markChildPositionsAsDirty();
-            }
             return true;
         });
         outerPaddingBegin().getSetterListeners()._getUtilListeners().add(dirty_marker);
@@ -111,7 +130,7 @@ public class BasicLinearLayout<Rend, Pos, Scalar extends Comparable<Scalar>> ext
     /**
      * @return the dimension in which the linearity of the layout is applied
      * */
-    public Property<Integer> dimension(){return dimension;}
+    public IntProperty dimension(){return dimension;}
 
     /**
      * @return allignment for each dimension with which the children are arranged
@@ -131,9 +150,9 @@ public class BasicLinearLayout<Rend, Pos, Scalar extends Comparable<Scalar>> ext
      * */
     public final  Scalar getInnerPadding(){return innerPadding().get();}
     /**
-     * @return Shinier shortcut for <code>dimension().get()</code>
+     * @return Shinier shortcut for <code>dimension().get_raw()</code>
      * */
-    public final  int getDimension(){return dimension().get();}
+    public final  int getDimension(){return dimension().get_raw();}
     /**
      * @return Shinier shortcut for <code>allignment(dimension).get()</code>
      * */
@@ -158,9 +177,9 @@ public class BasicLinearLayout<Rend, Pos, Scalar extends Comparable<Scalar>> ext
      * */
     public  final Scalar setInnerPadding(Scalar newPadding){return innerPadding.set(newPadding);}
     /**
-     * @return Shinier shortcut for <code>dimension().set(newDimensionOfLinearity)</code>
+     * @return Shinier shortcut for <code>dimension().set_raw(newDimensionOfLinearity)</code>
      * */
-    public final  int setDimension(int newDimensionOfLinearity){return dimension().set(newDimensionOfLinearity);}
+    public final  int setDimension(int newDimensionOfLinearity){return dimension().set_raw(newDimensionOfLinearity);}
     /**
      * @return Shinier shortcut for <code>allignment(dimension).set(newAllignment)</code>
      * */
@@ -220,10 +239,22 @@ public class BasicLinearLayout<Rend, Pos, Scalar extends Comparable<Scalar>> ext
     }
 
     /**
-     * Marks that child positions need to be recomputed.
+     * Marks that positions of all children need to be recomputed.
      * */
     public final void markChildPositionsAsDirty(){
+        markChildPositionsAsDirtyFrom(0);
+    }
+    /**
+     * Marks that positions of the children starting at given index need to be recomputed.
+     *
+     * Offsets of the preceding children are kept, so only the tail of the layout is recomputed
+     * - appending a child to a long layout costs just the positioning of that child.
+     *
+     * @param index index of the first drawable child whose position may have changed
+     * */
+    public final void markChildPositionsAsDirtyFrom(int index){
         this.childPositionsDirty = true;
+        this.firstDirtyChildPosition = Math.min(this.firstDirtyChildPosition, Math.max(index, 0));
     }
     /**
      * Marks that child sizes need to be recomputed.
@@ -236,30 +267,39 @@ public class BasicLinearLayout<Rend, Pos, Scalar extends Comparable<Scalar>> ext
      * Decides whether the {@link BasicAbstractLayout.LayoutTooShortException} is thrown at the end of child positions recompute
      * if the children don't fit into the layout, or if it is ignored.
      * */
-    public Property<Boolean> ignoreTooShort(){return ignoreTooShort;}
+    public BooleanProperty ignoreTooShort(){return ignoreTooShort;}
 
     /**
-     * @return Shinier shortcut for <code>ignoreTooShort().get()</code>
+     * @return Shinier shortcut for <code>ignoreTooShort().get_raw()</code>
      * */
-    public final Boolean getIgnoreTooShort(){return ignoreTooShort().get();}
+    public final boolean getIgnoreTooShort(){return ignoreTooShort().get_raw();}
 
     /**
-     * @return Shinier shortcut for <code>ignoreTooShort().set(newValue)</code>
+     * @return Shinier shortcut for <code>ignoreTooShort().set_raw(newValue)</code>
      * */
-    public final Boolean setIgnoreTooShort(Boolean newValue){return ignoreTooShort().set(newValue);}
+    public final boolean setIgnoreTooShort(boolean newValue){return ignoreTooShort().set_raw(newValue);}
 
     //private:
-    private final Property<Integer> dimension;
+    private final IntProperty dimension;
     private final ArrayProperty<Double> allignments;
     private Double[] getAllAllignments(){return allignments.getArray();}
 
     private boolean childPositionsDirty = true, childSizesDirty = true;
 
+    /**index of the first child whose position has to be recomputed*/
+    private int firstDirtyChildPosition = 0;
+    /**offset of each drawable child's beginning in the dimension of linearity, without the alignment shift*/
+    private final List<Scalar> lineOffsets = new ArrayList<>();
+    /**alignment shift applied to all the children during the last recompute*/
+    private Scalar appliedShift = null;
+    /**indices of the drawable children (keyed by their <code>size</code> property) as of the last recompute; any that got stale since are not lower than <code>firstDirtyChildPosition</code>*/
+    private final Map<Object, Integer> childIndexHints = new IdentityHashMap<>();
+
     private final Property<Pos> outerPaddingBegin, outerPaddingEnd;
     private final Property<Scalar> innerPadding;
 
 
-    private final Property<Boolean> ignoreTooShort = new SimpleProperty<>(false);
+    private final BooleanProperty ignoreTooShort = new SimpleBooleanProperty(false);
 
 
     private  boolean _onResizedIsBeingCalled = false;
@@ -269,12 +309,7 @@ public class BasicLinearLayout<Rend, Pos, Scalar extends Comparable<Scalar>> ext
         _onResizedIsBeingCalled = true;
         try {
 
-            int dim_of_linearity = this.getDimension();
-            Pos dims = POS.cpy(getSize());
-            dims = POS.sub(POS.sub(dims, getOuterPaddingBegin()), getOuterPaddingEnd());
-
-            Scalar[] constrs = POS.decompose(dims);
-            constrs[dim_of_linearity] = POS.MAX_VAL_SCALAR();
+            Scalar[] constrs = computeChildSizeConstraint();
 
             for (DrawableElem<Rend, Pos> child : getDrawableChildren())
                 child._sizeConstraint().set(POS.compose(constrs));
@@ -283,9 +318,37 @@ public class BasicLinearLayout<Rend, Pos, Scalar extends Comparable<Scalar>> ext
         }finally{_onResizedIsBeingCalled = false;}
     }
 
+    private Scalar[] computeChildSizeConstraint(){
+        Pos dims = POS.cpy(getSize());
+        dims = POS.sub(POS.sub(dims, getOuterPaddingBegin()), getOuterPaddingEnd());
+
+        Scalar[] constrs = POS.decompose(dims);
+        constrs[this.getDimension()] = POS.MAX_VAL_SCALAR();
+        return constrs;
+    }
+
+    /**
+     * @param childSize the <code>size</code> property of a drawable child
+     * @return index of the drawable child owning given <code>size</code> property, or <code>-1</code> if there is none
+     * */
+    private int indexOfDrawableChild(Object childSize){
+        List<DrawableElem<Rend,Pos>> drw_children = getDrawableChildren();
+        Integer hint = childIndexHints.get(childSize);
+        if(hint != null && hint < drw_children.size() && drw_children.get(hint).size() == childSize)
+            return hint;
+
+        for(int t=drw_children.size()-1;t>=0;--t){   //nejčastěji se přidává na konec
+            if(drw_children.get(t).size() == childSize) {
+                childIndexHints.put(childSize, t);
+                return t;
+            }
+        }
+        return -1;
+    }
+
     private void recomputeChildrenPositions(){
         List<DrawableElem<Rend,Pos>> drw_children = getDrawableChildren();
-        List<Pos> pozice = new ArrayList<>(drw_children.size());
+        int n = drw_children.size();
         Pos layout_size = getSize();
         Pos outer_padding_begin = getOuterPaddingBegin();
         Pos outer_padding_end = getOuterPaddingEnd();
@@ -294,20 +357,23 @@ public class BasicLinearLayout<Rend, Pos, Scalar extends Comparable<Scalar>> ext
         Double[] allignments = getAllAllignments();
         Pos size_without_outer_padding = POS.sub(POS.sub(POS.cpy(layout_size), outer_padding_begin), outer_padding_end);
 
-        Scalar line = POS.getNth(outer_padding_begin, dim_of_linearity);
-
-        for(DrawableElem<Rend, Pos> child : drw_children){
-            Pos child_size = child.getSize();
-            Pos child_pos = POS.sub(POS.cpy(size_without_outer_padding), child_size);
-
-            child_pos = POS.sclComponents(child_pos, allignments);
-            child_pos = POS.add(child_pos, outer_padding_begin);
-            child_pos = POS.withNth(child_pos, dim_of_linearity, line);
-
-            line = POS.addScalar(line, POS.getNth(child_size, dim_of_linearity));
+        int from = Math.min(firstDirtyChildPosition, Math.min(n, lineOffsets.size()));
+
+        Scalar line;
+        if(from == 0)
+            line = POS.getNth(outer_padding_begin, dim_of_linearity);
+        else
+            line = POS.addScalar(POS.addScalar(lineOffsets.get(from-1), POS.getNth(drw_children.get(from-1).getSize(), dim_of_linearity)), inner_padding);
+
+        while(lineOffsets.size() > n)
+            lineOffsets.remove(lineOffsets.size()-1);
+        for(int t=from;t<n;++t){
+            if(t < lineOffsets.size())
+                lineOffsets.set(t, line);
+            else
+                lineOffsets.add(line);
+            line = POS.addScalar(line, POS.getNth(drw_children.get(t).getSize(), dim_of_linearity));
             line = POS.addScalar(line, inner_padding);
-
-            pozice.add(child_pos);
         }
         line = POS.subScalar(line, inner_padding);
 
@@ -316,18 +382,29 @@ public class BasicLinearLayout<Rend, Pos, Scalar extends Comparable<Scalar>> ext
 
         Scalar length_to_redistribute = POS.subScalar(layout_length, line);
 
-        if(allignments[dim_of_linearity]>0d && !length_to_redistribute.equals(POS.ZERO_SCALAR())) {
-            length_to_redistribute = POS.sclScalar(length_to_redistribute, allignments[dim_of_linearity]);
-
-            for (int t=0;t<pozice.size();++t)
-                pozice.set(t, POS.withNth(pozice.get(t),dim_of_linearity, POS.addScalar(POS.getNth(pozice.get(t), dim_of_linearity),length_to_redistribute)));
+        Scalar shift = POS.ZERO_SCALAR();
+        if(allignments[dim_of_linearity]>0d && !length_to_redistribute.equals(POS.ZERO_SCALAR()))
+            shift = POS.sclScalar(length_to_redistribute, allignments[dim_of_linearity]);
+        if(!shift.equals(appliedShift)) {   //posunuly se všechny prvky, ne jen ty za první změnou
+            appliedShift = shift;
+            from = 0;
         }
 
-        for(int t=0;t<pozice.size();++t)
-            setChildPosition(drw_children.get(t), pozice.get(t));
+        for(int t=from;t<n;++t){
+            DrawableElem<Rend, Pos> child = drw_children.get(t);
+            Pos child_pos = POS.sub(POS.cpy(size_without_outer_padding), child.getSize());
+
+            child_pos = POS.sclComponents(child_pos, allignments);
+            child_pos = POS.add(child_pos, outer_padding_begin);
+            child_pos = POS.withNth(child_pos, dim_of_linearity, POS.addScalar(lineOffsets.get(t), shift));
+
+            setChildPosition(child, child_pos);
+            childIndexHints.put(child.size(), t);
+        }
 
         childPositionsDirty = false;
-        if(!ignoreTooShort.get() && line.compareTo(layout_length)>0 ) //v případě, že se všechny prvky nevejdou do layoutu, vyhodíme výjímku, ale až úplně na konci, když je všechno hotovo, aby to případně uživatel mohl ignorovat
+        firstDirtyChildPosition = Integer.MAX_VALUE;
+        if(!ignoreTooShort.get_raw() && line.compareTo(layout_length)>0 ) //v případě, že se všechny prvky nevejdou do layoutu, vyhodíme výjímku, ale až úplně na konci, když je všechno hotovo, aby to případně uživatel mohl ignorovat
             throw new LayoutTooShortException();
     }
 
@@ -8,6 +8,7 @@ import com.markussecundus.forms.utils.Pair;
 import com.markussecundus.forms.utils.vector.VectDecomposer;
 import com.markussecundus.forms.utils.vector.VectUtil;
 import com.markussecundus.forms.wrappers.WriteonlyWrapper;
+import com.markussecundus.forms.wrappers.property.ChangePolicy;
 import com.markussecundus.forms.wrappers.property.Property;
 import com.markussecundus.forms.wrappers.property.ReadonlyProperty;
 import com.markussecundus.forms.wrappers.property.impl.general.AbstractProperty;
@@ -53,6 +54,9 @@ public class DefaultSizeBehavior<Pos, Scalar extends Comparable<Scalar>> {
      *
      * Sets the <code>sizeConstraint</code> to <code>null</code>.
      *
+     * All the size properties use {@link ChangePolicy#EQUALS}, so setting a size equal to the current one
+     * doesn't fire any setter listeners and doesn't propagate any further.
+     *
      * @param MAX default value for the upper boundary for the positions
      * @param MIN default value for the lower boundary for the positions
      * @param DEF_PREF default value for preffered size value
@@ -63,21 +67,24 @@ public class DefaultSizeBehavior<Pos, Scalar extends Comparable<Scalar>> {
         minPos = MIN;
         prefPos = DEF_PREF;
 
-        maxSize = new AbstractProperty<Pos>() {
+        maxSize = new AbstractProperty<Pos>(ChangePolicy.EQUALS) {
             protected Pos obtain() { return maxPos; }
             protected Pos change(Pos val) { return maxPos=(val==null)?MAX:val; }
         };
-        minSize = new AbstractProperty<Pos>() {
+        minSize = new AbstractProperty<Pos>(ChangePolicy.EQUALS) {
             protected Pos obtain() { return minPos; }
             protected Pos change(Pos val) { return minPos=(val==null)?MIN:val; }
         };
-        prefSize = new AbstractProperty<Pos>() {
+        prefSize = new AbstractProperty<Pos>(ChangePolicy.EQUALS) {
             protected Pos obtain() { return prefPos; }
             protected Pos change(Pos val) { return prefPos=(val==null)?DEF_PREF:val; }
         };
-        sizeConstraint = new SimpleProperty<>(null);
+        SimpleProperty<Pos> constraint = new SimpleProperty<>(null);
+        constraint.setChangePolicy(ChangePolicy.EQUALS);
+        sizeConstraint = constraint;
 
         Pair<SimpleReadonlyProperty<Pos>, WriteonlyWrapper<Pos>> realSize_with_setter = SimpleReadonlyProperty.make(DEF_PREF);
+        realSize_with_setter.first().setChangePolicy(ChangePolicy.EQUALS);
         realSize = realSize_with_setter.first();
         realSizeWriter = realSize_with_setter.second();
 
@@ -115,7 +122,7 @@ public class DefaultSizeBehavior<Pos, Scalar extends Comparable<Scalar>> {
         prefSize.setterListeners().get()._getUtilListeners().add(onAnySizeChange);
         sizeConstraint.setterListeners().get()._getUtilListeners().add(onAnySizeChange);
 
-        prefSize.set(DEF_PREF); //proběhneme setterem, aby se inicializovala realSize a otestovala platnost invariantů
+        prefSize.pretendSet(); //proběhneme setterem, aby se inicializovala realSize a otestovala platnost invariantů
     }
 
     /**
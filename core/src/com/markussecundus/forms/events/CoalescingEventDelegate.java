@@ -0,0 +1,262 @@
+package com.markussecundus.forms.events;
+
+import com.markussecundus.forms.utils.datastruct.AutobucketedList;
+import com.markussecundus.forms.utils.function.Function;
+import com.markussecundus.forms.wrappers.property.Property;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * {@link EventDelegate} that defers the execution of its listeners until the next flush point
+ * and delivers each of them only the latest arguments per source.
+ * <p></p>
+ * Each call of <code>exec</code> gets its source determined by the <code>sourceKey</code> function (compared by identity).
+ * If a call with the same source is already waiting for the flush, its arguments simply get replaced
+ * - so e.g. setting <code>maxSize</code>, <code>minSize</code> and <code>prefSize</code> one after another
+ * results in only a single delivery per property, with the final values.
+ * <p></p>
+ * Listeners with a priority marked as synchronous (see {@link #setSynchronous(int, boolean)}) opt out of the coalescing
+ * and get executed directly inside <code>exec</code>, with the ordinary semantics - if they abort the execution, the call doesn't get queued at all.
+ * By default, only the {@link ListenerPriorities#ARG_GUARD} bucket is synchronous.
+ * <p></p>
+ * The pending calls of all coalescing delegates get delivered by {@link #flushAll()},
+ * which is called once per frame by <code>BasicFormApplication.render</code>, between <code>update</code> and <code>draw</code>.
+ * <p></p>
+ * Arguments implementing {@link TransientArgs} get retained before being queued.
+ * <p></p>
+ * Not thread-safe - the same as the rest of the library, it is expected to be used only from the rendering thread.
+ *
+ * @see EventDelegate#makeCoalescing(Function)
+ *
+ * @author MarkusSecundus
+ * */
+public class CoalescingEventDelegate<Args> implements EventDelegate<Args> {
+//public:
+
+    /**
+     * Creates a coalescing delegate, which keeps only the single latest call pending.
+     * */
+    public CoalescingEventDelegate(){this(null);}
+
+    /**
+     * Creates a coalescing delegate.
+     *
+     * @param sourceKey function that determines the source of the given arguments - only the latest call per source gets delivered.
+     *                  <code>null</code> means that all calls share the same source.
+     * */
+    public CoalescingEventDelegate(Function<? super Args, ?> sourceKey){
+        this.sourceKey = sourceKey;
+    }
+
+
+    /**
+     * Executes the synchronous listeners and, unless they abort the execution, queues the call
+     * for delivery to the rest of the listeners at the next flush point.
+     *
+     * @return result of the synchronous part of the execution
+     * */
+    @Override public boolean exec(Args e) {
+        if(!immediate.exec(e))
+            return false;
+
+        Object key = sourceKey == null ? this : sourceKey.apply(e);
+        e = TransientArgs.retainIfTransient(e);
+        Integer i = pendingIndices.get(key);
+        if(i != null)
+            pendingArgs.set(i, e);
+        else{
+            pendingIndices.put(key, pendingArgs.size());
+            pendingArgs.add(e);
+            enqueue();
+        }
+        return true;
+    }
+
+    /**
+     * Delivers all the calls pending in this delegate, in the order their sources first got queued.
+     * */
+    public void flush(){
+        deliverPending();
+    }
+
+    /**
+     * @return whether there are any calls waiting for the next flush
+     * */
+    public boolean hasPending(){return !pendingArgs.isEmpty();}
+
+
+    /**
+     * Delivers all the pending calls of all coalescing delegates.
+     * <p>
+     * Calls queued by the listeners during the flush get delivered in the same flush.
+     * If a listener throws, the delegates not yet flushed stay queued for the next call.
+     * */
+    public static void flushAll(){
+        while(!PENDING_DELEGATES.isEmpty()){
+            CoalescingEventDelegate<?>[] toFlush = PENDING_DELEGATES.toArray(new CoalescingEventDelegate<?>[0]);
+            PENDING_DELEGATES.clear();
+            for(CoalescingEventDelegate<?> delegate: toFlush)
+                delegate.isQueued = false;
+            int next = 0;
+            try {
+                while(next < toFlush.length)
+                    toFlush[next++].deliverPending();
+            }finally {
+                for(int t = next; t < toFlush.length; ++t)
+                    if(toFlush[t].hasPending())
+                        toFlush[t].enqueue();
+            }
+        }
+    }
+
+
+    /**
+     * @return whether listeners with the given priority get executed synchronously, without coalescing
+     * */
+    public boolean isSynchronous(int priority){
+        return Arrays.binarySearch(synchronousPriorities, priority) >= 0;
+    }
+
+    /**
+     * Marks listeners with the given priority as synchronous (executed directly inside <code>exec</code>), or as coalesced.
+     * <p>
+     * Listeners already present in the bucket get moved along with it.
+     *
+     * @param priority the priority whose bucket is to be switched
+     * @param synchronous whether the listeners should be executed synchronously
+     * */
+    public void setSynchronous(int priority, boolean synchronous){
+        int i = Arrays.binarySearch(synchronousPriorities, priority);
+        if((i >= 0) == synchronous)
+            return;
+
+        List<EventListener<? super Args>> from = getListeners(priority);
+        if(synchronous){
+            int[] ret = new int[synchronousPriorities.length + 1];
+            int at = -i - 1;
+            System.arraycopy(synchronousPriorities, 0, ret, 0, at);
+            ret[at] = priority;
+            System.arraycopy(synchronousPriorities, at, ret, at + 1, synchronousPriorities.length - at);
+            synchronousPriorities = ret;
+        }else{
+            int[] ret = new int[synchronousPriorities.length - 1];
+            System.arraycopy(synchronousPriorities, 0, ret, 0, i);
+            System.arraycopy(synchronousPriorities, i + 1, ret, i, ret.length - i);
+            synchronousPriorities = ret;
+        }
+        getListeners(priority).addAll(from);
+        from.clear();
+    }
+
+
+    @Override
+    public List<EventListener<? super Args>> getListeners(Integer priority) {
+        return getListeners(priority.intValue());
+    }
+
+    @Override
+    public List<EventListener<? super Args>> getListeners(int priority) {
+        return delegateFor(priority).getListeners(priority);
+    }
+
+    @Override
+    public AutobucketedList.Handle<?> addListener(Integer priority, EventListener<? super Args> list) {
+        return delegateFor(priority).addListener(priority, list);
+    }
+
+    @Override
+    public boolean removeListener(EventListener<?> list) {
+        return immediate.removeListener(list) || deferred.removeListener(list);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Pending calls are left untouched.
+     * */
+    @Override
+    public void clear() {
+        immediate.clear();
+        deferred.clear();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Applies only to the synchronous part of the execution - results of the deferred deliveries are discarded.
+     * */
+    @Override
+    public Property<ReturnValuePolicy> returnValuePolicy() {
+        return immediate.returnValuePolicy();
+    }
+
+    @Override public ReturnValuePolicy getReturnValuePolicy() {
+        return immediate.getReturnValuePolicy();
+    }
+
+    @Override public ReturnValuePolicy setReturnValuePolicy(ReturnValuePolicy pol) {
+        return immediate.setReturnValuePolicy(pol);
+    }
+
+
+//private:
+
+    /**
+     * Delegates with pending calls, each present at most once (see {@link #isQueued}).
+     * A delegate flushed directly via {@link #flush()} stays in the queue - it gets skipped by {@link #flushAll()} as it has nothing to deliver.
+     * */
+    private static final List<CoalescingEventDelegate<?>> PENDING_DELEGATES = new ArrayList<>();
+
+    private boolean isQueued = false;
+
+    private final Function<? super Args, ?> sourceKey;
+
+    private final EventDelegate<Args> immediate = EventDelegate.make();
+
+    private final EventDelegate<Args> deferred = EventDelegate.make();
+
+    private int[] synchronousPriorities = {ListenerPriorities.ARG_GUARD};
+
+    private List<Args> pendingArgs = new ArrayList<>();
+
+    /**
+     * Emptied list to swap with {@link #pendingArgs} on the next delivery; <code>null</code> while it's being delivered.
+     * */
+    private List<Args> spareArgs = new ArrayList<>();
+
+    private final Map<Object, Integer> pendingIndices = new IdentityHashMap<>();
+
+    private void deliverPending(){
+        if(pendingArgs.isEmpty())
+            return;
+
+        List<Args> toDeliver = pendingArgs;
+        pendingArgs = spareArgs != null ? spareArgs : new ArrayList<>();
+        spareArgs = null;
+        pendingIndices.clear();
+
+        try {
+            for(Args e: toDeliver)
+                deferred.exec(e);
+        }finally {
+            toDeliver.clear();
+            spareArgs = toDeliver;
+        }
+    }
+
+    private void enqueue(){
+        if(!isQueued){
+            isQueued = true;
+            PENDING_DELEGATES.add(this);
+        }
+    }
+
+    private EventDelegate<Args> delegateFor(int priority){
+        return isSynchronous(priority) ? immediate : deferred;
+    }
+}
@@ -0,0 +1,398 @@
+package com.markussecundus.forms.events;
+
+import com.markussecundus.forms.utils.FormsUtil;
+import com.markussecundus.forms.utils.datastruct.AutobucketedList;
+import com.markussecundus.forms.wrappers.Wrapper;
+import com.markussecundus.forms.wrappers.property.ConstProperty;
+import com.markussecundus.forms.wrappers.property.Property;
+import com.markussecundus.forms.wrappers.property.impl.constant.SimpleConstProperty;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+
+/**
+ * Thread-safe implementation of {@link EventDelegate}, that can be registered into, removed from and executed from any number of threads at once.
+ * <p></p>
+ * All the listeners are kept in a single immutable array, sorted by priority, that gets replaced as a whole on every modification.
+ * The replacement is lock-free - a modification copies the current array, applies itself on the copy and publishes it through a compare-and-set,
+ * retrying if some other thread has published its own modification in the meantime.
+ * <p></p>
+ * Dispatch has the same semantics as the snapshot dispatch mode of {@link IEventDelegate} - the set of listeners is fixed at the moment the dispatch begins,
+ * listeners added meanwhile get executed since the next call of <code>exec</code>, listeners removed meanwhile still get executed in the current one.
+ * Dispatch itself takes no locks and allocates nothing.
+ * <p></p>
+ * Each modification costs a copy of the whole array, so the delegate is suitable for listeners that get registered rarely compared to how often they get executed.
+ * <p></p>
+ * The bucket views returned by {@link #getListeners(Integer)} are thread-safe as well, every single operation on them is atomic.
+ * Sequences of operations (e.g. <code>indexOf</code> followed by <code>remove(int)</code>) are not - prefer the handles returned by {@link #addListener(Integer, EventListener)}.
+ * <p></p>
+ * The {@link #returnValuePolicy()} property is thread-safe as well, its listeners are kept in concurrent delegates.
+ * <p></p>
+ * Does not record {@link DispatchMetrics}, which is not thread-safe.
+ *
+ * @see EventDelegate#makeConcurrent()
+ *
+ * @author MarkusSecundus
+ * */
+public class ConcurrentEventDelegate<Args> implements EventDelegate<Args> {
+//public:
+
+    /**
+     * Creates an empty delegate.
+     * */
+    public ConcurrentEventDelegate(){}
+
+
+    @Override public boolean exec(Args e) {
+        return getReturnValuePolicy().convRetVal(iterateSnapshot(e));
+    }
+
+    @Override
+    public List<EventListener<? super Args>> getListeners(Integer priority) {
+        return new BucketView(priority);
+    }
+
+    @Override
+    public AutobucketedList.Handle<?> addListener(Integer priority, EventListener<? super Args> list) {
+        Entry<Args> ret = new Entry<>(this, priority, list);
+        while(true){
+            Entry<Args>[] old = entries.get();
+            int i = bucketEnd(old, ret.priority);
+            if(entries.compareAndSet(old, inserted(old, i, ret)))
+                return ret;
+        }
+    }
+
+    @Override
+    public boolean removeListener(EventListener<?> list) {
+        while(true){
+            Entry<Args>[] old = entries.get();
+            int i = indexOfListener(old, list, 0, old.length);
+            if(i < 0)
+                return false;
+            if(entries.compareAndSet(old, removed(old, i)))
+                return true;
+        }
+    }
+
+    @Override
+    public void clear() {
+        entries.set(noEntries());
+    }
+
+
+    @Override public Property<ReturnValuePolicy> returnValuePolicy(){
+        Property<ReturnValuePolicy> ret = returnValuePolicyProperty;
+        if(ret == null){
+            synchronized (this){
+                if(returnValuePolicyProperty == null)
+                    returnValuePolicyProperty = new ReturnValuePolicyPropertyType();
+                ret = returnValuePolicyProperty;
+            }
+        }
+        return ret;
+    }
+
+    @Override public ReturnValuePolicy getReturnValuePolicy() {
+        return returnValuePolicy;
+    }
+
+    @Override public ReturnValuePolicy setReturnValuePolicy(ReturnValuePolicy pol) {
+        return returnValuePolicyProperty==null? returnValuePolicy = (pol==null ? DEFAULT_RET_VAL_POLICY : pol) : EventDelegate.super.setReturnValuePolicy(pol);
+    }
+
+
+//private:
+
+    private static final Entry<?>[] NO_ENTRIES = new Entry<?>[0];
+
+    /**
+     * All the listeners, sorted by their priority descending and then by the order they were added in.
+     * The array is never modified once published.
+     * */
+    private final AtomicReference<Entry<Args>[]> entries = new AtomicReference<>(noEntries());
+
+    private volatile ReturnValuePolicy returnValuePolicy = DEFAULT_RET_VAL_POLICY;
+
+    private volatile Property<ReturnValuePolicy> returnValuePolicyProperty = null;
+
+    /**
+     * Unlike the single-threaded property implementations, it shares no mutable state between calls - its listener delegates
+     * are concurrent and every call of the setter gets its own instance of the listener arguments.
+     * <p>
+     * The value gets replaced under a lock, but the setter listeners are executed outside of it - with concurrent modifications,
+     * they may observe them in any order. It doesn't take part in {@link com.markussecundus.forms.wrappers.property.PropertyTransaction},
+     * which is bound to the rendering thread.
+     * */
+    private final class ReturnValuePolicyPropertyType implements Property<ReturnValuePolicy>{
+
+        private final ConstProperty<EventDelegate<SetterListenerArgs<ReturnValuePolicy>>> setterListeners = new SimpleConstProperty<>(new ConcurrentEventDelegate<>());
+
+        private final ConstProperty<EventDelegate<GetterListenerArgs<ReturnValuePolicy>>> getterListeners = new SimpleConstProperty<>(new ConcurrentEventDelegate<>());
+
+        /**
+         * Accesses the value without executing any listeners.
+         * */
+        private final Wrapper<ReturnValuePolicy> listenerless = new Wrapper<ReturnValuePolicy>() {
+            @Override public ReturnValuePolicy get() {
+                return returnValuePolicy;
+            }
+            @Override public ReturnValuePolicy set(ReturnValuePolicy val) {
+                return returnValuePolicy = (val==null ? DEFAULT_RET_VAL_POLICY : val);
+            }
+        };
+
+        private final GetterListenerArgs<ReturnValuePolicy> getterArgs = GetterListenerArgs.make(this, listenerless);
+
+        @Override public ReturnValuePolicy get() {
+            getterListeners.get().exec(getterArgs);
+            return returnValuePolicy;
+        }
+
+        @Override public ReturnValuePolicy set(ReturnValuePolicy val) {
+            ReturnValuePolicy old;
+            synchronized (this){
+                old = returnValuePolicy;
+                listenerless.set(val);
+            }
+            setterListeners.get().exec(SetterListenerArgs.make(this, old, listenerless));
+            return returnValuePolicy;
+        }
+
+        @Override public ReturnValuePolicy pretendSet() {
+            ReturnValuePolicy current = returnValuePolicy;
+            setterListeners.get().exec(SetterListenerArgs.make(this, current, listenerless));
+            return current;
+        }
+
+        @Override public ConstProperty<EventDelegate<SetterListenerArgs<ReturnValuePolicy>>> setterListeners() {
+            return setterListeners;
+        }
+
+        @Override public ConstProperty<EventDelegate<GetterListenerArgs<ReturnValuePolicy>>> getterListeners() {
+            return getterListeners;
+        }
+    }
+
+
+    private static final class Entry<Args> implements AutobucketedList.Handle<EventListener<? super Args>>{
+        Entry(ConcurrentEventDelegate<Args> owner, int priority, EventListener<? super Args> listener){this.owner = owner; this.priority = priority; this.listener = listener;}
+
+        /**
+         * Delegate, the entry was added into - <code>null</code> for entries added through a bucket view, which don't provide any handle.
+         * */
+        final ConcurrentEventDelegate<Args> owner;
+        final int priority;
+        final EventListener<? super Args> listener;
+
+        @Override public EventListener<? super Args> get() {
+            return isPresent() ? listener : null;
+        }
+
+        @Override public boolean isPresent() {
+            return owner != null && indexOfEntry(owner.entries.get(), this) >= 0;
+        }
+
+        @Override public boolean remove() {
+            if(owner == null)
+                return false;
+            while(true){
+                Entry<Args>[] old = owner.entries.get();
+                int i = indexOfEntry(old, this);
+                if(i < 0)
+                    return false;
+                if(owner.entries.compareAndSet(old, removed(old, i)))
+                    return true;
+            }
+        }
+    }
+
+
+    /**
+     * Live view of the listeners with a single priority, whose every operation atomically replaces the whole array of the delegate.
+     * */
+    private final class BucketView extends AbstractList<EventListener<? super Args>>{
+        BucketView(int priority){this.priority = priority;}
+
+        private final int priority;
+
+        @Override public EventListener<? super Args> get(int index) {
+            Entry<Args>[] arr = entries.get();
+            return arr[checkIndex(arr, index, false)].listener;
+        }
+
+        @Override public int size() {
+            Entry<Args>[] arr = entries.get();
+            return bucketEnd(arr, priority) - bucketBegin(arr, priority);
+        }
+
+        @Override public boolean add(EventListener<? super Args> element) {
+            Entry<Args> entry = new Entry<>(null, priority, element);
+            while(true){
+                Entry<Args>[] old = entries.get();
+                if(entries.compareAndSet(old, inserted(old, bucketEnd(old, priority), entry)))
+                    return true;
+            }
+        }
+
+        @Override public void add(int index, EventListener<? super Args> element) {
+            Entry<Args> entry = new Entry<>(null, priority, element);
+            while(true){
+                Entry<Args>[] old = entries.get();
+                if(entries.compareAndSet(old, inserted(old, checkIndex(old, index, true), entry)))
+                    return;
+            }
+        }
+
+        @Override public EventListener<? super Args> set(int index, EventListener<? super Args> element) {
+            Entry<Args> entry = new Entry<>(null, priority, element);
+            while(true){
+                Entry<Args>[] old = entries.get();
+                int i = checkIndex(old, index, false);
+                Entry<Args>[] arr = old.clone();
+                arr[i] = entry;
+                if(entries.compareAndSet(old, arr))
+                    return old[i].listener;
+            }
+        }
+
+        @Override public EventListener<? super Args> remove(int index) {
+            while(true){
+                Entry<Args>[] old = entries.get();
+                int i = checkIndex(old, index, false);
+                if(entries.compareAndSet(old, removed(old, i)))
+                    return old[i].listener;
+            }
+        }
+
+        @Override public boolean remove(Object o) {
+            while(true){
+                Entry<Args>[] old = entries.get();
+                int i = indexOfListener(old, o, bucketBegin(old, priority), bucketEnd(old, priority));
+                if(i < 0)
+                    return false;
+                if(entries.compareAndSet(old, removed(old, i)))
+                    return true;
+            }
+        }
+
+        @Override public void clear() {
+            while(true){
+                Entry<Args>[] old = entries.get();
+                int begin = bucketBegin(old, priority), end = bucketEnd(old, priority);
+                if(begin == end)
+                    return;
+                Entry<Args>[] arr = newEntryArray(old.length - (end - begin));
+                System.arraycopy(old, 0, arr, 0, begin);
+                System.arraycopy(old, end, arr, begin, old.length - end);
+                if(entries.compareAndSet(old, arr))
+                    return;
+            }
+        }
+
+        private int checkIndex(Entry<Args>[] arr, int index, boolean inclusive){
+            int begin = bucketBegin(arr, priority), size = bucketEnd(arr, priority) - begin;
+            if(index < 0 || (inclusive ? index > size : index >= size))
+                throw new IndexOutOfBoundsException(String.format("Index: %d, Size: %d", index, size));
+            return begin + index;
+        }
+    }
+
+
+
+    private boolean iterateSnapshot(Args e){
+        while(true) {
+            Entry<Args>[] list = entries.get();
+            int posledni = list.length - 1;
+
+            if(posledni < 0)
+                return true;
+
+            for (int t = 0; t < posledni; ++t) {
+                if(!invokeListener(e, list[t].listener))
+                    return false;
+            }
+
+            if(list[posledni].listener != this)
+                return invokeListener(e, list[posledni].listener);
+        }
+    }
+
+    private boolean invokeListener(Args e, EventListener<? super Args> list){
+        try {
+            if(list instanceof EventListenerR)
+                return ((EventListenerR<? super Args>) list).r(e).apply(this, list);
+            return list.exec(e);
+        } catch (EventDelegate.ApplyOnParentDelegate apply_request) {
+            return apply_request.exec(this, list);
+        }
+    }
+
+    /**
+     * @return index of the first entry with priority lower or equal to the given one
+     * */
+    private static int bucketBegin(Entry<?>[] arr, int priority){
+        int lo = 0, hi = arr.length;
+        while(lo < hi){
+            int mid = (lo + hi) >>> 1;
+            if(arr[mid].priority > priority) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    /**
+     * @return index of the first entry with priority lower than the given one
+     * */
+    private static int bucketEnd(Entry<?>[] arr, int priority){
+        int lo = 0, hi = arr.length;
+        while(lo < hi){
+            int mid = (lo + hi) >>> 1;
+            if(arr[mid].priority >= priority) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    private static int indexOfEntry(Entry<?>[] arr, Entry<?> entry){
+        int begin = bucketBegin(arr, entry.priority), end = bucketEnd(arr, entry.priority);
+        for(int t = begin; t < end; ++t)
+            if(arr[t] == entry)
+                return t;
+        return -1;
+    }
+
+    private static int indexOfListener(Entry<?>[] arr, Object list, int begin, int end){
+        for(int t = begin; t < end; ++t)
+            if(FormsUtil.equals(list, arr[t].listener))
+                return t;
+        return -1;
+    }
+
+    @SuppressWarnings("unchecked")  //the shared empty array contains no entries, so it can serve as an array of any type
+    private static <Args> Entry<Args>[] noEntries(){
+        return (Entry<Args>[]) NO_ENTRIES;
+    }
+
+    @SuppressWarnings("unchecked")  //generic arrays can't be created directly; entries of other types never get stored into it
+    private static <Args> Entry<Args>[] newEntryArray(int size){
+        return (Entry<Args>[]) new Entry<?>[size];
+    }
+
+    private static <Args> Entry<Args>[] inserted(Entry<Args>[] old, int i, Entry<Args> entry){
+        Entry<Args>[] ret = newEntryArray(old.length + 1);
+        System.arraycopy(old, 0, ret, 0, i);
+        ret[i] = entry;
+        System.arraycopy(old, i, ret, i + 1, old.length - i);
+        return ret;
+    }
+
+    private static <Args> Entry<Args>[] removed(Entry<Args>[] old, int i){
+        Entry<Args>[] ret = newEntryArray(old.length - 1);
+        System.arraycopy(old, 0, ret, 0, i);
+        System.arraycopy(old, i + 1, ret, i, old.length - i - 1);
+        return ret;
+    }
+}
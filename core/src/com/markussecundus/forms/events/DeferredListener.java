@@ -0,0 +1,113 @@
+package com.markussecundus.forms.events;
+
+
+/**
+ * {@link EventListener} that doesn't execute the actual listener inline, but posts its execution into the {@link DeferredScheduler},
+ * so that it gets executed during one of the following frames, as the time budget allows.
+ * <p></p>
+ * The deferred execution can't affect the dispatch it was posted from - the wrapper always lets it continue.
+ * Its result is taken into account only partially: if the listener asks for its removal (through {@link ListenerResult#REMOVE}),
+ * the wrapper removes itself from the delegate the next time it gets executed.
+ * {@link EventDelegate.ApplyOnParentDelegate} thrown from a deferred listener (e.g. {@link EventDelegate#DELETE_SELF}) gets caught
+ * and is honoured the same way - only its request for removal of the listener, as there is no dispatch left to abort.
+ * <p></p>
+ * Arguments implementing {@link TransientArgs} get retained before being posted.
+ * <p></p>
+ * A coalescing wrapper (see {@link #latestOnly(EventListener)}) keeps at most one pending execution - if it gets executed again before
+ * the previous one has run, only the arguments get replaced. That suits reactions, where only the latest state matters (e.g. relayout).
+ *
+ * @see EventDelegate#addDeferredListener(Integer, EventListener)
+ * @see DeferredScheduler
+ *
+ * @author MarkusSecundus
+ * */
+public final class DeferredListener<Args> implements EventListenerR<Args> {
+
+    private DeferredListener(EventListener<? super Args> base, boolean latestOnly){this.base = base; this.latestOnly = latestOnly;}
+
+    /**
+     * @param list the listener to be deferred
+     *
+     * @return wrapper that posts every execution of the listener into the {@link DeferredScheduler}
+     * */
+    public static <Args> DeferredListener<Args> of(EventListener<? super Args> list){
+        return new DeferredListener<>(list, false);
+    }
+
+    /**
+     * @param list the listener to be deferred
+     *
+     * @return wrapper that keeps at most one pending execution of the listener in the {@link DeferredScheduler}, with the latest arguments
+     * */
+    public static <Args> DeferredListener<Args> latestOnly(EventListener<? super Args> list){
+        return new DeferredListener<>(list, true);
+    }
+
+    /**
+     * @return the wrapped listener
+     * */
+    public EventListener<? super Args> get(){return base;}
+
+    /**
+     * Posts the execution of the wrapped listener into the {@link DeferredScheduler}.
+     * */
+    @Override
+    public ListenerResult r(Args e) {
+        if(removeRequested)
+            return ListenerResult.REMOVE;
+
+        e = TransientArgs.retainIfTransient(e);
+
+        if(!latestOnly)
+            DeferredScheduler.post(new Task(e));
+        else if(pending != null)
+            pending.args = e;
+        else
+            DeferredScheduler.post(pending = new Task(e));
+
+        return ListenerResult.CONTINUE;
+    }
+
+
+//private:
+
+    private final EventListener<? super Args> base;
+
+    private final boolean latestOnly;
+
+    private Task pending = null;
+
+    private boolean removeRequested = false;
+
+    private final class Task implements Runnable{
+        Task(Args args){this.args = args;}
+
+        Args args;
+
+        @Override public void run() {
+            if(pending == this)
+                pending = null;
+            if(removeRequested)
+                return;
+            try {
+                if(base instanceof EventListenerR)
+                    removeRequested = ((EventListenerR<? super Args>) base).r(args).removeListener;
+                else
+                    base.exec(args);
+            }catch (EventDelegate.ApplyOnParentDelegate apply_request){
+                removeRequested = requestsRemoval(apply_request);
+            }
+        }
+    }
+
+    /**
+     * The delegate, that executed the wrapper, is not known at the time the deferred listener runs
+     * - so the request gets applied on a stand-in delegate containing just the listener, and it's checked whether it got removed.
+     * */
+    private boolean requestsRemoval(EventDelegate.ApplyOnParentDelegate apply_request){
+        EventDelegate<Args> standIn = EventDelegate.make();
+        standIn.getUserListeners().add(base);
+        apply_request.exec(standIn, base);
+        return standIn.getUserListeners().isEmpty();
+    }
+}
@@ -0,0 +1,104 @@
+package com.markussecundus.forms.events;
+
+import java.util.ArrayDeque;
+
+
+/**
+ * Static queue of work deferred to later frames, that gets executed only while the per-frame time budget lasts.
+ * <p></p>
+ * <code>BasicFormApplication.render</code> calls {@link #runFrame()} once per frame, after the coalesced events get flushed and before the form gets drawn.
+ * It executes the queued tasks in the order they were posted, until the queue is empty or the time spent exceeds the budget
+ * (see {@link #setFrameBudgetNanos(long)}) - the rest is carried over to the next frame.
+ * At least one task gets executed every frame, so the queue always makes progress, even if a single task alone exceeds the budget.
+ * <p></p>
+ * The budget gets checked only between tasks - a single expensive task still has to be split by its author to be spread across frames.
+ * <p></p>
+ * Listeners get deferred through {@link DeferredListener} (see {@link EventDelegate#addDeferredListener(Integer, EventListener)}),
+ * which is suitable for expensive reactions of low priority - e.g. relayout of panels, that aren't currently visible.
+ * <p></p>
+ * Not thread-safe - the same as the rest of the library, it is expected to be used only from the rendering thread.
+ *
+ * @see DeferredListener
+ *
+ * @author MarkusSecundus
+ * */
+public final class DeferredScheduler {
+    private DeferredScheduler(){}
+
+    /**
+     * Default value of the per-frame time budget - 4 ms, a quarter of a frame at 60 FPS.
+     * */
+    public static final long DEFAULT_FRAME_BUDGET_NANOS = 4_000_000L;
+
+
+    /**
+     * Queues the task to be executed during one of the following calls of {@link #runFrame()}.
+     *
+     * @param task the work to be deferred
+     * */
+    public static void post(Runnable task){
+        if(task == null)
+            throw new NullPointerException("Deferred task must not be null!");
+        queue.addLast(task);
+    }
+
+    /**
+     * Executes the queued tasks until the queue gets empty or the frame budget runs out.
+     *
+     * @return number of tasks executed
+     * */
+    public static int runFrame(){
+        if(queue.isEmpty())
+            return 0;
+
+        long begin = System.nanoTime();
+        int ret = 0;
+        do{
+            queue.pollFirst().run();
+            ++ret;
+        }while(!queue.isEmpty() && System.nanoTime() - begin < frameBudgetNanos);
+        return ret;
+    }
+
+    /**
+     * Executes all the queued tasks, regardless of the budget - including the tasks posted by them in the meantime.
+     *
+     * @return number of tasks executed
+     * */
+    public static int runAll(){
+        int ret = 0;
+        while(!queue.isEmpty()){
+            queue.pollFirst().run();
+            ++ret;
+        }
+        return ret;
+    }
+
+    /**
+     * @return number of tasks waiting for execution
+     * */
+    public static int getPendingCount(){return queue.size();}
+
+    /**
+     * @return how long {@link #runFrame()} may keep executing tasks, in nanoseconds
+     * */
+    public static long getFrameBudgetNanos(){return frameBudgetNanos;}
+
+    /**
+     * Sets how long {@link #runFrame()} may keep executing tasks.
+     *
+     * @param nanos the per-frame time budget, in nanoseconds; <code>0</code> means a single task per frame
+     * */
+    public static void setFrameBudgetNanos(long nanos){
+        if(nanos < 0)
+            throw new IllegalArgumentException("Frame budget must not be negative! (was " + nanos + ")");
+        frameBudgetNanos = nanos;
+    }
+
+
+//private:
+
+    private static final ArrayDeque<Runnable> queue = new ArrayDeque<>();
+
+    private static long frameBudgetNanos = DEFAULT_FRAME_BUDGET_NANOS;
+}
@@ -0,0 +1,215 @@
+package com.markussecundus.forms.events;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+
+/**
+ * Static registry of dispatch metrics of {@link IEventDelegate}s.
+ * <p></p>
+ * When enabled, every delegate records how many times it got executed, how long the executions took in total (including
+ * all nested delegates), how many of them got aborted and how long the single longest one was - and the same for each of its listeners.
+ * <p></p>
+ * When disabled (the default), the delegates only check a single static flag and record nothing.
+ * <p></p>
+ * Metrics are collected per frame - <code>BasicFormApplication.render</code> calls {@link #beginFrame()} at the start of each frame,
+ * which closes the metrics of the previous frame, so that they can be inspected through {@link #lastFrame(int)}.
+ * <p></p>
+ * Not thread-safe, the same as the rest of the library.
+ *
+ * @see IEventDelegate
+ *
+ * @author MarkusSecundus
+ * */
+public final class DispatchMetrics {
+    private DispatchMetrics(){}
+
+    /**
+     * @return whether the dispatch metrics are being recorded
+     * */
+    public static boolean isEnabled(){return enabled;}
+
+    /**
+     * Switches the recording of the dispatch metrics on or off.
+     * <p>
+     * Switching the recording off discards all the metrics recorded so far.
+     * */
+    public static void setEnabled(boolean enabled){
+        DispatchMetrics.enabled = enabled;
+        if(!enabled)
+            reset();
+    }
+
+    /**
+     * Discards all the metrics recorded so far.
+     * */
+    public static void reset(){
+        current.clear();
+        lastFrame = Collections.emptyList();
+    }
+
+    /**
+     * Assigns a human-readable name to the given delegate or listener, which will be used in the reports instead of its class name.
+     *
+     * @param delegateOrListener the object to be named
+     * @param label name to be used in the reports
+     *
+     * @return <code>delegateOrListener</code>, for convenience
+     * */
+    public static <T> T label(T delegateOrListener, String label){
+        labels.put(delegateOrListener, label);
+        return delegateOrListener;
+    }
+
+    /**
+     * Closes the metrics of the current frame and starts recording a new one.
+     * Does nothing if the recording is disabled.
+     * */
+    public static void beginFrame(){
+        if(!enabled)
+            return;
+        lastFrame = new ArrayList<>(current.values());
+        current.clear();
+    }
+
+    /**
+     * @param n maximal number of delegates to be returned
+     *
+     * @return the <code>n</code> delegates, that spent the most time executing during the last closed frame, sorted by that time descending
+     * */
+    public static List<DelegateStats> lastFrame(int n){
+        return top(lastFrame, n);
+    }
+
+    /**
+     * @param n maximal number of delegates to be returned
+     *
+     * @return the <code>n</code> delegates, that spent the most time executing since the beginning of the current frame, sorted by that time descending
+     * */
+    public static List<DelegateStats> currentFrame(int n){
+        return top(current.values(), n);
+    }
+
+
+    /**
+     * Metrics of a single delegate or listener.
+     * */
+    public static class Stats{
+        Stats(String name){this.name = name;}
+
+        /**
+         * Label of the object, or its class name if it has no label.
+         * */
+        public final String name;
+
+        /**
+         * Number of executions.
+         * */
+        public int invocations;
+
+        /**
+         * Total duration of all executions, in nanoseconds.
+         * */
+        public long totalNanos;
+
+        /**
+         * Duration of the longest single execution, in nanoseconds.
+         * */
+        public long maxNanos;
+
+        /**
+         * Number of executions, that returned <code>false</code>.
+         * */
+        public int aborts;
+
+        void record(long nanos, boolean aborted){
+            ++invocations;
+            totalNanos += nanos;
+            if(nanos > maxNanos)
+                maxNanos = nanos;
+            if(aborted)
+                ++aborts;
+        }
+
+        @Override public String toString() {
+            return String.format("%s: %d calls, %d ns total, %d ns max, %d aborts", name, invocations, totalNanos, maxNanos, aborts);
+        }
+    }
+
+    /**
+     * Metrics of a single delegate, together with metrics of each of its listeners.
+     * */
+    public static class DelegateStats extends Stats{
+        DelegateStats(String name){super(name);}
+
+        /**
+         * Metrics of the individual listeners of the delegate, in the order they were first executed.
+         * */
+        public final List<Stats> listeners = new ArrayList<>();
+
+        /**
+         * @param n maximal number of listeners to be returned
+         *
+         * @return the <code>n</code> listeners, that took the most time, sorted by that time descending
+         * */
+        public List<Stats> topListeners(int n){
+            return top(listeners, n);
+        }
+
+        private final Map<Object, Stats> listenersByIdentity = new WeakHashMap<>();
+    }
+
+
+//package-private:
+
+    static void recordDelegate(EventDelegate<?> delegate, long nanos, boolean aborted){
+        obtainStats(delegate).record(nanos, aborted);
+    }
+
+    static void recordListener(EventDelegate<?> delegate, EventListener<?> listener, long nanos, boolean aborted){
+        DelegateStats parent = obtainStats(delegate);
+        Stats ret = parent.listenersByIdentity.get(listener);
+        if(ret == null){
+            parent.listenersByIdentity.put(listener, ret = new Stats(nameOf(listener)));
+            parent.listeners.add(ret);
+        }
+        ret.record(nanos, aborted);
+    }
+
+
+//private:
+
+    private static boolean enabled = false;
+
+    private static final Map<Object, DelegateStats> current = new WeakHashMap<>();
+
+    private static List<DelegateStats> lastFrame = Collections.emptyList();
+
+    private static final Map<Object, String> labels = new WeakHashMap<>();
+
+    private static final Comparator<Stats> BY_TOTAL_NANOS_DESC = (a, b) -> Long.compare(b.totalNanos, a.totalNanos);
+
+    private static DelegateStats obtainStats(EventDelegate<?> delegate){
+        DelegateStats ret = current.get(delegate);
+        if(ret == null)
+            current.put(delegate, ret = new DelegateStats(nameOf(delegate)));
+        return ret;
+    }
+
+    private static String nameOf(Object o){
+        String ret = labels.get(o);
+        return ret != null ? ret : o.getClass().getName() + "@" + Integer.toHexString(System.identityHashCode(o));
+    }
+
+    private static <T extends Stats> List<T> top(Iterable<? extends T> stats, int n){
+        List<T> ret = new ArrayList<>();
+        for(T s: stats)
+            ret.add(s);
+        Collections.sort(ret, BY_TOTAL_NANOS_DESC);
+        return ret.size() > n ? new ArrayList<>(ret.subList(0, Math.max(n, 0))) : ret;
+    }
+}
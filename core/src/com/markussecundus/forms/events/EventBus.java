@@ -0,0 +1,191 @@
+package com.markussecundus.forms.events;
+
+import com.markussecundus.forms.utils.datastruct.AutobucketedList;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Form-wide bus for broadcast-style events (theme changes, global shortcuts etc.), that would otherwise have to be delivered by walking all the elements.
+ * <p></p>
+ * Subscribers are indexed by the class of the event and an optional topic (compared by <code>equals</code>) - each pair has its own {@link EventDelegate}, created lazily
+ * on the first subscription, so publishing reaches exactly the interested subscribers and costs nothing when there are none.
+ * <p></p>
+ * An event gets delivered to the subscribers of its runtime class and of all of its superclasses and interfaces, from the most specific one
+ * (the class itself, then its superclasses, then the interfaces). Within each of them, the subscribers of the event's topic go first, followed by
+ * the subscribers without a topic, who receive all the events of the type regardless of the topic.
+ * If some of the delegates aborts the execution, the event doesn't get delivered any further.
+ * <p></p>
+ * The bus keeps its subscribers strongly reachable - subscribers with a shorter lifetime than the bus should either be removed through the returned handle,
+ * or subscribed weakly through <code>channel(type).addWeakListener(...)</code>.
+ * <p></p>
+ * Not thread-safe - the same as the rest of the library, it is expected to be used only from the rendering thread.
+ *
+ * @see EventDelegate
+ *
+ * @author MarkusSecundus
+ * */
+public class EventBus {
+//public:
+
+    /**
+     * Bus shared by the whole application.
+     * */
+    public static final EventBus DEFAULT = new EventBus();
+
+
+    /**
+     * Returns the delegate holding the subscribers of the given type without a topic, creating it if it doesn't exist yet.
+     *
+     * @param type class of the events
+     *
+     * @return delegate of the subscribers of the given type without a topic
+     * */
+    public <E> EventDelegate<E> channel(Class<E> type){
+        return channel(type, null);
+    }
+
+    /**
+     * Returns the delegate holding the subscribers of the given type and topic, creating it if it doesn't exist yet.
+     *
+     * @param type class of the events
+     * @param topic topic of the events, <code>null</code> for the subscribers of all the topics
+     *
+     * @return delegate of the subscribers of the given type and topic
+     * */
+    public <E> EventDelegate<E> channel(Class<E> type, Object topic){
+        Channels ch = channels.get(type);
+        if(ch == null)
+            channels.put(type, ch = new Channels());
+        return asTyped(ch.obtain(topic));
+    }
+
+    /**
+     * Subscribes the listener to all the events of the given type (including its subtypes), regardless of their topic.
+     *
+     * @param type class of the events
+     * @param list the subscriber
+     *
+     * @return handle that unsubscribes the listener
+     * */
+    public <E> AutobucketedList.Handle<?> subscribe(Class<E> type, EventListener<? super E> list){
+        return channel(type, null).addListener(ListenerPriorities.USER, list);
+    }
+
+    /**
+     * Subscribes the listener to the events of the given type (including its subtypes) published with the given topic.
+     *
+     * @param type class of the events
+     * @param topic topic of the events, <code>null</code> for all the topics
+     * @param list the subscriber
+     *
+     * @return handle that unsubscribes the listener
+     * */
+    public <E> AutobucketedList.Handle<?> subscribe(Class<E> type, Object topic, EventListener<? super E> list){
+        return channel(type, topic).addListener(ListenerPriorities.USER, list);
+    }
+
+    /**
+     * Delivers the event, without a topic, to the subscribers of its type.
+     *
+     * @param event the event to be published
+     *
+     * @return <code>false</code> if some of the subscribers aborted the delivery
+     * */
+    public boolean publish(Object event){
+        return publish(null, event);
+    }
+
+    /**
+     * Delivers the event to the subscribers of its type and topic, and to the subscribers of its type without a topic.
+     *
+     * @param topic topic of the event, <code>null</code> for none
+     * @param event the event to be published
+     *
+     * @return <code>false</code> if some of the subscribers aborted the delivery
+     * */
+    public boolean publish(Object topic, Object event){
+        for(Class<?> type: hierarchyOf(event.getClass())){
+            Channels ch = channels.get(type);
+            if(ch == null)
+                continue;
+            if(topic != null && ch.byTopic != null){
+                EventDelegate<Object> d = ch.byTopic.get(topic);
+                if(d != null && !d.exec(event))
+                    return false;
+            }
+            if(ch.allTopics != null && !ch.allTopics.exec(event))
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Removes all the subscribers of all the types and topics.
+     * */
+    public void clear(){
+        channels.clear();
+    }
+
+
+//protected:
+
+    /**
+     * Returns a new instance of an empty {@link EventDelegate}, which will hold the subscribers of a single type and topic.
+     * <p></p>
+     * Override this method, if you want to use other implementation of {@link EventDelegate} than the default one.
+     *
+     * @return new instance of an empty {@link EventDelegate}
+     * */
+    protected EventDelegate<Object> MAKE_CHANNEL(){return EventDelegate.make();}
+
+
+//private:
+
+    @SuppressWarnings("unchecked")  //channels are keyed by the event class, so the delegate of a type only ever receives events of that type
+    private static <E> EventDelegate<E> asTyped(EventDelegate<Object> delegate){
+        return (EventDelegate<E>) delegate;
+    }
+
+    private final Map<Class<?>, Channels> channels = new HashMap<>();
+
+    /**
+     * Classes, that an event of the given class gets delivered to, ordered from the most specific one.
+     * Shared by all the buses - the hierarchy of a class never changes.
+     * */
+    private static final Map<Class<?>, Class<?>[]> hierarchies = new HashMap<>();
+
+    private final class Channels{
+        EventDelegate<Object> allTopics = null;
+        Map<Object, EventDelegate<Object>> byTopic = null;
+
+        EventDelegate<Object> obtain(Object topic){
+            if(topic == null)
+                return allTopics != null ? allTopics : (allTopics = MAKE_CHANNEL());
+            if(byTopic == null)
+                byTopic = new HashMap<>();
+            EventDelegate<Object> ret = byTopic.get(topic);
+            if(ret == null)
+                byTopic.put(topic, ret = MAKE_CHANNEL());
+            return ret;
+        }
+    }
+
+    private static Class<?>[] hierarchyOf(Class<?> type){
+        Class<?>[] ret = hierarchies.get(type);
+        if(ret == null){
+            List<Class<?>> list = new ArrayList<>();
+            for(Class<?> c = type; c != null; c = c.getSuperclass())
+                list.add(c);
+            for(int t = 0; t < list.size(); ++t)
+                for(Class<?> i: list.get(t).getInterfaces())
+                    if(!list.contains(i))
+                        list.add(i);
+            hierarchies.put(type, ret = list.toArray(new Class<?>[0]));
+        }
+        return ret;
+    }
+}
@@ -1,6 +1,8 @@
 package com.markussecundus.forms.events;
 
+import com.markussecundus.forms.utils.datastruct.AutobucketedList;
 import com.markussecundus.forms.utils.function.BiPredicate;
+import com.markussecundus.forms.utils.function.Function;
 import com.markussecundus.forms.wrappers.property.Property;
 
 import java.util.List;
@@ -12,6 +14,9 @@ import java.util.List;
  * @see IEventDelegate
  * @see EventListener
  * @see EventListenerX
+ * @see EventListenerR
+ * @see WeakListener
+ * @see DeferredListener
  *
  * @author MarkusSecundus
  * */
@@ -25,6 +30,39 @@ public interface EventDelegate<Args> extends EventListener<Args> {
      * */
     public static <T> EventDelegate<T> make(){return new IEventDelegate<>();}
 
+    /**
+     * Returns a new instance of the canonical implementation of this interface,
+     * that iterates over a cached snapshot of its listeners instead of the live list.
+     * <p>
+     * Suitable for delegates with many listeners that get frequently removed during dispatch.
+     *
+     * @see IEventDelegate
+     *
+     * @return New instance of cannonical implementation of {@link EventDelegate} using the snapshot dispatch mode
+     * */
+    public static <T> EventDelegate<T> makeSnapshotting(){return new IEventDelegate<>(true);}
+
+    /**
+     * Returns a new delegate, that defers the execution of its listeners to the next frame's flush point
+     * and delivers them only the latest arguments per source.
+     *
+     * @see CoalescingEventDelegate
+     *
+     * @param sourceKey function that determines the source of the given arguments (eg. <code>SetterListenerArgs::caller</code>)
+     *
+     * @return New instance of {@link CoalescingEventDelegate}
+     * */
+    public static <T> EventDelegate<T> makeCoalescing(Function<? super T, ?> sourceKey){return new CoalescingEventDelegate<>(sourceKey);}
+
+    /**
+     * Returns a new thread-safe delegate, that can be registered into and executed from multiple threads at once.
+     *
+     * @see ConcurrentEventDelegate
+     *
+     * @return New instance of {@link ConcurrentEventDelegate}
+     * */
+    public static <T> EventDelegate<T> makeConcurrent(){return new ConcurrentEventDelegate<>();}
+
 
 
     /**
@@ -39,6 +77,18 @@ public interface EventDelegate<Args> extends EventListener<Args> {
      * */
     public List<EventListener<? super Args>> getListeners(Integer priority);
 
+    /**
+     * Equivalent to {@link #getListeners(Integer)}, but takes the priority as a primitive,
+     * so that implementations can look the bucket up without boxing it.
+     * <p>
+     * This is the overload that gets chosen for all the constants from {@link ListenerPriorities}.
+     *
+     * @return List of listeners with the desired priority
+     * */
+    public default List<EventListener<? super Args>> getListeners(int priority){
+        return getListeners(Integer.valueOf(priority));
+    }
+
 
     /**
      * {@link List} containing all userland listeners.
@@ -89,6 +139,76 @@ public interface EventDelegate<Args> extends EventListener<Args> {
         return getListeners(ListenerPriorities.POST_UTIL);
     }
 
+    /**
+     * Adds the listener to the end of the list of listeners with the desired priority
+     * and returns a handle, through which it can be later removed without having to be searched for.
+     * <p>
+     * Preferable to <code>getListeners(priority).add(list)</code> for listeners that get frequently added and removed.
+     *
+     * @param priority priority of the listener
+     * @param list listener to be added into this delegate
+     *
+     * @return handle that removes the added listener from the delegate
+     * */
+    public default AutobucketedList.Handle<?> addListener(Integer priority, EventListener<? super Args> list){
+        List<EventListener<? super Args>> bucket = getListeners(priority);
+        bucket.add(list);
+        return new AutobucketedList.Handle<EventListener<? super Args>>() {
+            @Override public EventListener<? super Args> get() { return isPresent()? list : null; }
+            @Override public boolean isPresent() { return bucket.contains(list); }
+            @Override public boolean remove() { return bucket.remove(list); }
+        };
+    }
+
+    /**
+     * Adds the listener, referenced only weakly, to the end of the list of listeners with the desired priority.
+     * <p>
+     * Once the listener gets garbage collected, its entry removes itself from the delegate during the next dispatch.
+     * The caller is responsible for keeping the listener strongly reachable for as long as it should stay registered.
+     *
+     * @see WeakListener
+     *
+     * @param priority priority of the listener
+     * @param list listener to be added into this delegate
+     *
+     * @return handle that removes the added listener from the delegate
+     * */
+    public default AutobucketedList.Handle<?> addWeakListener(Integer priority, EventListener<? super Args> list){
+        return addListener(priority, WeakListener.weak(list));
+    }
+
+    /**
+     * Same as {@link #addWeakListener(Integer, EventListener)}, but the listener is referenced softly
+     * - it gets collected only once the memory runs low.
+     *
+     * @see WeakListener
+     *
+     * @param priority priority of the listener
+     * @param list listener to be added into this delegate
+     *
+     * @return handle that removes the added listener from the delegate
+     * */
+    public default AutobucketedList.Handle<?> addSoftListener(Integer priority, EventListener<? super Args> list){
+        return addListener(priority, WeakListener.soft(list));
+    }
+
+    /**
+     * Adds the listener to the end of the list of listeners with the desired priority, but its execution gets deferred
+     * - instead of running inline, it gets posted into the {@link DeferredScheduler} and executed during one of the following frames, as the time budget allows.
+     * <p>
+     * Intended for expensive reactions of low priority (typically {@link ListenerPriorities#POST_UTIL}), that can lag behind the event by a few frames.
+     *
+     * @see DeferredListener
+     *
+     * @param priority priority of the listener
+     * @param list listener to be added into this delegate
+     *
+     * @return handle that removes the added listener from the delegate
+     * */
+    public default AutobucketedList.Handle<?> addDeferredListener(Integer priority, EventListener<? super Args> list){
+        return addListener(priority, DeferredListener.of(list));
+    }
+
     /**
      * Removes the desired listener if it resides anywhere in the delegate, no matter what its priority is.
      *
@@ -255,6 +375,9 @@ public interface EventDelegate<Args> extends EventListener<Args> {
     /**
      * Listener that is currently being executed is to be erased, after which
      * the execution of the rest of listeners should continue as if the erased listener returned <code>true</code>.
+     * <p>
+     * Kept for backward compatibility - prefer returning <code>{@link ListenerResult}.REMOVE</code> from an {@link EventListenerR},
+     * which avoids the cost of unwinding an exception.
      *
      * @see ApplyOnParentDelegate
      * */
@@ -264,6 +387,9 @@ public interface EventDelegate<Args> extends EventListener<Args> {
     /**
      * Listener that is currently being executed is to be erased, after which
      * the execution of the delegate should be suspended as if the erased listener returned <code>false</code>.
+     * <p>
+     * Kept for backward compatibility - prefer returning <code>{@link ListenerResult}.REMOVE_AND_ABORT</code> from an {@link EventListenerR},
+     * which avoids the cost of unwinding an exception.
      *
      * @see ApplyOnParentDelegate
      * */
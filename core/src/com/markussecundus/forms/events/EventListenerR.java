@@ -0,0 +1,44 @@
+package com.markussecundus.forms.events;
+
+
+/**
+ * Variant of {@link EventListener} returning a {@link ListenerResult},
+ * through which it can abort the delegate or remove itself from it.
+ * <p></p>
+ * {@link IEventDelegate} recognizes it and handles the result inline, which is considerably cheaper
+ * than throwing <code>EventDelegate.DELETE_SELF</code>.
+ * If it is executed by anyone else through <code>exec</code>, removal gets requested
+ * through the old exception-based protocol for backward compatibility.
+ *
+ * @param <Args> Type to be passed to the listener as its argument
+ *
+ * @see ListenerResult
+ * @see EventListener
+ * @see EventDelegate
+ *
+ * @author MarkusSecundus
+ * */
+@FunctionalInterface
+public interface EventListenerR<Args> extends EventListener<Args> {
+
+    /**
+     * Executes the listener.
+     *
+     * @return how the parent delegate should proceed
+     * */
+    public ListenerResult r(Args e);
+
+    /**
+     * Executes <code>this.r(e)</code> and translates its result.
+     * <p>
+     * If removal was requested, throws <code>EventDelegate.DELETE_SELF</code> or <code>EventDelegate.DELETE_SELF_AND_ABORT</code> respectively.
+     *
+     * @return whether there is any sense in continuing with the actions this listener is part of
+     * */
+    public default boolean exec(Args e){
+        ListenerResult ret = r(e);
+        if(ret.removeListener)
+            throw ret.continueExecution ? EventDelegate.DELETE_SELF : EventDelegate.DELETE_SELF_AND_ABORT;
+        return ret.continueExecution;
+    }
+}
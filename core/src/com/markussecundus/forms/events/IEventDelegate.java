@@ -6,6 +6,7 @@ import com.markussecundus.forms.wrappers.property.Property;
 import com.markussecundus.forms.wrappers.property.impl.general.AbstractProperty;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 
@@ -16,6 +17,17 @@ import java.util.List;
  * (Yes, it IS a provocation against .NET, and I am utterly and completely convinced it is well justified)
  * <p></p>
  * Provides tail recursion optimisation :-D.
+ * <p></p>
+ * Supports two dispatch modes:<p>
+ *     - live (default) - iterates directly over the underlying list of listeners, so that a listener added or removed during
+ *       the dispatch takes effect immediately; when a listener modifies the list, the position of the next listener to execute
+ *       has to be searched for again.<p>
+ *     - snapshot - iterates over a cached copy-on-write array of the listeners, that gets rebuilt only once the content of some bucket changes.
+ *       The set of listeners is fixed at the moment the dispatch begins - listeners added during the dispatch get executed
+ *       since the next call of <code>exec</code>, listeners removed during the dispatch that have not been executed yet still get executed in the current one.
+ *       Once the listeners stabilise, the dispatch does not allocate anything.
+ * </p>
+ * Records its dispatch metrics into {@link DispatchMetrics}, if they are enabled.
  *
  * @see EventDelegate
  *
@@ -24,9 +36,46 @@ import java.util.List;
 public class IEventDelegate<Args> implements EventDelegate<Args> {
 //public:
 
+    /**
+     * Creates an empty delegate using the live dispatch mode.
+     * */
+    public IEventDelegate(){this(false);}
+
+    /**
+     * Creates an empty delegate.
+     *
+     * @param snapshotDispatch whether the snapshot dispatch mode should be used instead of the live one
+     * */
+    public IEventDelegate(boolean snapshotDispatch){this.snapshotDispatch = snapshotDispatch;}
+
 
     @Override public boolean exec(Args e) {
-        return getReturnValuePolicy().convRetVal(iterateList(e));
+        if(!DispatchMetrics.isEnabled())
+            return getReturnValuePolicy().convRetVal(snapshotDispatch? iterateSnapshot(e) : iterateList(e));
+
+        long begin = System.nanoTime();
+        boolean completed = snapshotDispatch? iterateSnapshot(e) : iterateList(e);
+        //abort is recorded from the raw result - the return value policy only shapes what gets reported to the caller
+        DispatchMetrics.recordDelegate(this, System.nanoTime() - begin, !completed);
+        return getReturnValuePolicy().convRetVal(completed);
+    }
+
+    /**
+     * @return whether the delegate iterates over a cached snapshot of its listeners instead of the live list
+     * */
+    public boolean isSnapshotDispatch(){return snapshotDispatch;}
+
+    /**
+     * Switches between the live and the snapshot dispatch mode.
+     * <p>
+     * Dispatches already in progress finish in the mode they were started in.
+     *
+     * @param snapshotDispatch whether the snapshot dispatch mode should be used
+     * */
+    public void setSnapshotDispatch(boolean snapshotDispatch){
+        this.snapshotDispatch = snapshotDispatch;
+        if(!snapshotDispatch)
+            snapshot = null;
     }
 
     @Override
@@ -34,8 +83,21 @@ public class IEventDelegate<Args> implements EventDelegate<Args> {
         return listeners.getBucket(priority);
     }
 
+    @Override
+    public List<EventListener<? super Args>> getListeners(int priority){
+        int i = Arrays.binarySearch(cachedPriorities, 0, cachedBucketsCount, priority);
+        if(i >= 0)
+            return cachedBuckets[i];
+        return cacheBucket(-i - 1, priority);
+    }
+
+
 
 
+    @Override
+    public AutobucketedList.Handle<?> addListener(Integer priority, EventListener<? super Args> list) {
+        return listeners.add(priority, list);
+    }
 
     @Override
     public boolean removeListener(EventListener<?> list) {
@@ -84,11 +146,12 @@ public class IEventDelegate<Args> implements EventDelegate<Args> {
      * Gets called only once, in the constructor.
      * <p>
      * Override this method, if you want to use other implementation of {@link AutobucketedList}
-     * than the default {@link com.markussecundus.forms.utils.datastruct.IAutobucketedList}
+     * than the default {@link com.markussecundus.forms.utils.datastruct.CompactAutobucketedList}
+     * (which stores up to two listeners inline and inflates to {@link com.markussecundus.forms.utils.datastruct.IAutobucketedList} only once there are more of them).
      *
      * @return new instance of an empty {@link AutobucketedList}
      * */
-    protected AutobucketedList<EventListener<? super Args>, Integer> MAKE_LISTENER_LIST(){ return AutobucketedList.make();}
+    protected AutobucketedList<EventListener<? super Args>, Integer> MAKE_LISTENER_LIST(){ return AutobucketedList.makeCompact();}
 
 //private:
 
@@ -98,6 +161,24 @@ public class IEventDelegate<Args> implements EventDelegate<Args> {
 
     private Property<ReturnValuePolicy> returnValuePolicyProperty = null;
 
+    private boolean snapshotDispatch;
+
+    private EventListener<? super Args>[] snapshot = null;
+
+    private int snapshotModCount;
+
+    /**
+     * Sorted priorities, whose bucket views have already been looked up through {@link #getListeners(int)}.
+     * The views stay valid for the whole lifetime of the list, so they never need to be invalidated.
+     * */
+    private int[] cachedPriorities = NO_PRIORITIES;
+
+    private List<EventListener<? super Args>>[] cachedBuckets = null;
+
+    private int cachedBucketsCount = 0;
+
+    private static final int[] NO_PRIORITIES = {};
+
     private class ReturnValuePolicyPropertyType extends AbstractProperty<ReturnValuePolicy>{
         @Override protected ReturnValuePolicy obtain() {
             return returnValuePolicy;
@@ -108,6 +189,23 @@ public class IEventDelegate<Args> implements EventDelegate<Args> {
     }
 
 
+    private List<EventListener<? super Args>> cacheBucket(int index, int priority){
+        List<EventListener<? super Args>> ret = listeners.getBucket(priority);
+        if(cachedBuckets == null){
+            cachedPriorities = new int[2];
+            cachedBuckets = newBucketArray(2);
+        }else if(cachedBucketsCount >= cachedPriorities.length){
+            cachedPriorities = Arrays.copyOf(cachedPriorities, cachedBucketsCount * 2);
+            cachedBuckets = Arrays.copyOf(cachedBuckets, cachedBucketsCount * 2);
+        }
+        System.arraycopy(cachedPriorities, index, cachedPriorities, index + 1, cachedBucketsCount - index);
+        System.arraycopy(cachedBuckets, index, cachedBuckets, index + 1, cachedBucketsCount - index);
+        cachedPriorities[index] = priority;
+        cachedBuckets[index] = ret;
+        ++cachedBucketsCount;
+        return ret;
+    }
+
     private boolean iterateList(Args e){
         ReadonlyList<EventListener<? super Args>> list = listeners.getBase();
 
@@ -136,8 +234,62 @@ public class IEventDelegate<Args> implements EventDelegate<Args> {
         }
     }
 
+    private boolean iterateSnapshot(Args e){
+        while(true) {
+            EventListener<? super Args>[] list = obtainSnapshot();
+            int posledni = list.length - 1;
+
+            if(posledni < 0)
+                return true;
+
+            for (int t = 0; t < posledni; ++t) {
+                if(!invokeListener(e, list[t]))
+                    return false;
+            }
+
+            if(list[posledni] != this)
+                return invokeListener(e, list[posledni]);
+        }
+    }
+
+    private EventListener<? super Args>[] obtainSnapshot(){
+        int modCount = listeners.getModCount();
+        if(snapshot == null || snapshotModCount != modCount){
+            ReadonlyList<EventListener<? super Args>> base = listeners.getBase();
+            EventListener<? super Args>[] ret = newListenerArray(base.size());
+            int t = 0;
+            for(EventListener<? super Args> list: base)
+                ret[t++] = list;
+            snapshot = ret;
+            snapshotModCount = modCount;
+        }
+        return snapshot;
+    }
+
+    @SuppressWarnings("unchecked")  //generic arrays can't be created directly; the array never leaves the delegate
+    private static<Args> EventListener<? super Args>[] newListenerArray(int size){
+        return (EventListener<? super Args>[]) new EventListener<?>[size];
+    }
+
+    @SuppressWarnings("unchecked")  //generic arrays can't be created directly; the array never leaves the delegate
+    private static<Args> List<EventListener<? super Args>>[] newBucketArray(int size){
+        return (List<EventListener<? super Args>>[]) new List<?>[size];
+    }
+
     private boolean invokeListener(Args e, EventListener<? super Args> list){
+        if(!DispatchMetrics.isEnabled())
+            return invokeListenerImpl(e, list);
+
+        long begin = System.nanoTime();
+        boolean ret = invokeListenerImpl(e, list);
+        DispatchMetrics.recordListener(this, list, System.nanoTime() - begin, !ret);
+        return ret;
+    }
+
+    private boolean invokeListenerImpl(Args e, EventListener<? super Args> list){
         try {
+            if(list instanceof EventListenerR)
+                return ((EventListenerR<? super Args>) list).r(e).apply(this, list);
             return list.exec(e);
         } catch (EventDelegate.ApplyOnParentDelegate apply_request) {
             return apply_request.exec(this, list);
@@ -0,0 +1,89 @@
+package com.markussecundus.forms.events;
+
+
+/**
+ * Result of an {@link EventListenerR}, telling the parent delegate how to proceed
+ * after the listener has been executed.
+ * <p></p>
+ * Replacement for throwing <code>EventDelegate.DELETE_SELF</code> or <code>EventDelegate.DELETE_SELF_AND_ABORT</code>,
+ * that gets handled inline by the delegate without the cost of unwinding an exception.
+ *
+ * @see EventListenerR
+ * @see EventDelegate
+ *
+ * @author MarkusSecundus
+ * */
+public final class ListenerResult {
+
+    private ListenerResult(boolean continueExecution, boolean removeListener, String name){
+        this.continueExecution = continueExecution;
+        this.removeListener = removeListener;
+        this.name = name;
+    }
+
+    /**
+     * Whether the execution of the rest of listeners in the delegate should continue.
+     * */
+    public final boolean continueExecution;
+
+    /**
+     * Whether the listener should be removed from the delegate.
+     * */
+    public final boolean removeListener;
+
+    private final String name;
+
+    /**
+     * Performs the requested action on the delegate.
+     *
+     * @param parent delegate, that had called the listener, which has just returned this result
+     * @param currentlyExecuted the listener, that has just returned this result
+     *
+     * @return value that should be considered as return value of the listener
+     * (<code>false</code> if the delegate should be suspended).
+     * */
+    public boolean apply(EventDelegate<?> parent, EventListener<?> currentlyExecuted){
+        if(removeListener)
+            parent.removeListener(currentlyExecuted);
+        return continueExecution;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    /**
+     * The execution of the delegate should continue, as if the listener returned <code>true</code>.
+     * */
+    public static final ListenerResult CONTINUE = new ListenerResult(true, false, "CONTINUE");
+
+    /**
+     * The execution of the delegate should be suspended, as if the listener returned <code>false</code>.
+     * */
+    public static final ListenerResult ABORT = new ListenerResult(false, false, "ABORT");
+
+    /**
+     * Listener that is currently being executed is to be erased, after which
+     * the execution of the rest of listeners should continue as if the erased listener returned <code>true</code>.
+     * <p></p>
+     * The delegate has to search for the listener to erase it - a listener whose handle is at hand
+     * should rather remove itself through the handle and return <code>CONTINUE</code>.
+     * */
+    public static final ListenerResult REMOVE = new ListenerResult(true, true, "REMOVE");
+
+    /**
+     * Listener that is currently being executed is to be erased, after which
+     * the execution of the delegate should be suspended as if the erased listener returned <code>false</code>.
+     * */
+    public static final ListenerResult REMOVE_AND_ABORT = new ListenerResult(false, true, "REMOVE_AND_ABORT");
+
+    /**
+     * @param continueExecution whether the execution of the delegate should continue
+     *
+     * @return <code>CONTINUE</code> or <code>ABORT</code>, according to the provided value
+     * */
+    public static ListenerResult of(boolean continueExecution){
+        return continueExecution ? CONTINUE : ABORT;
+    }
+}
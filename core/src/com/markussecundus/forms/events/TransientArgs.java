@@ -0,0 +1,43 @@
+package com.markussecundus.forms.events;
+
+
+/**
+ * Event arguments, that may be pooled - a transient instance gets reused for the next event once
+ * the dispatch it was created for has finished.
+ * <p></p>
+ * Lifetime contract: a transient instance is valid only for the duration of the dispatch, during which it was passed to the listener.
+ * A listener that wants to keep the arguments (store them, defer their processing etc.) must keep
+ * the result of {@link #retain()} instead.
+ * <p></p>
+ * Non-transient instances return themselves from {@link #retain()}, so calling it is always cheap when no pooling takes place.
+ *
+ * @param <Self> type of the arguments, returned by {@link #retain()}
+ *
+ * @see CoalescingEventDelegate
+ *
+ * @author MarkusSecundus
+ * */
+public interface TransientArgs<Self> {
+
+    /**
+     * @return whether this instance is pooled and gets reused once the current dispatch finishes
+     * */
+    public default boolean isTransient(){return false;}
+
+    /**
+     * @return instance with the same content, that stays valid even after the current dispatch finishes
+     * (<code>this</code> if this instance isn't transient)
+     * */
+    public Self retain();
+
+
+    /**
+     * @param e arguments, that are to be kept after the current dispatch finishes
+     *
+     * @return result of {@link #retain()} if the arguments are {@link TransientArgs}, otherwise the arguments themselves
+     * */
+    @SuppressWarnings("unchecked")  //retain() returns arguments of the same type as the instance it was called on
+    public static <Args> Args retainIfTransient(Args e){
+        return e instanceof TransientArgs ? (Args)((TransientArgs<?>)e).retain() : e;
+    }
+}
@@ -0,0 +1,83 @@
+package com.markussecundus.forms.events;
+
+import java.lang.ref.Reference;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+
+
+/**
+ * {@link EventListener} that holds the actual listener only through a weak or soft reference,
+ * so that being registered in a long-lived delegate doesn't keep it (and everything it refers to) alive.
+ * <p></p>
+ * Once the referent gets collected, the entry removes itself from the delegate the next time it gets executed.
+ * <p></p>
+ * The referent must be strongly reachable from its owner for as long as it should stay registered
+ * - a listener that is referred to only by the delegate can get collected at any moment.
+ * Because the delegate contains the wrapper and not the listener itself, it can't be removed through <code>removeListener(listener)</code>
+ * - use the handle returned by <code>EventDelegate.addWeakListener</code> instead.
+ *
+ * @see EventDelegate#addWeakListener(Integer, EventListener)
+ * @see EventDelegate#addSoftListener(Integer, EventListener)
+ *
+ * @author MarkusSecundus
+ * */
+public final class WeakListener<Args> implements EventListenerR<Args> {
+
+    private WeakListener(Reference<EventListener<? super Args>> ref){this.ref = ref;}
+
+    /**
+     * @param list the listener to be referenced weakly
+     *
+     * @return wrapper holding the listener through a {@link WeakReference}
+     * */
+    public static <Args> WeakListener<Args> weak(EventListener<? super Args> list){
+        return new WeakListener<>(new WeakReference<>(list));
+    }
+
+    /**
+     * @param list the listener to be referenced softly
+     *
+     * @return wrapper holding the listener through a {@link SoftReference} - collected only once the memory runs low
+     * */
+    public static <Args> WeakListener<Args> soft(EventListener<? super Args> list){
+        return new WeakListener<>(new SoftReference<>(list));
+    }
+
+    /**
+     * @return the wrapped listener, or <code>null</code> if it has already been collected
+     * */
+    public EventListener<? super Args> get(){return ref.get();}
+
+    /**
+     * Executes the wrapped listener, or requests removal from the delegate if it has already been collected.
+     * */
+    @Override
+    public ListenerResult r(Args e) {
+        EventListener<? super Args> list = ref.get();
+        if(list == null){
+            ++expiredCount;
+            return ListenerResult.REMOVE;
+        }
+        if(list instanceof EventListenerR)
+            return ((EventListenerR<? super Args>) list).r(e);
+        return ListenerResult.of(list.exec(e));
+    }
+
+
+    /**
+     * Diagnostic counter of entries, that have been removed from their delegates, because their listener had been collected.
+     *
+     * @return number of expired entries removed since the start of the application or the last {@link #resetExpiredCount()}
+     * */
+    public static int getExpiredCount(){return expiredCount;}
+
+    /**
+     * Resets the counter returned by {@link #getExpiredCount()} to zero.
+     * */
+    public static void resetExpiredCount(){expiredCount = 0;}
+
+
+    private final Reference<EventListener<? super Args>> ref;
+
+    private static int expiredCount = 0;
+}
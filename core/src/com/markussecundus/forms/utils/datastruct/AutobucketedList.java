@@ -23,10 +23,24 @@ public interface AutobucketedList<T, K>{
     public ReadonlyList<T> getBase();
 
     /**
+     * Pro tentýž klíč vrací vždy tutéž instanci pohledu, která zůstává platná po celou dobu života listu
+     * - lze si ji tedy uložit a používat opakovaně, místo aby se přihrádka pokaždé znovu vyhledávala.
+     *
      * @return podlist náležicí dané přihrádce (podlist nulové délky, pokud takový dosud neexistoval)
      * */
     public List<T> getBucket(K bucket);
 
+    /**
+     * Přidá prvek na konec dané přihrádky a vrátí k němu token, skrze nějž jej lze později odebrat,
+     * aniž by bylo třeba jej v listu vyhledávat.
+     *
+     * @param bucket přihrádka, do níž má prvek být přidán
+     * @param item přidávaný prvek
+     *
+     * @return token náležící přidanému prvku
+     * */
+    public Handle<T> add(K bucket, T item);
+
     /**
      * Odebere prvek na i-té pozici v celém listu, bez ohledu na to, v jaké se nalézá přihrádce.
      *
@@ -48,6 +62,46 @@ public interface AutobucketedList<T, K>{
      * */
     public void clear();
 
+    /**
+     * Počítadlo modifikací obsahu listu.
+     * <p>
+     * Zvýší se při každém přidání, odebrání či nahrazení prvku (v libovolné přihrádce).
+     * Dokud se jeho hodnota nezmění, je možno považovat dříve pořízenou kopii obsahu listu za aktuální.
+     *
+     * @return aktuální hodnota počítadla modifikací
+     * */
+    public int getModCount();
+
+    /**
+     * Token náležící jednomu konkrétnímu výskytu prvku v {@link AutobucketedList}u,
+     * skrze který lze prvek odebrat v amortizovaně konstantním čase.
+     * <p>
+     * Token přestává být platný, jakmile je prvek z listu odebrán jakoukoliv cestou (i jinak než skrze token)
+     * nebo na jeho pozici zapsán prvek jiný.
+     *
+     * @param <T> typ prvku, k němuž token náleží
+     *
+     * @author MarkusSecundus
+     * */
+    public static interface Handle<T>{
+        /**
+         * @return prvek, k němuž token náleží, popř. <code>null</code>, pokud již v listu není přítomen
+         * */
+        public T get();
+
+        /**
+         * @return zda je prvek, k němuž token náleží, stále přítomen v listu
+         * */
+        public boolean isPresent();
+
+        /**
+         * Odebere z listu prvek, k němuž token náleží.
+         *
+         * @return <code>true</code> pokud byl prvek odebrán, <code>false</code> pokud již v listu nebyl přítomen
+         * */
+        public boolean remove();
+    }
+
     /**
      * @param comp řadič, podle kterého jsou řazeny jednotlivé přihrádky
      *             v závislosti na jejich klíčích
@@ -65,4 +119,25 @@ public interface AutobucketedList<T, K>{
     public static<T, K extends Comparable<K>> AutobucketedList<T,K> make(){
         return make(Comparable::compareTo);
     }
+
+    /**
+     * @param comp řadič, podle kterého jsou řazeny jednotlivé přihrádky
+     *             v závislosti na jejich klíčích
+     *
+     * @return instance paměťově úsporné implementace {@link AutobucketedList}, vhodné pro listy s nejvýše několika prvky
+     *
+     * @see CompactAutobucketedList
+     * */
+    public static<T,K> AutobucketedList<T,K> makeCompact(Comparator<K> comp){
+        return new CompactAutobucketedList<>(comp);
+    }
+    /**
+     * @return instance paměťově úsporné implementace {@link AutobucketedList}, vhodné pro listy s nejvýše několika prvky,
+     * používající standardní komparátor pro řazení přihrádek.
+     *
+     * @see CompactAutobucketedList
+     * */
+    public static<T, K extends Comparable<K>> AutobucketedList<T,K> makeCompact(){
+        return makeCompact(Comparable::compareTo);
+    }
 }
@@ -0,0 +1,397 @@
+package com.markussecundus.forms.utils.datastruct;
+
+import com.markussecundus.forms.utils.FormsUtil;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+
+/**
+ * Paměťově úsporná implementace {@link AutobucketedList} pro listy, jež obvykle obsahují jen velmi málo prvků.
+ * <p>
+ * Dokud list neobsahuje více než {@link #INLINE_CAPACITY} prvků, jsou prvky i klíče jejich přihrádek uloženy přímo
+ * v polích objektu, bez jakýchkoliv dalších alokací. Jakmile má být přidán prvek další, list se nafoukne
+ * - veškerý obsah přesune do vnitřního {@link IAutobucketedList} a od té doby na něj vše deleguje (zpět se již nesplaskává).
+ * <p>
+ * Pohledy na přihrádky, {@link #getBase()} i tokeny vydané před nafouknutím zůstávají platné i po něm.
+ * <p>
+ * Stejně jako u {@link IAutobucketedList} smí být prvek během iterace odebrán skrze svůj token, aniž by iterace nějaký prvek přeskočila.
+ *
+ * @see AutobucketedList
+ * @see IAutobucketedList
+ *
+ * @author MarkusSecundus
+ * */
+public class CompactAutobucketedList<T,K> implements AutobucketedList<T,K>, ReadonlyList<T> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Počet prvků, jež je list schopen pojmout, aniž by se musel nafouknout.
+     * */
+    public static final int INLINE_CAPACITY = 2;
+
+
+    /**
+     * Vytvoří prázdný přihrádkovaný list s daným použitým řazením.
+     *
+     * @param ordering řazení použité pro řazení přihrádek v závislosti na jejich klíči
+     * */
+    public CompactAutobucketedList(Comparator<K> ordering){
+        this.orderer = ordering;
+    }
+
+
+    /**
+     * @return zda již byl obsah listu přesunut do vnitřního {@link IAutobucketedList}
+     * */
+    public boolean isInflated(){
+        return inflated != null;
+    }
+
+
+    @Override
+    public ReadonlyList<T> getBase() {
+        return this;
+    }
+
+    @Override
+    public int getModCount() {
+        return inflated == null ? modCount : modCount + inflated.getModCount();
+    }
+
+    @Override
+    public List<T> getBucket(K bucket) {
+        if(firstView == null)
+            return firstView = new BucketView(bucket);
+        if(orderer.compare(bucket, firstView.bucketKey) == 0)
+            return firstView;
+
+        if(moreViews == null)
+            moreViews = new ArrayList<>(2);
+        for(BucketView view: moreViews)
+            if(orderer.compare(bucket, view.bucketKey) == 0)
+                return view;
+        BucketView ret = new BucketView(bucket);
+        moreViews.add(ret);
+        return ret;
+    }
+
+    @Override
+    public Handle<T> add(K bucket, T item) {
+        if(inflated == null && count >= INLINE_CAPACITY)
+            inflate();
+        if(inflated != null)
+            return inflated.add(bucket, item);
+
+        InlineHandle<T> ret = new InlineHandle<>(this, item);
+        insertInline(bucketBegin(bucket) + bucketSize(bucket), bucket, ret);
+        return ret;
+    }
+
+    @Override
+    public T remove(int i) {
+        if(inflated != null)
+            return inflated.remove(i);
+        if(i < 0 || i >= count)
+            return null;
+        return kill(removeInline(i));
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if(inflated != null)
+            return inflated.remove(o);
+        for(int t = 0; t < count; ++t){
+            if(FormsUtil.equals(o, unwrap(itemAt(t)))){
+                kill(removeInline(t));
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void clear() {
+        if(inflated != null){
+            inflated.clear();
+            return;
+        }
+        while(count > 0)
+            kill(removeInline(count - 1));
+    }
+
+
+    @Override
+    public T getNth(int n) {
+        if(inflated != null)
+            return inflated.getBase().getNth(n);
+        if(n < 0 || n >= count)
+            throw new IndexOutOfBoundsException(String.format("Index: %d, Size: %d", n, count));
+        return unwrap(itemAt(n));
+    }
+
+    @Override
+    public int size() {
+        return inflated == null ? count : inflated.getBase().size();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return inflated == null ? new InlineIterator() : inflated.getBase().iterator();
+    }
+
+
+
+    private final Comparator<K> orderer;
+
+    private K key0, key1;
+
+    /**
+     * Prvky uložené přímo v listu - buď přímo hodnoty, nebo {@link InlineHandle}, pokud byl prvek přidán skrze token.
+     * */
+    private Object item0, item1;
+
+    private int count = 0;
+
+    private int modCount = 0;
+
+    private IAutobucketedList<T,K> inflated = null;
+
+    /**
+     * Dosud vydané pohledy na přihrádky - první z nich, ostatní jsou v {@link #moreViews} (alokován až pro druhý pohled).
+     * */
+    private BucketView firstView = null;
+
+    private List<BucketView> moreViews = null;
+
+
+
+    private K keyAt(int i){
+        return i == 0 ? key0 : key1;
+    }
+
+    private Object itemAt(int i){
+        return i == 0 ? item0 : item1;
+    }
+
+    private void setAt(int i, K key, Object item){
+        if(i == 0){ key0 = key; item0 = item; }
+        else { key1 = key; item1 = item; }
+    }
+
+    private int bucketBegin(K bucket){
+        int ret = 0;
+        for(int t = 0; t < count; ++t)
+            if(orderer.compare(bucket, keyAt(t)) < 0)
+                ++ret;
+        return ret;
+    }
+
+    private int bucketSize(K bucket){
+        int ret = 0;
+        for(int t = 0; t < count; ++t)
+            if(orderer.compare(bucket, keyAt(t)) == 0)
+                ++ret;
+        return ret;
+    }
+
+    private void insertInline(int i, K key, Object item){
+        for(int t = count; t > i; --t)
+            setAt(t, keyAt(t - 1), itemAt(t - 1));
+        setAt(i, key, item);
+        ++count;
+        ++modCount;
+    }
+
+    private Object removeInline(int i){
+        Object ret = itemAt(i);
+        for(int t = i; t < count - 1; ++t)
+            setAt(t, keyAt(t + 1), itemAt(t + 1));
+        setAt(--count, null, null);
+        ++modCount;
+        return ret;
+    }
+
+    private void inflate(){
+        IAutobucketedList<T,K> ret = new IAutobucketedList<>(orderer);
+        for(int t = 0; t < count; ++t){
+            Object o = itemAt(t);
+            InlineHandle<T> handle = asHandle(o);
+            if(handle != null){
+                handle.forward = ret.add(keyAt(t), handle.item);
+                handle.item = null;
+            }else
+                ret.getBucket(keyAt(t)).add(asItem(o));
+        }
+        for(int t = 0; t < count; ++t)
+            setAt(t, null, null);
+        count = 0;
+        ++modCount;
+        inflated = ret;
+    }
+
+    private boolean removeHandle(InlineHandle<T> handle){
+        for(int t = 0; t < count; ++t){
+            if(itemAt(t) == handle){
+                kill(removeInline(t));
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")  //token patří tomuto listu, drží tedy prvek typu T
+    private InlineHandle<T> asHandle(Object o){
+        if(o instanceof InlineHandle && ((InlineHandle<?>)o).owner == this)
+            return (InlineHandle<T>)o;
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")  //do item0/item1 se ukládají pouze prvky typu T a tokeny tohoto listu
+    private T asItem(Object o){
+        return (T)o;
+    }
+
+    private T unwrap(Object o){
+        InlineHandle<T> handle = asHandle(o);
+        return handle != null ? handle.item : asItem(o);
+    }
+
+    private T kill(Object o){
+        InlineHandle<T> handle = asHandle(o);
+        if(handle == null)
+            return asItem(o);
+        T ret = handle.item;
+        handle.alive = false;
+        handle.item = null;
+        return ret;
+    }
+
+
+
+    private static final class InlineHandle<T> implements Handle<T>{
+
+        public InlineHandle(CompactAutobucketedList<T, ?> owner, T item) {
+            this.owner = owner;
+            this.item = item;
+        }
+
+        public final CompactAutobucketedList<T, ?> owner;
+        public T item;
+        public boolean alive = true;
+
+        /**
+         * Token, na nějž byl tento přesměrován při nafouknutí listu.
+         * */
+        public Handle<T> forward = null;
+
+        @Override public T get() {
+            return forward != null ? forward.get() : item;
+        }
+
+        @Override public boolean isPresent() {
+            return forward != null ? forward.isPresent() : alive;
+        }
+
+        @Override public boolean remove() {
+            if(forward != null)
+                return forward.remove();
+            return alive && owner.removeHandle(this);
+        }
+    }
+
+
+    /**
+     * Iterátor přes prvky uložené přímo v listu.
+     * <p>
+     * Odebrání prvku posune prvky za ním o pozici zpět - iterátor si proto pamatuje naposledy vrácený prvek
+     * a podle něj svou pozici před každým dalším krokem opraví.
+     * Nafoukne-li se list během iterace, pokračuje ve vnitřním {@link IAutobucketedList} od téže pozice.
+     * */
+    private final class InlineIterator implements Iterator<T>{
+        private int next = 0;
+        private Object lastReturned = null;
+
+        @Override public boolean hasNext() {
+            resync();
+            return next < size();
+        }
+
+        @Override public T next() {
+            if(!hasNext())
+                throw new NoSuchElementException();
+            if(inflated != null)
+                return inflated.getBase().getNth(next++);
+            lastReturned = itemAt(next++);
+            return unwrap(lastReturned);
+        }
+
+        private void resync(){
+            if(inflated != null || next <= 0 || (next <= count && itemAt(next - 1) == lastReturned))
+                return;
+            for(int t = 0; t < count; ++t){
+                if(itemAt(t) == lastReturned){
+                    next = t + 1;
+                    return;
+                }
+            }
+            --next;     //naposledy vrácený prvek byl odebrán - prvky za ním se posunuly na jeho místo
+            lastReturned = next > 0 ? itemAt(next - 1) : null;
+        }
+    }
+
+
+    private final class BucketView extends AbstractList<T>{
+
+        public BucketView(K bucketKey){this.bucketKey = bucketKey;}
+
+        private final K bucketKey;
+
+        @Override public T get(int index) {
+            if(inflated != null)
+                return inflated.getBucket(bucketKey).get(index);
+            return unwrap(itemAt(checkIndex(index, bucketSize(bucketKey))));
+        }
+
+        @Override public int size() {
+            return inflated != null ? inflated.getBucket(bucketKey).size() : bucketSize(bucketKey);
+        }
+
+        @Override public T set(int index, T element) {
+            if(inflated != null)
+                return inflated.getBucket(bucketKey).set(index, element);
+            int i = checkIndex(index, bucketSize(bucketKey));
+            T ret = kill(itemAt(i));
+            setAt(i, bucketKey, element);
+            ++modCount;
+            return ret;
+        }
+
+        @Override public void add(int index, T element) {
+            if(inflated == null && count >= INLINE_CAPACITY)
+                inflate();
+            if(inflated != null){
+                inflated.getBucket(bucketKey).add(index, element);
+                return;
+            }
+            insertInline(checkIndex(index, bucketSize(bucketKey) + 1), bucketKey, element);
+        }
+
+        @Override public T remove(int index) {
+            if(inflated != null)
+                return inflated.getBucket(bucketKey).remove(index);
+            return kill(removeInline(checkIndex(index, bucketSize(bucketKey))));
+        }
+
+        private int checkIndex(int index, int size){
+            if(index < 0 || index >= size)
+                throw new IndexOutOfBoundsException(String.format("Index: %d, Size: %d", index, size));
+            return bucketBegin(bucketKey) + index;
+        }
+    }
+}
@@ -1,15 +1,24 @@
 package com.markussecundus.forms.utils.datastruct;
 
-import com.badlogic.gdx.Gdx;
 import com.markussecundus.forms.utils.FormsUtil;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 
 
 /**
  * Kanonická implementace {@link AutobucketedList}.
+ * <p>
+ * Každá přihrádka má svůj vlastní vnitřní list, počátky přihrádek v rámci celého listu jsou
+ * udržovány ve Fenwickově stromu - přidání či odebrání prvku tedy nevyžaduje přepočítávání
+ * indexů všech následujících přihrádek a nalezení přihrádky pro daný globální index trvá <code>O(log(počet přihrádek))</code>.
+ * <p>
+ * Prvky odebrané skrze {@link AutobucketedList.Handle} jsou pouze označeny jako mrtvé a fyzicky
+ * odstraněny až hromadně, při nejbližším přístupu k pozicím prvků v dotčené přihrádce.
  *
  * @see AutobucketedList
  *
@@ -18,39 +27,32 @@ import java.util.List;
 public class IAutobucketedList<T,K> implements AutobucketedList<T,K> {
 
 
-    private final List<T> base;
-
-    private final ReadonlyList<T> base_readonly;
-
     private final Comparator<K> orderer;
 
-    private final List<BucketInfo<K>> bucketList = new ArrayList<>();
-
+    private final List<Bucket<T,K>> bucketList = new ArrayList<>();
 
+    private final ReadonlyList<T> base_readonly = new BaseView();
 
     /**
-     * Vytvoří přihrádkovaný list nad danou instancí {@link List}u a s daným použitým řazením.
-     *
-     * @param base Bazický list - musí být prázdný
-     * @param ordering řazení použité pro řazení přihrádek v závislosti na jejich klíči
-     *
-     * @throws IllegalArgumentException pokud dodávaná báze není prázdná
+     * Fenwickův strom nad velikostmi přihrádek (indexován od 1).
      * */
-    public IAutobucketedList(List<T> base, Comparator<K> ordering){
-        if(!base.isEmpty())
-            throw new IllegalArgumentException("Base list must be empty!");
-        this.base = base;
-        this.base_readonly = ReadonlyList.make(base);
-        this.orderer = ordering;
-    }
+    private int[] offsets = new int[1];
+
+    private int size = 0;
+
+    private int deadCount = 0;
+
+    private int modCount = 0;
+
+
 
     /**
-     * Vytvoří přihrádkovaný list nad novou instancí {@link List}u a s daným použitým řazením.
+     * Vytvoří prázdný přihrádkovaný list s daným použitým řazením.
      *
      * @param ordering řazení použité pro řazení přihrádek v závislosti na jejich klíči
      * */
     public IAutobucketedList(Comparator<K> ordering){
-        this(DEF_LIST__FACTORY(), ordering);
+        this.orderer = ordering;
     }
 
 
@@ -60,34 +62,52 @@ public class IAutobucketedList<T,K> implements AutobucketedList<T,K> {
         return base_readonly;
     }
 
+    @Override
+    public int getModCount() {
+        return modCount;
+    }
 
-    private int findBucketForIndex(int t){
-        for(int i = 0; i < bucketList.size(); ++i)
-            if(bucketList.get(i).endIndex > t)
-                return i;
 
-        return -1;
+    @Override
+    public List<T> getBucket(K bucket) {
+        Bucket<T,K> kyblik = bucketList.get(findOrMakeBucket(bucket));
+        if(kyblik.view == null)
+            kyblik.view = new BucketView(kyblik);
+        return kyblik.view;
+    }
+
+    @Override
+    public Handle<T> add(K bucket, T item) {
+        Bucket<T,K> kyblik = bucketList.get(findOrMakeBucket(bucket));
+        Entry<T> ret = new Entry<>(this, item, kyblik);
+        kyblik.items.add(ret);
+        onInserted(kyblik);
+        return ret;
     }
 
 
     @Override
     public T remove(int i) {
+        compact();
 
         int kyblik = findBucketForIndex(i);
         if(kyblik < 0)
             return null;
 
-        shiftIndices(kyblik, -1);
-
-        return base.remove(i);
+        return removeAt(bucketList.get(kyblik), i - bucketBegin(kyblik));
     }
 
     @Override
     public boolean remove(Object o){
-        int i = base.indexOf(o);
-        if(i>=0){
-            remove(i);
-            return true;
+        compact();
+
+        for(Bucket<T,K> kyblik: bucketList){
+            for(int t = 0; t < kyblik.items.size(); ++t){
+                if(FormsUtil.equals(o, unwrap(kyblik.items.get(t)))){
+                    removeAt(kyblik, t);
+                    return true;
+                }
+            }
         }
         return false;
     }
@@ -95,88 +115,306 @@ public class IAutobucketedList<T,K> implements AutobucketedList<T,K> {
 
     @Override
     public void clear(){
-        base.clear();
-        bucketList.clear();
+        for(Bucket<T,K> kyblik: bucketList)
+            clearBucket(kyblik);
+        ++modCount;
     }
 
-    @Override
-    public List<T> getBucket(K bucket) {
-;
-        int i = FormsUtil.binarySearchNearest(bucketList, bucket, (a, b)-> orderer.compare(a,b.bucketKey));
-
-        if(i<0){
-            bucketList.add(0, new BucketInfo<>(bucket, 0));
-            i = 0;
-        }else if(i>= bucketList.size()){
-            i = bucketList.size();
-            bucketList.add(new BucketInfo<>(bucket, base.size()));
-        }else{
-            int cmp = orderer.compare(bucketList.get(i).bucketKey, bucket);
-            switch (cmp){
-                case -1:
-                    bucketList.add(i, new BucketInfo<>(bucket, i>0? bucketList.get(i-1).endIndex :0));
-                    break;
-                case 1:
-                    bucketList.add(i + 1, new BucketInfo<>(bucket, bucketList.get(i).endIndex));
-                    ++i;
-                    break;
+
+
+    private int findOrMakeBucket(K bucket){
+        int begin = 0, end = bucketList.size();
+
+        while(begin < end){
+            int mid = (begin + end) >>> 1;
+            int cmp = orderer.compare(bucket, bucketList.get(mid).bucketKey);
+            if(cmp == 0)
+                return mid;
+            else if(cmp < 0)
+                begin = mid + 1;
+            else
+                end = mid;
+        }
+
+        bucketList.add(begin, new Bucket<>(bucket));
+        for(int i = begin; i < bucketList.size(); ++i)
+            bucketList.get(i).index = i;
+        rebuildOffsets();
+
+        return begin;
+    }
+
+
+    private int findBucketForIndex(int t){
+        if(t < 0 || t >= size)
+            return -1;
+
+        int pos = 0;
+        for(int step = Integer.highestOneBit(offsets.length - 1); step > 0; step >>= 1){
+            int next = pos + step;
+            if(next < offsets.length && offsets[next] <= t){
+                pos = next;
+                t -= offsets[next];
             }
         }
+        return pos;
+    }
 
-        return getBucket(i);
+    private int bucketBegin(int bucketIndex){
+        int ret = 0;
+        for(int i = bucketIndex; i > 0; i -= i & -i)
+            ret += offsets[i];
+        return ret;
     }
 
-    private List<T> getBucket(int bucketIndex){
+    private void shiftOffsets(int bucketIndex, int shiftAmmount){
+        for(int i = bucketIndex + 1; i < offsets.length; i += i & -i)
+            offsets[i] += shiftAmmount;
+    }
 
-        final int beg = bucketIndex>0? bucketList.get(bucketIndex-1).endIndex : 0;
-        final int endd = bucketList.get(bucketIndex).endIndex;
-        try {
-            return new ObservedList.Blank<T>(base.subList(beg, endd)) {
-                @Override
-                protected void onAdded(T t, int index) {
-                    shiftIndices(bucketIndex,1);
-                }
+    private void rebuildOffsets(){
+        int[] ret = new int[bucketList.size() + 1];
+        for(int i = 1; i < ret.length; ++i){
+            ret[i] += bucketList.get(i - 1).items.size();
+            int parent = i + (i & -i);
+            if(parent < ret.length)
+                ret[parent] += ret[i];
+        }
+        offsets = ret;
+    }
 
-                @Override
-                protected void onDelete(Object t) {
-                    shiftIndices(bucketIndex, -1);
-                }
 
-                @Override
-                protected void onClear() {
-                    shiftIndices(bucketIndex, - base.size());
-                }
-            };
-        }catch (Exception e){
-            Gdx.app.log("rr", String.format("%d - %d", beg, endd));
-            throw e;
+
+    private void onInserted(Bucket<T,K> kyblik){
+        ++size;
+        shiftOffsets(kyblik.index, 1);
+        ++modCount;
+    }
+
+    private T removeAt(Bucket<T,K> kyblik, int i){
+        Object ret = kyblik.items.remove(i);
+        --size;
+        shiftOffsets(kyblik.index, -1);
+        ++modCount;
+        return kill(ret);
+    }
+
+    private void clearBucket(Bucket<T,K> kyblik){
+        int n = kyblik.items.size();
+        if(n <= 0)
+            return;
+        for(Object o: kyblik.items)
+            kill(o);
+        kyblik.items.clear();
+        size -= n;
+        deadCount -= kyblik.deadCount;
+        kyblik.deadCount = 0;
+        shiftOffsets(kyblik.index, -n);
+    }
+
+    private boolean removeEntry(Entry<T> entry){
+        if(!entry.alive)
+            return false;
+        entry.alive = false;
+        entry.value = null;
+        ++entry.bucket.deadCount;
+        ++deadCount;
+        ++modCount;
+        return true;
+    }
+
+    private void compact(){
+        if(deadCount <= 0)
+            return;
+        for(Bucket<T,K> kyblik: bucketList)
+            compactBucket(kyblik);
+    }
+
+    private void compactBucket(Bucket<T,K> kyblik){
+        if(kyblik.deadCount <= 0)
+            return;
+
+        List<Object> items = kyblik.items;
+        int w = 0;
+        for(int r = 0; r < items.size(); ++r){
+            Object o = items.get(r);
+            Entry<T> entry = asEntry(o);
+            if(entry == null || entry.alive)
+                items.set(w++, o);
         }
+        int removed = items.size() - w;
+        items.subList(w, items.size()).clear();
+
+        size -= removed;
+        deadCount -= kyblik.deadCount;
+        kyblik.deadCount = 0;
+        shiftOffsets(kyblik.index, -removed);
+    }
+
+
+    @SuppressWarnings("unchecked")  //token patří tomuto listu, drží tedy prvek typu T
+    private Entry<T> asEntry(Object o){
+        if(o instanceof Entry && ((Entry<?>)o).owner == this)
+            return (Entry<T>)o;
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")  //přihrádky obsahují pouze prvky typu T a tokeny tohoto listu
+    private T asItem(Object o){
+        return (T)o;
+    }
+
+    private T unwrap(Object o){
+        Entry<T> entry = asEntry(o);
+        return entry != null ? entry.value : asItem(o);
     }
 
-    private void shiftIndices(int beginBucketIndex, int shiftAmmount){
-        for (int i = beginBucketIndex; i < bucketList.size(); ++i)
-            bucketList.get(i).endIndex += shiftAmmount;
+    private T kill(Object o){
+        Entry<T> entry = asEntry(o);
+        if(entry == null)
+            return asItem(o);
+        T ret = entry.value;
+        entry.alive = false;
+        entry.value = null;
+        return ret;
     }
 
 
 
-    private final static class BucketInfo<K>{
+    private final static class Bucket<T,K>{
 
-        public BucketInfo(K bucketKey, int index) {
+        public Bucket(K bucketKey) {
             this.bucketKey = bucketKey;
-            this.endIndex = index;
         }
 
         public final K bucketKey;
-        public int endIndex;
+
+        /**
+         * Prvky přihrádky - buď přímo hodnoty, nebo {@link Entry}, pokud byl prvek přidán skrze token.
+         * */
+        public final ArrayList<Object> items = new ArrayList<>();
+
+        public int index;
+
+        public int deadCount = 0;
+
+        /**
+         * Pohled na přihrádku, vytvořený při prvním zavolání {@link #getBucket(Object)} a od té doby stále tentýž.
+         * */
+        public List<T> view = null;
     }
 
 
+    private final static class Entry<T> implements Handle<T>{
 
+        public Entry(IAutobucketedList<T, ?> owner, T value, Bucket<T, ?> bucket) {
+            this.owner = owner;
+            this.value = value;
+            this.bucket = bucket;
+        }
 
-    /**
-     * @return nová instance {@link List}, nad kterou je defaultně {@link IAutobucketedList} postaven,
-     * není-li udáno jinak
-     * */
-    public static<T> List<T> DEF_LIST__FACTORY(){return new ArrayList<>();}
+        public final IAutobucketedList<T, ?> owner;
+        public final Bucket<T, ?> bucket;
+        public T value;
+        public boolean alive = true;
+
+        @Override public T get() {
+            return value;
+        }
+
+        @Override public boolean isPresent() {
+            return alive;
+        }
+
+        @Override public boolean remove() {
+            return owner.removeEntry(this);
+        }
+    }
+
+
+    private final class BucketView extends AbstractList<T>{
+
+        public BucketView(Bucket<T,K> bucket){this.bucket = bucket;}
+
+        private final Bucket<T,K> bucket;
+
+        @Override public T get(int index) {
+            compactBucket(bucket);
+            return unwrap(bucket.items.get(index));
+        }
+
+        @Override public int size() {
+            return bucket.items.size() - bucket.deadCount;
+        }
+
+        @Override public T set(int index, T element) {
+            compactBucket(bucket);
+            T ret = kill(bucket.items.set(index, element));
+            ++IAutobucketedList.this.modCount;
+            return ret;
+        }
+
+        @Override public void add(int index, T element) {
+            compactBucket(bucket);
+            bucket.items.add(index, element);
+            onInserted(bucket);
+        }
+
+        @Override public T remove(int index) {
+            compactBucket(bucket);
+            return removeAt(bucket, index);
+        }
+
+        @Override public void clear() {
+            clearBucket(bucket);
+            ++IAutobucketedList.this.modCount;
+        }
+    }
+
+
+    private final class BaseView implements ReadonlyList<T>{
+
+        private static final long serialVersionUID = 1L;
+
+        @Override public T getNth(int n) {
+            compact();
+            int kyblik = findBucketForIndex(n);
+            if(kyblik < 0)
+                throw new IndexOutOfBoundsException(String.format("Index: %d, Size: %d", n, size()));
+            return unwrap(bucketList.get(kyblik).items.get(n - bucketBegin(kyblik)));
+        }
+
+        @Override public int size() {
+            return size - deadCount;
+        }
+
+        @Override public Iterator<T> iterator() {
+            compact();
+            return new Iterator<T>() {
+                int kyblik = 0, i = 0;
+
+                @Override public boolean hasNext() {
+                    while(kyblik < bucketList.size()){
+                        List<Object> items = bucketList.get(kyblik).items;
+                        if(i >= items.size()){
+                            ++kyblik;
+                            i = 0;
+                        }else{
+                            Entry<T> entry = asEntry(items.get(i));
+                            if(entry == null || entry.alive)
+                                return true;
+                            ++i;
+                        }
+                    }
+                    return false;
+                }
+
+                @Override public T next() {
+                    if(!hasNext())
+                        throw new NoSuchElementException();
+                    return unwrap(bucketList.get(kyblik).items.get(i++));
+                }
+            };
+        }
+    }
 }
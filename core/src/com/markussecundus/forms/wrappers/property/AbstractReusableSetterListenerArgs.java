@@ -0,0 +1,62 @@
+package com.markussecundus.forms.wrappers.property;
+
+import com.markussecundus.forms.events.TransientArgs;
+
+/**
+ * Společný základ znovupoužitelných instancí argumentů pro setterové listenery jedné konkrétní Property.
+ * <p>
+ * <code>caller</code> i <code>newVal</code> jsou pro všechny volání setteru dané Property stejné, mění se pouze <code>oldVal</code>
+ * - Property si tak drží jedinou instanci a při každém volání setteru ji pouze naplní.
+ * Pokud je instance právě používána (setter byl zavolán rekurzivně z vlastního listeneru), vytvoří se místo ní instance nová.
+ *
+ * @param <T> typ hodnoty Property
+ * @param <A> typ argumentů, které instance představuje
+ *
+ * @see ReadonlyProperty.SetterListenerArgs.Reusable
+ * @see Property.SetterListenerArgs.Reusable
+ * @see TransientArgs
+ *
+ * @author MarkusSecundus
+ * */
+public abstract class AbstractReusableSetterListenerArgs<T, A extends ReadonlyProperty.SetterListenerArgs<T>> implements ReadonlyProperty.SetterListenerArgs<T> {
+
+    /**
+     * @return tato instance naplněná danou hodnotou, popř. nová instance, pokud je tato právě používána
+     * */
+    public A obtain(T oldVal){
+        if(inUse)
+            return make(oldVal);
+        inUse = true;
+        this.oldVal = oldVal;
+        return self();
+    }
+
+    /**
+     * Uvolní instanci získanou z {@link #obtain(Object)} poté, co doběhly všechny listenery.
+     * */
+    public void release(A args){
+        if(args != this)
+            return;
+        inUse = false;
+        oldVal = null;
+    }
+
+    @Override public T oldVal(){return oldVal;}
+
+    @Override public boolean isTransient(){return true;}
+
+    @Override public A retain(){return make(oldVal);}
+
+    /**
+     * @return nová, nepoolovaná instance argumentů se stejnými hodnotami <code>caller</code> a <code>newVal</code> a danou hodnotou <code>oldVal</code>
+     * */
+    protected abstract A make(T oldVal);
+
+    /**
+     * @return tato instance
+     * */
+    protected abstract A self();
+
+    private T oldVal = null;
+    private boolean inUse = false;
+}
@@ -0,0 +1,68 @@
+package com.markussecundus.forms.wrappers.property;
+
+
+/**
+ * Určuje, zda nastavení nové hodnoty do Property představuje skutečnou změnu.
+ * <p></p>
+ * Pokud nepředstavuje, setter Property ponechá starou hodnotu a vůbec neprovede setter-listenery
+ * - nastavování stále stejné hodnoty (např. velikosti při každém přepočtu layoutu) se tak dál nešíří grafem listenerů a bindingů.
+ * <p></p>
+ * <code>pretendSet</code> se politikou neřídí a listenery provede vždy.
+ *
+ * @see com.markussecundus.forms.wrappers.property.impl.general.AbstractProperty#setChangePolicy(ChangePolicy)
+ * @see com.markussecundus.forms.wrappers.property.impl.readonly.AbstractReadonlyProperty#setChangePolicy(ChangePolicy)
+ *
+ * @author MarkusSecundus
+ * */
+@FunctionalInterface
+public interface ChangePolicy {
+
+    /**
+     * @param oldVal dosavadní hodnota Property
+     * @param newVal nastavovaná hodnota
+     *
+     * @return zda má být nová hodnota nastavena a mají být provedeny setter-listenery
+     * */
+    public boolean isChange(Object oldVal, Object newVal);
+
+
+    /**
+     * Každé nastavení je považováno za změnu - původní chování všech Property.
+     * */
+    public static final ChangePolicy ALWAYS = new ChangePolicy() {
+        @Override public boolean isChange(Object oldVal, Object newVal) {
+            return true;
+        }
+
+        @Override public String toString() {
+            return "ALWAYS";
+        }
+    };
+
+    /**
+     * Za změnu je považováno jen nastavení jiné instance.
+     * */
+    public static final ChangePolicy IDENTITY = new ChangePolicy() {
+        @Override public boolean isChange(Object oldVal, Object newVal) {
+            return oldVal != newVal;
+        }
+
+        @Override public String toString() {
+            return "IDENTITY";
+        }
+    };
+
+    /**
+     * Za změnu je považováno jen nastavení hodnoty, která se podle <code>equals</code> liší od té dosavadní.
+     * Vhodné pro immutable hodnotové typy (vektory, čísla, řetězce...).
+     * */
+    public static final ChangePolicy EQUALS = new ChangePolicy() {
+        @Override public boolean isChange(Object oldVal, Object newVal) {
+            return oldVal != newVal && (oldVal == null || !oldVal.equals(newVal));
+        }
+
+        @Override public String toString() {
+            return "EQUALS";
+        }
+    };
+}
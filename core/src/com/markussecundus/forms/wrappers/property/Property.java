@@ -90,6 +90,12 @@ public interface Property<T> extends Wrapper<T>, ReadonlyProperty<T>, WriteonlyP
         public Wrapper<T> newVal();
 
 
+        /**
+         * {@inheritDoc}
+         * */
+        @Override
+        public default SetterListenerArgs<T> retain(){return this;}
+
         /**
          * Zkonstruuje instanci z daných argumentů.
          * */
@@ -101,6 +107,28 @@ public interface Property<T> extends Wrapper<T>, ReadonlyProperty<T>, WriteonlyP
             };
         }
 
+        /**
+         * Znovupoužitelná instance argumentů pro setterové listenery jedné konkrétní Property.
+         *
+         * @see AbstractReusableSetterListenerArgs
+         * */
+        public static final class Reusable<T> extends AbstractReusableSetterListenerArgs<T, SetterListenerArgs<T>> implements SetterListenerArgs<T>{
+            /**
+             * @param caller Property, jíž budou argumenty náležet
+             * @param newVal wrapper, přes který lze přistupovat k vnitřní hodnotě Property bez spuštění listenerů
+             * */
+            public Reusable(Property<T> caller, Wrapper<T> newVal){this.caller = caller; this.newVal = newVal;}
+
+            public Property<T> caller() { return caller; }
+            public Wrapper<T> newVal() { return newVal; }
+
+            @Override protected SetterListenerArgs<T> make(T oldVal){return SetterListenerArgs.make(caller, oldVal, newVal);}
+            @Override protected SetterListenerArgs<T> self(){return this;}
+
+            private final Property<T> caller;
+            private final Wrapper<T> newVal;
+        }
+
     }
 
 
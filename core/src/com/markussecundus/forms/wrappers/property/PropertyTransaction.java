@@ -0,0 +1,186 @@
+package com.markussecundus.forms.wrappers.property;
+
+import com.markussecundus.forms.wrappers.property.binding.BindingExecutor;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Transakce, během níž jsou setter-listenery všech Properties odloženy až na její konec.
+ * <p></p>
+ * Určeno pro hromadné nastavení více souvisejících hodnot (např. <code>maxSize</code>, <code>minSize</code> a <code>prefSize</code> prvku,
+ * nebo paddingu, dimenze a zarovnání layoutu), kdy by jinak každé jednotlivé nastavení spustilo vlastní přepočet.
+ * <pre>
+ *     try(PropertyTransaction tr = PropertyTransaction.begin()){
+ *         elem.setMinSize(min);
+ *         elem.setPrefSize(pref);
+ *     }
+ * </pre>
+ * Hodnoty jsou nastavovány okamžitě, odloženy jsou pouze setter-listenery. Při uzavření transakce jsou setter-listenery každé
+ * dotčené Property provedeny nejvýše jednou, v pořadí, v jakém byly Properties poprvé nastaveny, a jako stará hodnota jim je předána
+ * hodnota, kterou Property měla před prvním nastavením v rámci transakce. Pokud se hodnota Property v souhrnu nezměnila
+ * (podle její <code>ChangePolicy</code>) a nebyl na ní zavolán <code>pretendSet</code>, listenery provedeny nejsou.
+ * Průchody bindovacím grafem, které by přitom jinak byly spouštěny po každé Property zvlášť, jsou provedeny až nakonec, pro každý {@link BindingExecutor} jednou.
+ * <p></p>
+ * Odloženy jsou i listenery s prioritou <code>ARG_GUARD</code> - hodnota nastavená uvnitř transakce tedy zůstává neověřená až do jejího uzavření.
+ * <p></p>
+ * Transakce lze zanořovat, listenery jsou provedeny až při uzavření té vnější. Listenery provedené při uzavření transakce již
+ * v transakci neběží - hodnoty, jež nastaví, šíří své změny okamžitě.
+ * Vyhodí-li listener některé Property výjimku, listenery zbylých Properties i odložené průchody bindovacím grafem jsou přesto provedeny
+ * a výjimka je vyhozena až poté.
+ * <p></p>
+ * Týká se všech Properties odvozených od kanonických abstraktních implementací (obecných, readonly i primitivních);
+ * writeonly Properties, které starou hodnotu nemají, provádějí své listenery vždy okamžitě.
+ * <p></p>
+ * Stejně jako zbytek knihovny není vláknově bezpečná - smí být používána pouze z vykreslovacího vlákna.
+ *
+ * @see com.markussecundus.forms.wrappers.property.binding.BinderListener
+ *
+ * @author MarkusSecundus
+ * */
+public final class PropertyTransaction implements AutoCloseable {
+
+    private PropertyTransaction(){}
+
+    /**
+     * Zahájí novou transakci.
+     *
+     * @return transakce, jejíž uzavření provede odložené setter-listenery
+     * */
+    public static PropertyTransaction begin(){
+        ++depth;
+        return new PropertyTransaction();
+    }
+
+    /**
+     * @return zda právě probíhá nějaká transakce a setter-listenery jsou tedy odkládány
+     * */
+    public static boolean isActive(){return depth > 0;}
+
+    /**
+     * Uzavře transakci. Jde-li o vnější transakci, provede všechny odložené setter-listenery a nakonec i odložené průchody bindovacím grafem.
+     * <p></p>
+     * Opakované volání nemá žádný efekt.
+     * */
+    @Override
+    public void close() {
+        if(closed)
+            return;
+        closed = true;
+        if(--depth > 0)
+            return;
+        commit();
+    }
+
+
+    /**
+     * Property, jejíž setter-listenery je možno odložit do konce transakce.
+     * <p></p>
+     * Implementováno vnitřními objekty kanonických implementací Properties; rovnost se posuzuje podle identity.
+     * */
+    public interface Participant{
+        /**
+         * Provede odložené setter-listenery.
+         *
+         * @param oldVal hodnota Property před prvním nastavením v rámci transakce
+         * */
+        public void execDeferredSetterListeners(Object oldVal);
+    }
+
+    /**
+     * Odloží provedení setter-listenerů dané Property do konce aktuální transakce.
+     * Pokud již odložené jsou, ponechá původní starou hodnotu.
+     * <p></p>
+     * Smí být voláno pouze, pokud {@link #isActive()}.
+     *
+     * @param property Property, jejíž listenery mají být odloženy
+     * @param oldVal hodnota Property před nastavením
+     * */
+    public static void deferSetterListeners(Participant property, Object oldVal){
+        if(!pending.containsKey(property))
+            pending.put(property, oldVal);
+    }
+
+    /**
+     * Pokud právě probíhá transakce nebo provádění jejích odložených listenerů, odloží průchod bindovacím grafem až na úplný konec.
+     *
+     * @param executor {@link BindingExecutor}, jehož průchod má být spuštěn
+     *
+     * @return zda byl průchod odložen; pokud ne, musí jej volající spustit sám
+     * */
+    public static boolean deferBindingRun(BindingExecutor executor){
+        if(depth <= 0 && !committing)
+            return false;
+        if(!pendingExecutors.contains(executor))
+            pendingExecutors.add(executor);
+        return true;
+    }
+
+
+//private:
+
+    private boolean closed = false;
+
+    private static int depth = 0;
+
+    private static boolean committing = false;
+
+    /**
+     * Properties s odloženými listenery a jejich původní hodnoty, v pořadí prvního nastavení.
+     * */
+    private static Map<Participant, Object> pending = new LinkedHashMap<>();
+
+    private static final List<BindingExecutor> pendingExecutors = new ArrayList<>();
+
+    private static void commit(){
+        if(pending.isEmpty() && pendingExecutors.isEmpty())
+            return;
+
+        Map<Participant, Object> toExec = pending;
+        pending = new LinkedHashMap<>();
+
+        boolean wasCommitting = committing;
+        RuntimeException failure = null;
+        try {
+            committing = true;
+            try {
+                for(Map.Entry<Participant, Object> e: toExec.entrySet()){
+                    try {
+                        e.getKey().execDeferredSetterListeners(e.getValue());
+                    }catch (RuntimeException ex){
+                        failure = addFailure(failure, ex);
+                    }
+                }
+            }finally {
+                committing = wasCommitting;
+            }
+
+            if(!wasCommitting){
+                while(!pendingExecutors.isEmpty()){
+                    try {
+                        pendingExecutors.remove(0).run();
+                    }catch (RuntimeException ex){
+                        failure = addFailure(failure, ex);
+                    }
+                }
+            }
+        }finally {
+            //ani po chybě nesmí odložené průchody zůstat viset do některé další, nesouvisející transakce
+            if(!wasCommitting)
+                pendingExecutors.clear();
+        }
+
+        if(failure != null)
+            throw failure;
+    }
+
+    private static RuntimeException addFailure(RuntimeException failure, RuntimeException ex){
+        if(failure == null)
+            return ex;
+        failure.addSuppressed(ex);
+        return failure;
+    }
+}
@@ -1,6 +1,7 @@
 package com.markussecundus.forms.wrappers.property;
 
 import com.markussecundus.forms.events.EventDelegate;
+import com.markussecundus.forms.events.TransientArgs;
 import com.markussecundus.forms.wrappers.ReadonlyWrapper;
 import com.markussecundus.forms.wrappers.Wrapper;
 
@@ -83,7 +84,7 @@ public interface ReadonlyProperty<T> extends ReadonlyWrapper<T>, ConstProperty<T
      *
      * @author MarkusSecundus
      * */
-    public static interface SetterListenerArgs<T>{
+    public static interface SetterListenerArgs<T> extends TransientArgs<SetterListenerArgs<T>>{
         /**
         * {@link ReadonlyProperty}, jejíž hodnota je čtena.
         *
@@ -107,6 +108,12 @@ public interface ReadonlyProperty<T> extends ReadonlyWrapper<T>, ConstProperty<T
          * */
         public ReadonlyWrapper<T> newVal();
 
+        /**
+         * {@inheritDoc}
+         * */
+        @Override
+        public default SetterListenerArgs<T> retain(){return this;}
+
         /**
          * Zkonstruuje instanci z daných argumentů.
          * */
@@ -119,6 +126,28 @@ public interface ReadonlyProperty<T> extends ReadonlyWrapper<T>, ConstProperty<T
 
         }
 
+        /**
+         * Znovupoužitelná instance argumentů pro setterové listenery jedné konkrétní Property.
+         *
+         * @see AbstractReusableSetterListenerArgs
+         * */
+        public static final class Reusable<T> extends AbstractReusableSetterListenerArgs<T, SetterListenerArgs<T>> implements SetterListenerArgs<T>{
+            /**
+             * @param caller Property, jíž budou argumenty náležet
+             * @param newVal wrapper, přes který lze přistupovat k vnitřní hodnotě Property bez spuštění listenerů
+             * */
+            public Reusable(ReadonlyProperty<T> caller, ReadonlyWrapper<T> newVal){this.caller = caller; this.newVal = newVal;}
+
+            public ReadonlyProperty<T> caller(){return caller;}
+            public ReadonlyWrapper<T> newVal(){return newVal;}
+
+            @Override protected SetterListenerArgs<T> make(T oldVal){return SetterListenerArgs.make(caller, oldVal, newVal);}
+            @Override protected SetterListenerArgs<T> self(){return this;}
+
+            private final ReadonlyProperty<T> caller;
+            private final ReadonlyWrapper<T> newVal;
+        }
+
 
     }
 
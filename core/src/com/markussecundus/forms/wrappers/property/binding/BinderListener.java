@@ -3,11 +3,12 @@ package com.markussecundus.forms.wrappers.property.binding;
 import com.markussecundus.forms.events.EventDelegate;
 import com.markussecundus.forms.events.EventListener;
 import com.markussecundus.forms.events.ListenerPriorities;
-import com.markussecundus.forms.utils.FormsUtil;
+import com.markussecundus.forms.wrappers.property.PropertyTransaction;
 import com.markussecundus.forms.wrappers.property.ReadonlyProperty;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 
 
@@ -40,11 +41,15 @@ public class BinderListener<T> implements EventListener<ReadonlyProperty.SetterL
     /**
      * Postaví novou instanci nad danými hodnotami.
      * <p>
-     * Pro seznam bindingů použije novou prázdnou kolekci.
+     * Pro seznam bindingů použije novou prázdnou množinu, která zachovává pořadí přidání a binding z ní odebere v konstantním čase
+     * - zrušení mnoha bindingů jedné zdrojové property tak nestojí kvadratický čas.
      *
      * @param executor Instance {@link BindingExecutor}u, skrze kterou je daný binding proveden.
      * */
-    public BinderListener(BindingExecutor executor){this(executor, new ArrayList<>());}
+    public BinderListener(BindingExecutor executor){
+        this.executor = executor;
+        this.bindings = new LinkedHashSet<>();
+    }
 
     /**
      * Instance {@link BindingExecutor}u, skrze kterou je daný binding proveden.
@@ -58,13 +63,16 @@ public class BinderListener<T> implements EventListener<ReadonlyProperty.SetterL
 
     /**
      * Zařadí přiřazené bindingy do fronty a spustí průchod bindovacím grafem, pokud ještě neprobíhá.
+     * <p>
+     * Během uzavírání {@link PropertyTransaction} je průchod odložen, aby byl proveden jen jednou, až na konci.
      * */
     @Override
     public boolean exec(ReadonlyProperty.SetterListenerArgs<?> e) {
         executor.setValueForActor((ReadonlyProperty)(e.caller()), e.newVal().get());
         for(Binding<T> bind: bindings)
             executor.commitBinding(bind);
-        executor.run();
+        if(!PropertyTransaction.deferBindingRun(executor))
+            executor.run();
         return true;
     }
 
@@ -80,13 +88,67 @@ public class BinderListener<T> implements EventListener<ReadonlyProperty.SetterL
      * @return instance {@link BinderListener}u příslušící danému {@link EventDelegate}.
      * */
     public static<T> BinderListener<T> findOrMakeIfNone(BindingExecutor exec, EventDelegate<? extends ReadonlyProperty.SetterListenerArgs<?>> delegate){
-        int i = delegate.getListeners(ListenerPriorities.BINDING_EXECUTOR).indexOf(FormsUtil.finder(listener->(listener instanceof BinderListener<?>) && ((BinderListener<?>)listener).executor == exec));
-        if(i == -1){
-             BinderListener<T> ret = new BinderListener<>(exec);
-             delegate.getListeners(ListenerPriorities.BINDING_EXECUTOR).add(ret);
-            return ret;
+        List<? extends EventListener<?>> bucket = delegate.getListeners(ListenerPriorities.BINDING_EXECUTOR);
+        for(int t = 0, size = bucket.size(); t < size; ++t){
+            EventListener<?> listener = bucket.get(t);
+            if(listener instanceof BinderListener<?> && ((BinderListener<?>)listener).executor == exec)
+                return (BinderListener<T>) listener;
+        }
+        BinderListener<T> ret = new BinderListener<>(exec);
+        delegate.getListeners(ListenerPriorities.BINDING_EXECUTOR).add(ret);
+        return ret;
+    }
+
+    /**
+     * Odebere daný binding z {@link BinderListener}u v daném delegátu, který jej obsahuje.
+     * Zůstane-li listener prázdný, odebere jej z delegáta.
+     * <p>
+     * Hledá pouze mezi listenery s prioritou <code>{@link ListenerPriorities}.BINDING_EXECUTOR</code>.
+     *
+     * @param binding odebíraný binding
+     * @param delegate prohledávaný delegát
+     *
+     * @return zda byl binding nalezen a odebrán
+     * */
+    public static boolean removeBinding(Binding<?> binding, EventDelegate<? extends ReadonlyProperty.SetterListenerArgs<?>> delegate){
+        List<? extends EventListener<?>> bucket = delegate.getListeners(ListenerPriorities.BINDING_EXECUTOR);
+        for(int t = 0, size = bucket.size(); t < size; ++t){
+            EventListener<?> listener = bucket.get(t);
+            if(listener instanceof BinderListener<?> && ((BinderListener<?>)listener).bindings.remove(binding)){
+                if(((BinderListener<?>)listener).bindings.isEmpty())
+                    bucket.remove(t);
+                return true;
+            }
         }
-        else
-            return (BinderListener<T>) delegate.getListeners(ListenerPriorities.BINDING_EXECUTOR).get(i);
+        return false;
+    }
+
+    /**
+     * Najde bindingy vedoucí z dané property, jež jsou prováděny skrze daný executor
+     * - a to i tehdy, je-li k bindingu použit executor, který na něj deleguje ({@link BindingExecutor.Delegating}).
+     *
+     * @param actor property, ze které bindingy vedou
+     * @param executor executor, který má bindingy provádět
+     *
+     * @return živá kolekce bindingů příslušného {@link BinderListener}u, případně prázdná kolekce, pokud žádný neexistuje
+     * */
+    static Collection<? extends Binding<?>> bindingsServedBy(Object actor, BindingExecutor executor){
+        if(!(actor instanceof ReadonlyProperty))
+            return Collections.emptyList();
+
+        for(EventListener<?> list: ((ReadonlyProperty<?>)actor).getSetterListeners().getListeners(ListenerPriorities.BINDING_EXECUTOR)){
+            if(list instanceof BinderListener && isServedBy(((BinderListener<?>)list).executor, executor))
+                return ((BinderListener<?>)list).bindings;
+        }
+        return Collections.emptyList();
+    }
+
+
+//private:
+
+    private static boolean isServedBy(BindingExecutor exec, BindingExecutor server){
+        while(exec instanceof BindingExecutor.Delegating && exec != server)
+            exec = ((BindingExecutor.Delegating)exec).getBase();
+        return exec == server;
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -54,4 +54,87 @@ public  class Binding<T>{
         return target.set(transform.apply(args));
     }
 
-}
\ No newline at end of file
+    /**
+     * Vypočítá hodnotu, které má nabýt cílová property, z hodnot zdrojových properties.
+     * <p>
+     * Výchozí implementace hodnoty zabalí do pole a předá je funkci <code>transform</code>.
+     * {@link Binding1}, {@link Binding2} a {@link Binding3} ji přetěžují tak, aby žádné pole alokovat nemusely.
+     *
+     * @param sourceValues funkce, která pro danou zdrojovou property vrátí její hodnotu
+     *
+     * @return nová hodnota cílové property
+     * */
+    public T computeValue(Function<ReadonlyProperty<?>, Object> sourceValues){
+        Object[] args = new Object[sources.length];
+        for(int t=0;t<args.length;++t)
+            args[t] = sourceValues.apply(sources[t]);
+        return transform.apply(args);
+    }
+
+    /**
+     * Nastaví hodnotu cílové property na hodnotu vypočítanou z hodnot zdrojových properties.
+     *
+     * @param sourceValues funkce, která pro danou zdrojovou property vrátí její hodnotu
+     * */
+    public T setValueOfTargetProperty(Function<ReadonlyProperty<?>, Object> sourceValues){
+        return target.set(computeValue(sourceValues));
+    }
+
+    /**
+     * Označí transformační funkci bindingu za čistou - její výsledek závisí pouze na hodnotách zdrojů, nemá vedlejší efekty
+     * a nepřistupuje k žádným properties ani jinému stavu knihovny. Taková funkce smí být vyhodnocena mimo vykreslovací vlákno.
+     * <p>
+     * Určeno k volání hned při vytvoření bindingu:
+     * <pre>
+     *     Bindings.bind(label.text(), v -&gt; String.format("%.2f km", v), distance).markPure();
+     * </pre>
+     *
+     * @return <code>this</code>
+     *
+     * @see ParallelBindingExecutor
+     * */
+    public Binding<T> markPure(){
+        isPure = true;
+        return this;
+    }
+
+    /**
+     * @return zda byla transformační funkce označena za čistou pomocí {@link #markPure()}
+     * */
+    public boolean isPure(){return isPure;}
+
+    /**
+     * Zruší binding - odebere jej z {@link BinderListener}ů všech jeho zdrojových properties, a listenery, které tak zůstanou prázdné,
+     * odebere z jejich delegátů.
+     * <p>
+     * Zrušený binding již nebude vyhodnocen, ani pokud na své vyhodnocení právě čeká v některém {@link BindingExecutor}u.
+     * Opakované volání nemá žádný efekt.
+     *
+     * @see Bindings#unbind(Binding)
+     * @see BindingGroup
+     * */
+    public void dispose(){
+        if(isDisposed)
+            return;
+        isDisposed = true;
+        for(ReadonlyProperty<?> src: sources)
+            BinderListener.removeBinding(this, src.getSetterListeners());
+    }
+
+    /**
+     * @return zda byl binding zrušen pomocí {@link #dispose()}
+     * */
+    public boolean isDisposed(){return isDisposed;}
+
+
+//private:
+
+    private boolean isDisposed = false, isPure = false;
+
+    /**
+     * Přetypuje hodnotu zdrojové property na typ, který pro ni deklaruje konkrétní {@link Binding1}, {@link Binding2} či {@link Binding3}.
+     * */
+    @SuppressWarnings("unchecked")  //hodnota pochází ze zdrojové property, jejíž typ je svázán s odpovídajícím typovým parametrem funkce
+    static<S> S sourceValue(Object value){ return (S)value; }
+
+}
\ No newline at end of file
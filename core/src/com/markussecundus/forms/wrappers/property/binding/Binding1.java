@@ -0,0 +1,49 @@
+package com.markussecundus.forms.wrappers.property.binding;
+
+import com.markussecundus.forms.utils.function.Function;
+import com.markussecundus.forms.wrappers.WriteonlyWrapper;
+import com.markussecundus.forms.wrappers.property.ReadonlyProperty;
+
+
+/**
+ * {@link Binding} s právě jednou zdrojovou property, jehož vyhodnocení nepotřebuje alokovat pole argumentů.
+ * <p>
+ * Vytvářen přetíženími <code>Bindings.bind</code> pro jeden zdroj.
+ *
+ * @param <T> typ cílové property
+ * @param <S1> typ zdrojové property
+ *
+ * @see Bindings
+ *
+ * @author MarkusSecundus
+ * */
+public class Binding1<T, S1> extends Binding<T> {
+
+    /**
+     * Vytvoří novou instanci nad odpovídajícími hodnotami.
+     *
+     * @param target Cílová property, do které vede bindovací hrana.
+     * @param function Funkce, která podle hodnot zdrojových properties vypočítá hodnotu, které má nabýt cílová property.
+     * @param source property, na níž cílová property závisí
+     * */
+    public Binding1(WriteonlyWrapper<T> target, Function<S1, T> function, ReadonlyProperty<S1> source){
+        super(target, arr->function.apply(sourceValue(arr[0])), new ReadonlyProperty<?>[]{source});
+        this.function = function;
+    }
+
+    /**
+     * Funkce, která podle hodnot zdrojových properties vypočítá hodnotu, které má nabýt cílová property.
+     * */
+    public final Function<S1, T> function;
+
+    @Override
+    public T computeValue(Function<ReadonlyProperty<?>, Object> sourceValues) {
+        return function.apply(sourceValue(sourceValues.apply(sources[0])));
+    }
+
+    @Override
+    public Binding1<T, S1> markPure() {
+        super.markPure();
+        return this;
+    }
+}
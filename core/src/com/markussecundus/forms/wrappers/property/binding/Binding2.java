@@ -0,0 +1,52 @@
+package com.markussecundus.forms.wrappers.property.binding;
+
+import com.markussecundus.forms.utils.function.BiFunction;
+import com.markussecundus.forms.utils.function.Function;
+import com.markussecundus.forms.wrappers.WriteonlyWrapper;
+import com.markussecundus.forms.wrappers.property.ReadonlyProperty;
+
+
+/**
+ * {@link Binding} s právě dvěma zdrojovými properties, jehož vyhodnocení nepotřebuje alokovat pole argumentů.
+ * <p>
+ * Vytvářen přetíženími <code>Bindings.bind</code> pro dva zdroje.
+ *
+ * @param <T> typ cílové property
+ * @param <S1> typ 1. zdrojové property
+ * @param <S2> typ 2. zdrojové property
+ *
+ * @see Bindings
+ *
+ * @author MarkusSecundus
+ * */
+public class Binding2<T, S1, S2> extends Binding<T> {
+
+    /**
+     * Vytvoří novou instanci nad odpovídajícími hodnotami.
+     *
+     * @param target Cílová property, do které vede bindovací hrana.
+     * @param function Funkce, která podle hodnot zdrojových properties vypočítá hodnotu, které má nabýt cílová property.
+     * @param source1 1. property, na níž cílová property závisí
+     * @param source2 2. property, na níž cílová property závisí
+     * */
+    public Binding2(WriteonlyWrapper<T> target, BiFunction<S1, S2, T> function, ReadonlyProperty<S1> source1, ReadonlyProperty<S2> source2){
+        super(target, arr->function.apply(sourceValue(arr[0]), sourceValue(arr[1])), new ReadonlyProperty<?>[]{source1, source2});
+        this.function = function;
+    }
+
+    /**
+     * Funkce, která podle hodnot zdrojových properties vypočítá hodnotu, které má nabýt cílová property.
+     * */
+    public final BiFunction<S1, S2, T> function;
+
+    @Override
+    public T computeValue(Function<ReadonlyProperty<?>, Object> sourceValues) {
+        return function.apply(sourceValue(sourceValues.apply(sources[0])), sourceValue(sourceValues.apply(sources[1])));
+    }
+
+    @Override
+    public Binding2<T, S1, S2> markPure() {
+        super.markPure();
+        return this;
+    }
+}
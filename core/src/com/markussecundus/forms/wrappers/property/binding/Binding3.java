@@ -0,0 +1,54 @@
+package com.markussecundus.forms.wrappers.property.binding;
+
+import com.markussecundus.forms.utils.function.TriFunction;
+import com.markussecundus.forms.utils.function.Function;
+import com.markussecundus.forms.wrappers.WriteonlyWrapper;
+import com.markussecundus.forms.wrappers.property.ReadonlyProperty;
+
+
+/**
+ * {@link Binding} s právě třemi zdrojovými properties, jehož vyhodnocení nepotřebuje alokovat pole argumentů.
+ * <p>
+ * Vytvářen přetíženími <code>Bindings.bind</code> pro tři zdroje.
+ *
+ * @param <T> typ cílové property
+ * @param <S1> typ 1. zdrojové property
+ * @param <S2> typ 2. zdrojové property
+ * @param <S3> typ 3. zdrojové property
+ *
+ * @see Bindings
+ *
+ * @author MarkusSecundus
+ * */
+public class Binding3<T, S1, S2, S3> extends Binding<T> {
+
+    /**
+     * Vytvoří novou instanci nad odpovídajícími hodnotami.
+     *
+     * @param target Cílová property, do které vede bindovací hrana.
+     * @param function Funkce, která podle hodnot zdrojových properties vypočítá hodnotu, které má nabýt cílová property.
+     * @param source1 1. property, na níž cílová property závisí
+     * @param source2 2. property, na níž cílová property závisí
+     * @param source3 3. property, na níž cílová property závisí
+     * */
+    public Binding3(WriteonlyWrapper<T> target, TriFunction<S1, S2, S3, T> function, ReadonlyProperty<S1> source1, ReadonlyProperty<S2> source2, ReadonlyProperty<S3> source3){
+        super(target, arr->function.apply(sourceValue(arr[0]), sourceValue(arr[1]), sourceValue(arr[2])), new ReadonlyProperty<?>[]{source1, source2, source3});
+        this.function = function;
+    }
+
+    /**
+     * Funkce, která podle hodnot zdrojových properties vypočítá hodnotu, které má nabýt cílová property.
+     * */
+    public final TriFunction<S1, S2, S3, T> function;
+
+    @Override
+    public T computeValue(Function<ReadonlyProperty<?>, Object> sourceValues) {
+        return function.apply(sourceValue(sourceValues.apply(sources[0])), sourceValue(sourceValues.apply(sources[1])), sourceValue(sourceValues.apply(sources[2])));
+    }
+
+    @Override
+    public Binding3<T, S1, S2, S3> markPure() {
+        super.markPure();
+        return this;
+    }
+}
@@ -17,6 +17,7 @@ import com.markussecundus.forms.wrappers.ReadonlyWrapper;
  *
  *
  * @see IBindingExecutor
+ * @see DeferredBindingExecutor
  *
  * @author MarkusSecundus
  *
@@ -53,16 +54,34 @@ public interface BindingExecutor {
     public void commitBinding(Binding<?> actor);
 
 
+    /**
+     * {@link BindingExecutor}, který samotný průchod grafem deleguje na jiný executor.
+     * <p></p>
+     * Executory, které potřebují poznat, zda binding obsluhují právě ony (např. {@link TopologicalBindingExecutor}),
+     * skrze něj vidí i přes obalující executory.
+     * */
+    public static interface Delegating extends BindingExecutor{
+        /**
+         * @return executor, na který je průchod grafem delegován
+         * */
+        public BindingExecutor getBase();
+    }
+
 
 
 
     
-    public static class Indirect implements BindingExecutor{
+    public static class Indirect implements Delegating{
 
         public Indirect(BindingExecutor base){this.base = base;}
 
         public BindingExecutor base;
 
+        @Override
+        public BindingExecutor getBase() {
+            return base;
+        }
+
         @Override
         public final void run() {
             base.run();
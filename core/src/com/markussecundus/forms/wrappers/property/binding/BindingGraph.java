@@ -0,0 +1,244 @@
+package com.markussecundus.forms.wrappers.property.binding;
+
+import com.markussecundus.forms.events.EventListener;
+import com.markussecundus.forms.events.ListenerPriorities;
+import com.markussecundus.forms.wrappers.property.ReadonlyProperty;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Snímek živého bindovacího grafu - vrcholy jsou properties, hrany {@link Binding}y.
+ * <p></p>
+ * Graf je zjištěn z {@link BinderListener}ů zadaných properties: obsahuje všechny bindingy, které z nich vedou, jejich cíle a zdroje,
+ * a rekurzivně totéž pro každou nově objevenou property. Binding, jehož žádný zdroj takto dosažitelný není, v grafu chybí.
+ * <p></p>
+ * Graf lze procházet přímo ({@link #getNodes()}, {@link #getBindings()}, {@link #outgoing(Object)}, {@link #incoming(Object)}),
+ * nebo vypsat ve formátu DOT ({@link #toDot()}) či JSON ({@link #toJson()}). Jsou-li pro bindingy zaznamenány {@link BindingMetrics},
+ * jsou součástí výpisu. Vrcholy i hrany jsou ve výpisech pojmenovány skrze {@link BindingMetrics#nameOf(Object)}.
+ * <p></p>
+ * Graf je snímkem - bindingy vzniklé po jeho sestavení v něm nejsou. Hodnoty properties nejsou při sestavování ani výpisu čteny.
+ *
+ * @see Bindings#graphOf(ReadonlyProperty[])
+ * @see BindingMetrics
+ *
+ * @author MarkusSecundus
+ * */
+public final class BindingGraph {
+
+    /**
+     * Sestaví graf dosažitelný z daných properties, skrze bindingy libovolného {@link BindingExecutor}u.
+     *
+     * @param roots properties, z nichž je graf prohledáván
+     *
+     * @return snímek bindovacího grafu
+     * */
+    public static BindingGraph of(ReadonlyProperty<?>... roots){return of(null, Arrays.asList(roots));}
+
+    /**
+     * Sestaví graf dosažitelný z daných properties, skrze bindingy daného {@link BindingExecutor}u.
+     *
+     * @param executor executor, jehož bindingy mají být zahrnuty, nebo <code>null</code> pro bindingy všech executorů
+     * @param roots properties, z nichž je graf prohledáván
+     *
+     * @return snímek bindovacího grafu
+     * */
+    public static BindingGraph of(BindingExecutor executor, Collection<? extends ReadonlyProperty<?>> roots){
+        BindingGraph ret = new BindingGraph();
+        for(ReadonlyProperty<?> root: roots)
+            ret.addNode(root);
+        for(int t = 0; t < ret.nodes.size(); ++t)
+            ret.explore(ret.nodes.get(t), executor);
+        return ret;
+    }
+
+
+    /**
+     * @return všechny properties v grafu, v pořadí, v jakém byly objeveny
+     * */
+    public List<Object> getNodes(){return Collections.unmodifiableList(nodes);}
+
+    /**
+     * @return všechny bindingy v grafu, v pořadí, v jakém byly objeveny
+     * */
+    public List<Binding<?>> getBindings(){return Collections.unmodifiableList(bindings);}
+
+    /**
+     * @return bindingy, jejichž zdrojem je daná property
+     * */
+    public List<Binding<?>> outgoing(Object node){return edgesOf(outgoing, node);}
+
+    /**
+     * @return bindingy, jejichž cílem je daná property
+     * */
+    public List<Binding<?>> incoming(Object node){return edgesOf(incoming, node);}
+
+    /**
+     * @return executor, skrze který je daný binding prováděn, nebo <code>null</code>, pokud binding v grafu není
+     * */
+    public BindingExecutor executorOf(Binding<?> binding){return executors.get(binding);}
+
+
+    /**
+     * Vypíše graf ve formátu DOT (Graphviz).
+     * <p>
+     * Properties jsou vypsány jako elipsy, bindingy jako obdélníky, do nichž vedou hrany ze zdrojů a z nichž vede hrana do cíle.
+     *
+     * @return textová reprezentace grafu
+     * */
+    public String toDot(){
+        StringBuilder ret = new StringBuilder("digraph bindings {\n    rankdir=LR;\n");
+        for(int t = 0; t < nodes.size(); ++t)
+            ret.append("    n").append(t).append(" [label=").append(quote(BindingMetrics.nameOf(nodes.get(t)))).append("];\n");
+        for(int t = 0; t < bindings.size(); ++t){
+            Binding<?> b = bindings.get(t);
+            String label = BindingMetrics.nameOf(b);
+            BindingMetrics.Stats s = BindingMetrics.statsOf(b);
+            if(s != null)
+                label += "\n" + s.evaluations + " evaluations, " + s.wastedEvaluations + " wasted, " + s.transformNanos + " ns";
+            ret.append("    b").append(t).append(" [shape=box, label=").append(quote(label)).append("];\n");
+            for(ReadonlyProperty<?> src: b.sources)
+                ret.append("    n").append(nodeIds.get(src)).append(" -> b").append(t).append(";\n");
+            ret.append("    b").append(t).append(" -> n").append(nodeIds.get(b.target)).append(";\n");
+        }
+        return ret.append("}\n").toString();
+    }
+
+    /**
+     * Vypíše graf ve formátu JSON.
+     * <p>
+     * Vrcholy jsou objekty <code>{"id", "name"}</code>, bindingy objekty <code>{"id", "name", "executor", "sources", "target"}</code>,
+     * kde <code>sources</code> a <code>target</code> jsou id vrcholů; jsou-li pro binding zaznamenány metriky, obsahuje navíc
+     * <code>"evaluations", "wastedEvaluations", "transformNanos"</code> a <code>"maxTransformNanos"</code>.
+     *
+     * @return textová reprezentace grafu
+     * */
+    public String toJson(){
+        StringBuilder ret = new StringBuilder("{\"nodes\":[");
+        for(int t = 0; t < nodes.size(); ++t){
+            if(t > 0) ret.append(',');
+            ret.append("{\"id\":").append(t).append(",\"name\":").append(quote(BindingMetrics.nameOf(nodes.get(t)))).append('}');
+        }
+        ret.append("],\"bindings\":[");
+        for(int t = 0; t < bindings.size(); ++t){
+            Binding<?> b = bindings.get(t);
+            if(t > 0) ret.append(',');
+            ret.append("{\"id\":").append(t)
+                    .append(",\"name\":").append(quote(BindingMetrics.nameOf(b)))
+                    .append(",\"executor\":").append(quote(BindingMetrics.nameOf(unwrap(executors.get(b)))))
+                    .append(",\"sources\":[");
+            for(int i = 0; i < b.sources.length; ++i){
+                if(i > 0) ret.append(',');
+                ret.append(nodeIds.get(b.sources[i]));
+            }
+            ret.append("],\"target\":").append(nodeIds.get(b.target));
+            BindingMetrics.Stats s = BindingMetrics.statsOf(b);
+            if(s != null){
+                ret.append(",\"evaluations\":").append(s.evaluations)
+                        .append(",\"wastedEvaluations\":").append(s.wastedEvaluations)
+                        .append(",\"transformNanos\":").append(s.transformNanos)
+                        .append(",\"maxTransformNanos\":").append(s.maxTransformNanos);
+            }
+            ret.append('}');
+        }
+        return ret.append("]}").toString();
+    }
+
+    @Override public String toString() {
+        return "BindingGraph(" + nodes.size() + " properties, " + bindings.size() + " bindings)";
+    }
+
+
+//private:
+
+    private BindingGraph(){}
+
+    private final List<Object> nodes = new ArrayList<>();
+
+    private final List<Binding<?>> bindings = new ArrayList<>();
+
+    private final Map<Object, Integer> nodeIds = new IdentityHashMap<>();
+
+    private final Map<Binding<?>, BindingExecutor> executors = new IdentityHashMap<>();
+
+    private final Map<Object, List<Binding<?>>> outgoing = new IdentityHashMap<>(), incoming = new IdentityHashMap<>();
+
+    private void addNode(Object node){
+        if(!nodeIds.containsKey(node)){
+            nodeIds.put(node, nodes.size());
+            nodes.add(node);
+        }
+    }
+
+    private void addBinding(Binding<?> b, BindingExecutor executor){
+        if(executors.containsKey(b))
+            return;
+        executors.put(b, executor);
+        bindings.add(b);
+        for(ReadonlyProperty<?> src: b.sources){
+            addNode(src);
+            edgesOrMake(outgoing, src).add(b);
+        }
+        addNode(b.target);
+        edgesOrMake(incoming, b.target).add(b);
+    }
+
+    private void explore(Object node, BindingExecutor executor){
+        if(!(node instanceof ReadonlyProperty))
+            return;
+        for(EventListener<?> list: ((ReadonlyProperty<?>)node).getSetterListeners().getListeners(ListenerPriorities.BINDING_EXECUTOR)){
+            if(!(list instanceof BinderListener))
+                continue;
+            BinderListener<?> binder = (BinderListener<?>)list;
+            if(executor != null && unwrap(binder.executor) != unwrap(executor))
+                continue;
+            for(Binding<?> b: binder.bindings)
+                addBinding(b, binder.executor);
+        }
+    }
+
+    private static BindingExecutor unwrap(BindingExecutor exec){
+        while(exec instanceof BindingExecutor.Indirect)
+            exec = ((BindingExecutor.Indirect)exec).base;
+        return exec;
+    }
+
+    private static List<Binding<?>> edgesOf(Map<Object, List<Binding<?>>> edges, Object node){
+        List<Binding<?>> ret = edges.get(node);
+        return ret == null ? Collections.emptyList() : Collections.unmodifiableList(ret);
+    }
+
+    private static List<Binding<?>> edgesOrMake(Map<Object, List<Binding<?>>> edges, Object node){
+        List<Binding<?>> ret = edges.get(node);
+        if(ret == null)
+            edges.put(node, ret = new ArrayList<>(2));
+        return ret;
+    }
+
+    /**
+     * @return řetězec jako literál ve formátu JSON, který je platný i ve formátu DOT
+     * */
+    private static String quote(String s){
+        StringBuilder ret = new StringBuilder(s.length() + 2).append('"');
+        for(int t = 0; t < s.length(); ++t){
+            char c = s.charAt(t);
+            switch(c){
+                case '"': ret.append("\\\""); break;
+                case '\\': ret.append("\\\\"); break;
+                case '\n': ret.append("\\n"); break;
+                default:
+                    if(c < 0x20)
+                        ret.append(String.format("\\u%04x", (int)c));
+                    else
+                        ret.append(c);
+            }
+        }
+        return ret.append('"').toString();
+    }
+}
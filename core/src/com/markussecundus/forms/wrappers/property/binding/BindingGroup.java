@@ -0,0 +1,163 @@
+package com.markussecundus.forms.wrappers.property.binding;
+
+import com.markussecundus.forms.extensibility.Extensible;
+import com.markussecundus.forms.extensibility.ExtensionType;
+import com.markussecundus.forms.extensibility.IExtensionType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Skupina {@link Binding}ů, které jsou zrušeny společně.
+ * <p></p>
+ * Určeno pro bindingy, jejichž platnost je svázána s životem nějakého objektu - typicky prvku formuláře, jehož properties jsou
+ * navázány na model. Skupinu připojenou k prvku skrze {@link #of(Extensible)} lze zrušit pomocí {@link #disposeAttached(Extensible)}.
+ * <p></p>
+ * Layouty ji mohou zrušit i samy, když je prvek odebrán z jejich potomků (ať už přímo, nebo spolu s některým ze svých předků)
+ * - ale pouze pokud si to skupina vyžádá skrze {@link #setDisposedOnRemoval(boolean)}. Layout totiž nepozná, zda prvek strom opouští,
+ * nebo je jen přeřazován či přesouván do jiného layoutu, a zrušené bindingy již obnovit nelze.
+ * Vhodné je to tedy jen pro prvky, které se nepřeřazují ani nepřesouvají:
+ * <pre>
+ *     BindingGroup group = BindingGroup.of(label);
+ *     group.setDisposedOnRemoval(true);
+ *     group.add(Bindings.bind(label.text(), v -&gt; "Hodnota: " + v, model.value));
+ * </pre>
+ * Skupiny lze zanořovat - zrušení skupiny zruší i všechny skupiny do ní přidané.
+ * Binding či skupina přidaná do již zrušené skupiny je zrušena okamžitě.
+ * <p></p>
+ * Stejně jako zbytek knihovny není vláknově bezpečná - smí být používána pouze z vykreslovacího vlákna.
+ *
+ * @see Binding#dispose()
+ * @see Bindings#unbind(Binding)
+ *
+ * @author MarkusSecundus
+ * */
+public class BindingGroup {
+//public:
+
+    /**
+     * Přidá binding do skupiny.
+     *
+     * @param binding binding, který má být zrušen spolu se skupinou
+     *
+     * @return předaný binding
+     * */
+    public <B extends Binding<?>> B add(B binding){
+        if(isDisposed)
+            binding.dispose();
+        else
+            bindings.add(binding);
+        return binding;
+    }
+
+    /**
+     * Přidá do skupiny jinou skupinu, která s ní bude zrušena.
+     *
+     * @param child vnořená skupina
+     *
+     * @return předaná skupina
+     * */
+    public BindingGroup add(BindingGroup child){
+        if(isDisposed)
+            child.dispose();
+        else
+            children.add(child);
+        return child;
+    }
+
+    /**
+     * Zruší všechny bindingy a vnořené skupiny, jež skupina obsahuje, a vyprázdní ji.
+     * Opakované volání nemá žádný efekt.
+     * */
+    public void dispose(){
+        if(isDisposed)
+            return;
+        isDisposed = true;
+        for(Binding<?> b: bindings)
+            b.dispose();
+        for(BindingGroup g: children)
+            g.dispose();
+        bindings.clear();
+        children.clear();
+    }
+
+    /**
+     * @return zda byla skupina zrušena
+     * */
+    public boolean isDisposed(){return isDisposed;}
+
+    /**
+     * @return počet bindingů přímo obsažených ve skupině
+     * */
+    public int size(){return bindings.size();}
+
+    /**
+     * @return zda má být skupina připojená k prvku zrušena, když je prvek odebrán z layoutu
+     *
+     * @see #disposeAttachedOnRemoval(Extensible)
+     * */
+    public boolean isDisposedOnRemoval(){return isDisposedOnRemoval;}
+
+    /**
+     * Nastaví, zda má být skupina připojená k prvku zrušena, když je prvek (nebo některý z jeho předků) odebrán z layoutu.
+     * <p>
+     * Výchozí hodnota je <code>false</code>. Zapínejte pouze pro prvky, které nejsou přeřazovány ani přesouvány mezi layouty
+     * - i taková změna je odebráním z layoutu a bindingy by byly zrušeny natrvalo.
+     *
+     * @param disposedOnRemoval zda má být skupina zrušena při odebrání prvku z layoutu
+     * */
+    public void setDisposedOnRemoval(boolean disposedOnRemoval){this.isDisposedOnRemoval = disposedOnRemoval;}
+
+
+    /**
+     * Vrátí skupinu připojenou k danému objektu, případně ji vytvoří.
+     * <p>
+     * Layouty ji zruší, když je daný prvek odebrán z jejich potomků, pouze pokud si to vyžádá skrze {@link #setDisposedOnRemoval(boolean)}.
+     *
+     * @param owner objekt, s jehož životem je skupina svázána
+     *
+     * @return skupina připojená k danému objektu
+     * */
+    public static BindingGroup of(Extensible owner){return owner.getExtension(ATTACHED_GROUP);}
+
+    /**
+     * Zruší skupinu připojenou k danému objektu, pokud nějaká existuje, a odpojí ji od něj.
+     * Následné volání {@link #of(Extensible)} tak vytvoří skupinu novou.
+     *
+     * @param owner objekt, jehož skupina má být zrušena
+     * */
+    public static void disposeAttached(Extensible owner){
+        Object group = owner.getExtensionsMap().remove(ATTACHED_GROUP);
+        if(group != null)
+            ((BindingGroup)group).dispose();
+    }
+
+    /**
+     * Zruší skupinu připojenou k danému objektu, pokud nějaká existuje a vyžádala si to skrze {@link #setDisposedOnRemoval(boolean)}.
+     * <p>
+     * Voláno layouty pro odebíraného potomka a všechny jeho potomky.
+     *
+     * @param owner objekt, který byl odebrán z layoutu
+     * */
+    public static void disposeAttachedOnRemoval(Extensible owner){
+        Object group = owner.getExtensionsMap().get(ATTACHED_GROUP);
+        if(group != null && ((BindingGroup)group).isDisposedOnRemoval())
+            disposeAttached(owner);
+    }
+
+
+//private:
+
+    private boolean isDisposed = false, isDisposedOnRemoval = false;
+
+    private final List<Binding<?>> bindings = new ArrayList<>();
+
+    private final List<BindingGroup> children = new ArrayList<>(0);
+
+    private static final ExtensionType<BindingGroup> ATTACHED_GROUP = new IExtensionType<BindingGroup>() {
+        @Override public BindingGroup createInstance(Extensible e) {
+            return new BindingGroup();
+        }
+    };
+}
@@ -0,0 +1,213 @@
+package com.markussecundus.forms.wrappers.property.binding;
+
+import com.markussecundus.forms.utils.FormsUtil;
+import com.markussecundus.forms.utils.function.Function;
+import com.markussecundus.forms.wrappers.ReadonlyWrapper;
+import com.markussecundus.forms.wrappers.property.ReadonlyProperty;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+
+/**
+ * Statický registr metrik vyhodnocování {@link Binding}ů.
+ * <p></p>
+ * Je-li zapnut, zaznamenává pro každý binding, kolikrát byl vyhodnocen, kolik z těchto vyhodnocení bylo zbytečných (nová hodnota
+ * cílové property se podle <code>equals</code> shodovala s tou dosavadní) a kolik času zabrala transformační funkce.
+ * Spolu s {@link BindingGraph} tak umožňuje dohledat, proč jediná změna vyvolává nečekaně mnoho přepočtů.
+ * <pre>
+ *     BindingMetrics.setEnabled(true);
+ *     slider.setValue(0.5f);
+ *     for(BindingMetrics.Stats s: BindingMetrics.top(10)) System.out.println(s);
+ * </pre>
+ * Kvůli detekci zbytečných vyhodnocení je před každým nastavením přečtena dosavadní hodnota cílové property, je-li čitelná
+ * - zapnutý registr tedy navíc provádí její getter-listenery.
+ * <p></p>
+ * Je-li vypnut (výchozí stav), kontrolují executory pouze jediný statický příznak a nic nezaznamenávají.
+ * Metriky hlásí kanonické implementace {@link BindingExecutor}u; vlastní implementace tak mohou činit skrze {@link #computeValue(Binding, Function)}
+ * a {@link #recordUnchanged(Binding)}, příp. {@link #setValueOfTargetProperty(Binding, Function)}.
+ * <p></p>
+ * Stejně jako zbytek knihovny není vláknově bezpečný - smí být používán pouze z vykreslovacího vlákna.
+ *
+ * @see BindingGraph
+ *
+ * @author MarkusSecundus
+ * */
+public final class BindingMetrics {
+    private BindingMetrics(){}
+
+    /**
+     * @return zda jsou metriky zaznamenávány
+     * */
+    public static boolean isEnabled(){return enabled;}
+
+    /**
+     * Zapne či vypne zaznamenávání metrik.
+     * <p>
+     * Vypnutí zahodí všechny dosud zaznamenané metriky.
+     * */
+    public static void setEnabled(boolean enabled){
+        BindingMetrics.enabled = enabled;
+        if(!enabled)
+            reset();
+    }
+
+    /**
+     * Zahodí všechny dosud zaznamenané metriky.
+     * */
+    public static void reset(){
+        stats.clear();
+    }
+
+    /**
+     * Přiřadí danému bindingu či property čitelné jméno, které bude místo názvu třídy použito ve výpisech metrik i v exportu {@link BindingGraph}.
+     *
+     * @param bindingOrProperty pojmenovávaný objekt
+     * @param label jméno, jež má být použito ve výpisech
+     *
+     * @return <code>bindingOrProperty</code>, pro pohodlí
+     * */
+    public static <T> T label(T bindingOrProperty, String label){
+        labels.put(bindingOrProperty, label);
+        return bindingOrProperty;
+    }
+
+    /**
+     * @return jméno přiřazené skrze {@link #label(Object, String)}, nebo název třídy a identitní hash objektu
+     * */
+    public static String nameOf(Object o){
+        String ret = labels.get(o);
+        return ret != null ? ret : o.getClass().getSimpleName() + "@" + Integer.toHexString(System.identityHashCode(o));
+    }
+
+    /**
+     * @return metriky daného bindingu, nebo <code>null</code>, pokud pro něj žádné zaznamenány nebyly
+     * */
+    public static Stats statsOf(Binding<?> binding){return stats.get(binding);}
+
+    /**
+     * @param n maximální počet vrácených bindingů
+     *
+     * @return <code>n</code> nejčastěji vyhodnocovaných bindingů, sestupně podle počtu vyhodnocení
+     * */
+    public static List<Stats> top(int n){
+        List<Stats> ret = new ArrayList<>(stats.values());
+        Collections.sort(ret, BY_EVALUATIONS_DESC);
+        return ret.size() > n ? new ArrayList<>(ret.subList(0, Math.max(n, 0))) : ret;
+    }
+
+
+    /**
+     * Metriky jednoho bindingu.
+     * */
+    public static class Stats{
+        Stats(Binding<?> binding){this.name = nameOf(binding);}
+
+        /**
+         * Jméno bindingu, nebo název jeho třídy, pokud žádné nemá.
+         * */
+        public final String name;
+
+        /**
+         * Počet vyhodnocení.
+         * */
+        public int evaluations;
+
+        /**
+         * Počet vyhodnocení, jejichž výsledek se shodoval s dosavadní hodnotou cílové property.
+         * */
+        public int wastedEvaluations;
+
+        /**
+         * Celková doba běhu transformační funkce, v nanosekundách.
+         * */
+        public long transformNanos;
+
+        /**
+         * Doba nejdelšího jednotlivého běhu transformační funkce, v nanosekundách.
+         * */
+        public long maxTransformNanos;
+
+        @Override public String toString() {
+            return String.format("%s: %d evaluations, %d wasted, %d ns in transform, %d ns max", name, evaluations, wastedEvaluations, transformNanos, maxTransformNanos);
+        }
+    }
+
+
+    /**
+     * Vypočítá novou hodnotu cílové property bindingu skrze {@link Binding#computeValue(Function)} a zaznamená jeho vyhodnocení.
+     *
+     * @param binding vyhodnocovaný binding
+     * @param sourceValues funkce, která pro danou zdrojovou property vrátí její hodnotu
+     *
+     * @return nová hodnota cílové property
+     * */
+    public static <T> T computeValue(Binding<T> binding, Function<ReadonlyProperty<?>, Object> sourceValues){
+        if(!enabled)
+            return binding.computeValue(sourceValues);
+
+        long begin = System.nanoTime();
+        try {
+            return binding.computeValue(sourceValues);
+        }finally {
+            long nanos = System.nanoTime() - begin;
+            Stats s = obtainStats(binding);
+            ++s.evaluations;
+            s.transformNanos += nanos;
+            if(nanos > s.maxTransformNanos)
+                s.maxTransformNanos = nanos;
+        }
+    }
+
+    /**
+     * Zaznamená, že poslední vyhodnocení bindingu bylo zbytečné, protože se jeho výsledek shodoval s dosavadní hodnotou cíle.
+     *
+     * @param binding vyhodnocený binding
+     * */
+    public static void recordUnchanged(Binding<?> binding){
+        if(enabled)
+            ++obtainStats(binding).wastedEvaluations;
+    }
+
+    /**
+     * Obdoba {@link Binding#setValueOfTargetProperty(Function)}, která zaznamená metriky vyhodnocení.
+     *
+     * @param binding vyhodnocovaný binding
+     * @param sourceValues funkce, která pro danou zdrojovou property vrátí její hodnotu
+     *
+     * @return výsledek nastavení cílové property
+     * */
+    public static <T> T setValueOfTargetProperty(Binding<T> binding, Function<ReadonlyProperty<?>, Object> sourceValues){
+        if(!enabled)
+            return binding.setValueOfTargetProperty(sourceValues);
+
+        boolean isReadable = binding.target instanceof ReadonlyWrapper;
+        Object oldVal = isReadable ? ((ReadonlyWrapper<?>)binding.target).get() : null;
+        T newVal = computeValue(binding, sourceValues);
+        if(isReadable && FormsUtil.equals(oldVal, newVal))
+            recordUnchanged(binding);
+        return binding.target.set(newVal);
+    }
+
+
+//private:
+
+    private static boolean enabled = false;
+
+    private static final Map<Binding<?>, Stats> stats = new WeakHashMap<>();
+
+    private static final Map<Object, String> labels = new WeakHashMap<>();
+
+    private static final Comparator<Stats> BY_EVALUATIONS_DESC = (a, b) -> Integer.compare(b.evaluations, a.evaluations);
+
+    private static Stats obtainStats(Binding<?> binding){
+        Stats ret = stats.get(binding);
+        if(ret == null)
+            stats.put(binding, ret = new Stats(binding));
+        return ret;
+    }
+}
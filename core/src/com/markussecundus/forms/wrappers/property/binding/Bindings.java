@@ -8,6 +8,8 @@ import com.markussecundus.forms.wrappers.WriteonlyWrapper;
 import com.markussecundus.forms.wrappers.property.Property;
 import com.markussecundus.forms.wrappers.property.ReadonlyProperty;
 
+import java.util.Arrays;
+
 
 /**
  * Statická třída sdružující funkce pro bindování Properties.
@@ -28,10 +30,10 @@ public class Bindings {
      * @param source property, na níž má cílová property nově být závislá
      * @param transform funkce, která bude z hodnot zdrojové property vytahovat hodnotu, na kterou má být nastavena závislá property
      *
-     * @return nově vytvořený {@link Binding}
+     * @return nově vytvořený {@link Binding1}
      * */
-    public static<T1, T2> Binding<T1> bind(BindingExecutor executor, WriteonlyWrapper<T1> target, Function<T2, T1> transform, ReadonlyProperty<T2> source){
-        return bind(executor, target, arr->transform.apply((T2)(arr[0])), new ReadonlyProperty<?>[]{source});
+    public static<T1, T2> Binding1<T1, T2> bind(BindingExecutor executor, WriteonlyWrapper<T1> target, Function<T2, T1> transform, ReadonlyProperty<T2> source){
+        return bind(executor, new Binding1<>(target, transform, source));
     }
 
     /**
@@ -43,10 +45,10 @@ public class Bindings {
      * @param source2 property, na níž má cílová property nově být závislá
      * @param transform funkce, která bude z hodnot zdrojových properties vytahovat hodnotu, na kterou má být nastavena závislá property
      *
-     * @return nově vytvořený {@link Binding}
+     * @return nově vytvořený {@link Binding2}
      * */
-    public static<T1, T2, T3> Binding<T1> bind(BindingExecutor executor, WriteonlyWrapper<T1> target, BiFunction<T2, T3, T1> transform, ReadonlyProperty<T2> source1, ReadonlyProperty<T3> source2){
-        return bind(executor, target, arr->transform.apply((T2)(arr[0]),((T3)(arr[1]))), new ReadonlyProperty<?>[]{source1, source2});
+    public static<T1, T2, T3> Binding2<T1, T2, T3> bind(BindingExecutor executor, WriteonlyWrapper<T1> target, BiFunction<T2, T3, T1> transform, ReadonlyProperty<T2> source1, ReadonlyProperty<T3> source2){
+        return bind(executor, new Binding2<>(target, transform, source1, source2));
     }
 
 
@@ -60,10 +62,10 @@ public class Bindings {
      * @param source3 property, na níž má cílová property nově být závislá
      * @param transform funkce, která bude z hodnot zdrojových properties vytahovat hodnotu, na kterou má být nastavena závislá property
      *
-     * @return nově vytvořený {@link Binding}
+     * @return nově vytvořený {@link Binding3}
      * */
-    public static<T1, T2, T3, T4> Binding<T1> bind(BindingExecutor executor, WriteonlyWrapper<T1> target, TriFunction<T2, T3, T4, T1> transform, ReadonlyProperty<T2> source1, ReadonlyProperty<T3> source2, ReadonlyProperty<T4> source3){
-        return bind(executor, target, arr->transform.apply((T2)(arr[0]),((T3)(arr[1])),((T4)(arr[2]))), new ReadonlyProperty<?>[]{source1, source2, source3});
+    public static<T1, T2, T3, T4> Binding3<T1, T2, T3, T4> bind(BindingExecutor executor, WriteonlyWrapper<T1> target, TriFunction<T2, T3, T4, T1> transform, ReadonlyProperty<T2> source1, ReadonlyProperty<T3> source2, ReadonlyProperty<T4> source3){
+        return bind(executor, new Binding3<>(target, transform, source1, source2, source3));
     }
 
 
@@ -83,14 +85,40 @@ public class Bindings {
      * @return nově vytvořený {@link Binding}
      * */
     public static <T> Binding<T> bind(BindingExecutor executor, WriteonlyWrapper<T> target, Function<Object[], T> transform, ReadonlyProperty<?>[] sources){
-        Binding<T> binding = new Binding<>(target, transform, sources);
+        return bind(executor, new Binding<>(target, transform, sources));
+    }
 
-        for(ReadonlyProperty<?> src: sources) {
+    /**
+     * Zaregistruje již vytvořený binding u všech jeho zdrojových properties.
+     *
+     * @param executor instance {@link BindingExecutor}u, která bude mít na starosti provedení bindingu
+     * @param binding binding, který má začít platit
+     *
+     * @return předaný binding
+     * */
+    public static <T, B extends Binding<T>> B bind(BindingExecutor executor, B binding){
+        if(binding.isDisposed())
+            throw new IllegalStateException("Cannot bind an already disposed Binding!");
+        for(ReadonlyProperty<?> src: binding.sources) {
             BinderListener.<T>findOrMakeIfNone(executor, src.getSetterListeners()).bindings.add(binding);
         }
         return binding;
     }
 
+    /**
+     * Zruší binding - odebere jej ze všech jeho zdrojových properties.
+     * <p>
+     * Ekvivalentní s <code>binding.dispose()</code>.
+     *
+     * @param binding binding, který má přestat platit
+     *
+     * @see Binding#dispose()
+     * @see BindingGroup
+     * */
+    public static void unbind(Binding<?> binding){
+        binding.dispose();
+    }
+
 
 
 
@@ -105,9 +133,9 @@ public class Bindings {
      * @param source property, na níž má cílová property nově být závislá
      * @param transform funkce, která bude z hodnot zdrojové property vytahovat hodnotu, na kterou má být nastavena závislá property
      *
-     * @return nově vytvořený {@link Binding}
+     * @return nově vytvořený {@link Binding1}
      * */
-    public static<T1, T2> Binding<T1> bind(WriteonlyWrapper<T1> target, Function<T2, T1> transform, ReadonlyProperty<T2> source){
+    public static<T1, T2> Binding1<T1, T2> bind(WriteonlyWrapper<T1> target, Function<T2, T1> transform, ReadonlyProperty<T2> source){
         return bind(BindingExecutor.DEFAULT, target, transform, source);
     }
     /**
@@ -152,9 +180,9 @@ public class Bindings {
      * @param source2 property, na níž má cílová property nově být závislá
      * @param transform funkce, která bude z hodnot zdrojových properties vytahovat hodnotu, na kterou má být nastavena závislá property
      *
-     * @return nově vytvořený {@link Binding}
+     * @return nově vytvořený {@link Binding2}
      * */
-    public static<T1,T2, T3> Binding<T1> bind(WriteonlyWrapper<T1> target, BiFunction<T2, T3, T1> transform, ReadonlyProperty<T2> source1, ReadonlyProperty<T3> source2){
+    public static<T1,T2, T3> Binding2<T1, T2, T3> bind(WriteonlyWrapper<T1> target, BiFunction<T2, T3, T1> transform, ReadonlyProperty<T2> source1, ReadonlyProperty<T3> source2){
         return bind(BindingExecutor.DEFAULT, target, transform, source1, source2);
     }
     /**
@@ -168,9 +196,9 @@ public class Bindings {
      * @param source3 property, na níž má cílová property nově být závislá
      * @param transform funkce, která bude z hodnot zdrojových properties vytahovat hodnotu, na kterou má být nastavena závislá property
      *
-     * @return nově vytvořený {@link Binding}
+     * @return nově vytvořený {@link Binding3}
      * */
-    public static<T1, T2, T3, T4> Binding<T1> bind(WriteonlyWrapper<T1> target, TriFunction<T2, T3, T4, T1> transform, ReadonlyProperty<T2> source1, ReadonlyProperty<T3> source2, ReadonlyProperty<T4> source3){
+    public static<T1, T2, T3, T4> Binding3<T1, T2, T3, T4> bind(WriteonlyWrapper<T1> target, TriFunction<T2, T3, T4, T1> transform, ReadonlyProperty<T2> source1, ReadonlyProperty<T3> source2, ReadonlyProperty<T4> source3){
         return bind(BindingExecutor.DEFAULT, target, transform, source1, source2, source3);
     }
 
@@ -208,10 +236,13 @@ public class Bindings {
      * @param conv1to2 funkce, jež z hodnoty 1. property určí novou hodnotu pro 2. property
      * @param conv2to1 funkce, jež z hodnoty 2. property určí novou hodnotu pro 1. property
      *
+     * @return skupina obou vytvořených {@link Binding}ů, jejímž zrušením je vazba zrušena
      * */
-    public static<T1, T2> void bindBidirectional(BindingExecutor executor, Property<T1> prop1, Property<T2> prop2, Function<T1, T2> conv1to2, Function<T2,T1> conv2to1){
-        bind(executor, prop2, conv1to2, prop1);
-        bind(executor, prop1, conv2to1, prop2);
+    public static<T1, T2> BindingGroup bindBidirectional(BindingExecutor executor, Property<T1> prop1, Property<T2> prop2, Function<T1, T2> conv1to2, Function<T2,T1> conv2to1){
+        BindingGroup ret = new BindingGroup();
+        ret.add(bind(executor, prop2, conv1to2, prop1));
+        ret.add(bind(executor, prop1, conv2to1, prop2));
+        return ret;
     }
 
     /**
@@ -223,9 +254,10 @@ public class Bindings {
      * @param prop2 druhá z dvojice properties, jež budou vzájemně navázány
      * @param conv funkce, jež při změně jedné property určí, jaké hodnoty má nabýt hodnota druhá
      *
+     * @return skupina obou vytvořených {@link Binding}ů, jejímž zrušením je vazba zrušena
      * */
-    public static<T> void bindBidirectional(BindingExecutor executor, Property<T> prop1, Property<T> prop2, Function<T,T> conv){
-        bindBidirectional(executor, prop1, prop2, conv, conv);
+    public static<T> BindingGroup bindBidirectional(BindingExecutor executor, Property<T> prop1, Property<T> prop2, Function<T,T> conv){
+        return bindBidirectional(executor, prop1, prop2, conv, conv);
     }
 
     /**
@@ -236,9 +268,11 @@ public class Bindings {
      * @param executor instance {@link BindingExecutor}u, která bude mít na starosti provedení bindingu
      * @param prop1 první z dvojice properties, jež budou vzájemně navázány
      * @param prop2 druhá z dvojice properties, jež budou vzájemně navázány
+     *
+     * @return skupina obou vytvořených {@link Binding}ů, jejímž zrušením je vazba zrušena
      * */
-    public static<T> void bindBidirectional(BindingExecutor executor, Property<T> prop1, Property<T> prop2){
-        bindBidirectional(executor, prop1, prop2, FormsUtil.identity());
+    public static<T> BindingGroup bindBidirectional(BindingExecutor executor, Property<T> prop1, Property<T> prop2){
+        return bindBidirectional(executor, prop1, prop2, FormsUtil.identity());
     }
 
 
@@ -254,9 +288,10 @@ public class Bindings {
      * @param conv1to2 funkce, jež z hodnoty 1. property určí novou hodnotu pro 2. property
      * @param conv2to1 funkce, jež z hodnoty 2. property určí novou hodnotu pro 1. property
      *
+     * @return skupina obou vytvořených {@link Binding}ů, jejímž zrušením je vazba zrušena
      * */
-    public static<T1, T2> void bindBidirectional(Property<T1> prop1, Property<T2> prop2, Function<T1, T2> conv1to2, Function<T2,T1> conv2to1){
-        bindBidirectional(BindingExecutor.DEFAULT, prop1, prop2, conv1to2, conv2to1);
+    public static<T1, T2> BindingGroup bindBidirectional(Property<T1> prop1, Property<T2> prop2, Function<T1, T2> conv1to2, Function<T2,T1> conv2to1){
+        return bindBidirectional(BindingExecutor.DEFAULT, prop1, prop2, conv1to2, conv2to1);
     }
 
 
@@ -270,9 +305,10 @@ public class Bindings {
      * @param prop2 druhá z dvojice properties, jež budou vzájemně navázány
      * @param conv funkce, jež při změně jedné property určí, jaké hodnoty má nabýt hodnota druhá
      *
+     * @return skupina obou vytvořených {@link Binding}ů, jejímž zrušením je vazba zrušena
      * */
-    public static<T> void bindBidirectional( Property<T> prop1, Property<T> prop2, Function<T,T> conv){
-        bindBidirectional(BindingExecutor.DEFAULT, prop1, prop2, conv);
+    public static<T> BindingGroup bindBidirectional( Property<T> prop1, Property<T> prop2, Function<T,T> conv){
+        return bindBidirectional(BindingExecutor.DEFAULT, prop1, prop2, conv);
     }
 
 
@@ -286,9 +322,37 @@ public class Bindings {
      *
      * @param prop1 první z dvojice properties, jež budou vzájemně navázány
      * @param prop2 druhá z dvojice properties, jež budou vzájemně navázány
+     *
+     * @return skupina obou vytvořených {@link Binding}ů, jejímž zrušením je vazba zrušena
+     * */
+    public static<T> BindingGroup bindBidirectional(Property<T> prop1, Property<T> prop2){
+        return bindBidirectional(BindingExecutor.DEFAULT, prop1, prop2);
+    }
+
+
+    /**
+     * Sestaví snímek bindovacího grafu dosažitelného z daných properties, skrze bindingy libovolného {@link BindingExecutor}u.
+     *
+     * @param roots properties, z nichž je graf prohledáván
+     *
+     * @return snímek bindovacího grafu, který lze procházet nebo vypsat ve formátu DOT či JSON
+     *
+     * @see BindingMetrics
+     * */
+    public static BindingGraph graphOf(ReadonlyProperty<?>... roots){
+        return BindingGraph.of(roots);
+    }
+
+    /**
+     * Sestaví snímek bindovacího grafu dosažitelného z daných properties, skrze bindingy daného {@link BindingExecutor}u.
+     *
+     * @param executor executor, jehož bindingy mají být zahrnuty
+     * @param roots properties, z nichž je graf prohledáván
+     *
+     * @return snímek bindovacího grafu, který lze procházet nebo vypsat ve formátu DOT či JSON
      * */
-    public static<T> void bindBidirectional(Property<T> prop1, Property<T> prop2){
-        bindBidirectional(BindingExecutor.DEFAULT, prop1, prop2);
+    public static BindingGraph graphOf(BindingExecutor executor, ReadonlyProperty<?>... roots){
+        return BindingGraph.of(executor, Arrays.asList(roots));
     }
 
 
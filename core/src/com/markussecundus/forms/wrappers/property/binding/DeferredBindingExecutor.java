@@ -0,0 +1,223 @@
+package com.markussecundus.forms.wrappers.property.binding;
+
+import com.markussecundus.forms.wrappers.ReadonlyWrapper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * {@link BindingExecutor}, který průchod bindovacím grafem neprovádí hned při změně zdrojové property, ale až jednou za snímek.
+ * <p></p>
+ * Během snímku si pouze pamatuje změněné zdrojové properties a bindingy, které z nich vedou. Ty předá podkladovému executoru
+ * až ve {@link #flushAll()}, kterou volá <code>BasicFormApplication.render</code> jednou za snímek před vykreslením formuláře.
+ * Zdroj, který se během snímku změní mnohokrát, tak stojí jediné vyhodnocení každého z jeho bindingů, a to z jeho hodnoty na konci snímku.
+ * <p></p>
+ * Změněné zdroje jsou přehrány v pořadí, v jakém byly naposledy nastaveny - každý v samostatném průchodu podkladového executoru,
+ * a bindingy mířící do zdroje, který byl nastaven později a na přehrání teprve čeká, jsou vynechány.
+ * Vyhrává tak poslední zápis, stejně jako při okamžitém vyhodnocení - změní-li se během snímku obě strany obousměrného bindingu,
+ * skončí obě na hodnotě té, která byla nastavena později.
+ * <p></p>
+ * Až do té doby vázané properties drží své staré hodnoty - kód, který potřebuje výsledek bindingu hned, si jej může vynutit pomocí {@link #flushNow()}.
+ * <p></p>
+ * Jako výchozí executor se instaluje skrze {@link BindingExecutor#setDefault(BindingExecutor)}:
+ * <pre>
+ *     BindingExecutor.setDefault(new DeferredBindingExecutor());
+ * </pre>
+ * Stejně jako zbytek knihovny není vláknově bezpečný - smí být používán pouze z vykreslovacího vlákna.
+ *
+ * @see BindingExecutor
+ * @see IBindingExecutor
+ *
+ * @author MarkusSecundus
+ * */
+public class DeferredBindingExecutor implements BindingExecutor.Delegating {
+//public:
+
+    /**
+     * Vytvoří executor, který odložené průchody provádí skrze novou instanci {@link IBindingExecutor}.
+     * */
+    public DeferredBindingExecutor(){this(new IBindingExecutor());}
+
+    /**
+     * Vytvoří executor, který odložené průchody provádí skrze daný executor.
+     *
+     * @param base executor, který provede samotný průchod grafem
+     * */
+    public DeferredBindingExecutor(BindingExecutor base){
+        if(base == null)
+            throw new NullPointerException("Base BindingExecutor must not be null!");
+        this.base = base;
+    }
+
+    /**
+     * @return executor, který provádí samotné průchody grafem
+     * */
+    @Override
+    public BindingExecutor getBase(){return base;}
+
+
+    /**
+     * Mimo {@link #flushNow()} nedělá nic - průchod je odložen na konec snímku.
+     * */
+    @Override
+    public void run() {
+        if(isFlushing)
+            base.run();
+    }
+
+    /**
+     * Mimo {@link #flushNow()} si pouze poznamená, že se daná property změnila - její hodnota bude přečtena až při provádění průchodu.
+     * */
+    @Override
+    public <T> void setValueForActor(ReadonlyWrapper<? super T> actor, T value) {
+        if(isFlushing){
+            base.setValueForActor(actor, value);
+            return;
+        }
+        lastWritten = dirtySources.get(actor);
+        if(lastWritten == null){
+            dirtySources.put(actor, lastWritten = new DirtySource(actor));
+            markPending();
+        }
+        lastWritten.writeOrder = ++writeCounter;
+    }
+
+    /**
+     * Mimo {@link #flushNow()} přiřadí binding k naposledy nastavenému zdroji - {@link BinderListener} jej zařazuje hned po jeho nastavení.
+     * Během průchodu vynechá bindingy, jejichž cílem je zdroj, který na své přehrání teprve čeká.
+     * */
+    @Override
+    public void commitBinding(Binding<?> actor) {
+        if(isFlushing){
+            DirtySource target = replaying.get(actor.target);
+            if(target == null || target.isReplayed)
+                base.commitBinding(actor);
+        }else if(lastWritten != null){
+            lastWritten.bindings.put(actor, Boolean.TRUE);
+        }else if(looseBindings.put(actor, Boolean.TRUE) == null)
+            markPending();
+    }
+
+
+    /**
+     * @return zda executor čeká na provedení nějakého průchodu
+     * */
+    public boolean hasPending(){return !dirtySources.isEmpty() || !looseBindings.isEmpty();}
+
+    /**
+     * Okamžitě provede odložený průchod bindovacím grafem.
+     * <p></p>
+     * Změny vyvolané během průchodu jsou zpracovány ještě v rámci něj.
+     * */
+    public void flushNow(){
+        if(isFlushing || !hasPending())
+            return;
+
+        DirtySource[] sources = dirtySources.values().toArray(new DirtySource[0]);
+        Arrays.sort(sources);
+        Object[] loose = looseBindings.keySet().toArray();
+        replaying.putAll(dirtySources);
+        dirtySources.clear();
+        looseBindings.clear();
+        lastWritten = null;
+        writeCounter = 0;
+
+        isFlushing = true;
+        try {
+            for(DirtySource src: sources){
+                src.isReplayed = true;
+                setCurrentValue(base, src.source);
+                for(Binding<?> b: src.bindings.keySet())
+                    commitBinding(b);
+                base.run();
+            }
+            for(Object b: loose)
+                base.commitBinding((Binding<?>)b);
+            base.run();
+        }finally {
+            isFlushing = false;
+            replaying.clear();
+        }
+    }
+
+    /**
+     * Provede odložené průchody všech executorů, které na nějaký čekají.
+     * <p>
+     * Voláno jednou za snímek z <code>BasicFormApplication.render</code>.
+     * */
+    public static void flushAll(){
+        while(!PENDING_EXECUTORS.isEmpty()){
+            DeferredBindingExecutor[] toFlush = PENDING_EXECUTORS.toArray(new DeferredBindingExecutor[0]);
+            PENDING_EXECUTORS.clear();
+            for(DeferredBindingExecutor exec: toFlush)
+                exec.isRegistered = false;
+            int next = 0;
+            try {
+                while(next < toFlush.length)
+                    toFlush[next++].flushNow();
+            }finally {
+                //vyhodí-li některý průchod výjimku, executory za ním se provedou při příštím volání
+                for(int t = next; t < toFlush.length; ++t)
+                    if(toFlush[t].hasPending())
+                        toFlush[t].markPending();
+            }
+        }
+    }
+
+
+//private:
+
+    private static final List<DeferredBindingExecutor> PENDING_EXECUTORS = new ArrayList<>();
+
+    private final BindingExecutor base;
+
+    private boolean isFlushing = false, isRegistered = false;
+
+    /**
+     * Zdroje změněné od posledního průchodu, spolu s bindingy, které z nich vedou.
+     * */
+    private final Map<Object, DirtySource> dirtySources = new IdentityHashMap<>();
+
+    /**
+     * Zdroje právě přehrávané v {@link #flushNow()}.
+     * */
+    private final Map<Object, DirtySource> replaying = new IdentityHashMap<>();
+
+    /**
+     * Bindingy zařazené bez předchozího nastavení zdroje - provedeny až po přehrání všech zdrojů.
+     * */
+    private final Map<Binding<?>, Boolean> looseBindings = new IdentityHashMap<>();
+
+    private DirtySource lastWritten = null;
+
+    private long writeCounter = 0;
+
+    private static final class DirtySource implements Comparable<DirtySource>{
+        DirtySource(ReadonlyWrapper<?> source){this.source = source;}
+
+        final ReadonlyWrapper<?> source;
+        final Map<Binding<?>, Boolean> bindings = new IdentityHashMap<>();
+        /**
+         * Pořadí posledního zápisu do zdroje - čím větší, tím později byl zdroj nastaven.
+         * */
+        long writeOrder;
+        boolean isReplayed = false;
+
+        @Override public int compareTo(DirtySource o) {return Long.compare(writeOrder, o.writeOrder);}
+    }
+
+    private static<T> void setCurrentValue(BindingExecutor exec, ReadonlyWrapper<T> src){
+        exec.setValueForActor(src, src.get());
+    }
+
+    private void markPending(){
+        if(!isRegistered){
+            isRegistered = true;
+            PENDING_EXECUTORS.add(this);
+        }
+    }
+}
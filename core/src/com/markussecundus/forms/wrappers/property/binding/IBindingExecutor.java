@@ -2,13 +2,17 @@ package com.markussecundus.forms.wrappers.property.binding;
 
 import com.markussecundus.forms.utils.datastruct.DefaultDictByIdentity;
 import com.markussecundus.forms.utils.datastruct.inout.InOutCollection;
+import com.markussecundus.forms.utils.function.Function;
 import com.markussecundus.forms.wrappers.ReadonlyWrapper;
+import com.markussecundus.forms.wrappers.property.ReadonlyProperty;
 
 import java.util.Map;
 
 
 /**
  * Kanonická implementace {@link BindingExecutor}.
+ * <p>
+ * Vyhodnocení bindingů hlásí do {@link BindingMetrics}, jsou-li zapnuty.
  *
  * @see Bindings
  *
@@ -45,6 +49,11 @@ public class IBindingExecutor implements BindingExecutor{
     private final Map<ReadonlyWrapper<?>, Object> alreadyVisitedActorsValueCache = ALREADY_VISITED_ACTORS_VALUE_CACHE__FACTORY();
 
 
+    /**
+     * Poskytuje bindingům hodnoty zdrojů z keše - vytvořena jednou, aby se nealokovala při každém vyhodnocení.
+     * */
+    private final Function<ReadonlyProperty<?>, Object> cachedValueOf = src -> alreadyVisitedActorsValueCache.get(src);
+
     private volatile boolean isRunning = false;
 
     @Override
@@ -65,15 +74,14 @@ public class IBindingExecutor implements BindingExecutor{
     }
 
     private void run_impl(Binding<?> next){
-        if(alreadyVisitedActorsValueCache.containsKey(next.target))
+        if(next.isDisposed() || alreadyVisitedActorsValueCache.containsKey(next.target))
             return;
 
-        Object[] args = new Object[next.sources.length];
-
-        for(int t=0;t<args.length;++t)
-            args[t] = alreadyVisitedActorsValueCache.get(next.sources[t]);
+        Object result = BindingMetrics.setValueOfTargetProperty(next, cachedValueOf);
 
-        next.setValueOfTargetProperty(args);
+        //cíl, na nějž vede více hran (např. po uzavření PropertyTransaction), se tak v jednom průchodu nepřepočítá opakovaně
+        if(next.target instanceof ReadonlyWrapper)
+            alreadyVisitedActorsValueCache.put((ReadonlyWrapper<?>)next.target, result);
     }
 
 
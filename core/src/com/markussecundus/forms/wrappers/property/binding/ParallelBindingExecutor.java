@@ -0,0 +1,298 @@
+package com.markussecundus.forms.wrappers.property.binding;
+
+import com.markussecundus.forms.utils.FormsUtil;
+import com.markussecundus.forms.utils.datastruct.DefaultDictByIdentity;
+import com.markussecundus.forms.wrappers.ReadonlyWrapper;
+import com.markussecundus.forms.wrappers.property.ReadonlyProperty;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+
+/**
+ * {@link BindingExecutor}, který drahé transformační funkce vzájemně nezávislých bindingů vyhodnocuje paralelně.
+ * <p></p>
+ * Průchod grafem probíhá po vlnách: vlnu tvoří všechny bindingy, které čekají na zpracování. Binding, jehož některý zdroj je ještě dosažitelný
+ * z cílů čekajících bindingů (a může tak být během průchodu znovu změněn), je odložen do některé z dalších vln, takže bindingy jedné vlny
+ * na sobě navzájem nezávisí a všechny čtou již ustálené hodnoty. Každý cíl je během průchodu nastaven nejvýše jednou.
+ * Transformační funkce bindingů označených pomocí {@link Binding#markPure()} jsou pak rozděleny mezi vlákna dodaného {@link Executor}u,
+ * ostatní jsou vyhodnoceny na volajícím vlákně.
+ * <p></p>
+ * Hodnoty zdrojů jsou přečteny a cílové properties nastaveny vždy na volajícím vlákně, v pořadí, v jakém byly bindingy zařazeny
+ * - listenery properties tak nikdy neběží paralelně a výsledek nezávisí na tom, jak rychle která funkce doběhla.
+ * Změny, které nastavení vyvolá, jsou zpracovány v dalších vlnách.
+ * <p></p>
+ * Vyplatí se tam, kde jedna změna vede na mnoho nezávislých drahých transformací (formátování, měření textu, převody polí hodnot...).
+ * Pro levné transformace převáží režie předání práce vláknům - tam je vhodnější {@link IBindingExecutor}.
+ * <p></p>
+ * Jsou-li zapnuty {@link BindingMetrics}, které nejsou vláknově bezpečné, jsou všechny funkce vyhodnoceny na volajícím vlákně.
+ * <p></p>
+ * Jako ostatní executory smí být spouštěn pouze z vykreslovacího vlákna - paralelní jsou jen samotné transformační funkce.
+ *
+ * @see Binding#markPure()
+ * @see BindingExecutor#setDefault(BindingExecutor)
+ *
+ * @author MarkusSecundus
+ * */
+public class ParallelBindingExecutor implements BindingExecutor {
+//public:
+
+    /**
+     * Vytvoří executor, který práci rozděluje mezi tolik úloh, kolik má systém procesorů.
+     *
+     * @param workers executor, na jehož vláknech budou vyhodnocovány čisté transformační funkce (např. <code>ForkJoinPool.commonPool()</code>)
+     * */
+    public ParallelBindingExecutor(Executor workers){this(workers, Runtime.getRuntime().availableProcessors());}
+
+    /**
+     * Vytvoří executor, který práci rozděluje mezi nejvýše daný počet úloh.
+     *
+     * @param workers executor, na jehož vláknech budou vyhodnocovány čisté transformační funkce
+     * @param parallelism maximální počet úloh, mezi něž je rozdělena jedna vlna; jednu z nich provádí volající vlákno
+     * */
+    public ParallelBindingExecutor(Executor workers, int parallelism){
+        if(workers == null)
+            throw new NullPointerException("Worker Executor must not be null!");
+        if(parallelism < 1)
+            throw new IllegalArgumentException("Parallelism must be positive! (was " + parallelism + ")");
+        this.workers = workers;
+        this.parallelism = parallelism;
+    }
+
+
+    @Override
+    public void run() {
+        if(isRunning)
+            return;
+
+        try {
+            isRunning = true;
+            while(!pending.isEmpty())
+                runWave();
+        }finally {
+            isRunning = false;
+            pending.clear();
+            valueCache.clear();
+            changedActors.clear();
+            outgoing.clear();
+        }
+    }
+
+    @Override
+    public <T> void setValueForActor(ReadonlyWrapper<? super T> actor, T value) {
+        valueCache.put(actor, value);
+        changedActors.put(actor, Boolean.TRUE);
+    }
+
+    @Override
+    public void commitBinding(Binding<?> actor) {
+        if(changedActors.containsKey(actor.target))
+            return;
+        pending.add(actor);
+    }
+
+
+//private:
+
+    private final Executor workers;
+
+    private final int parallelism;
+
+    private boolean isRunning = false;
+
+    private final List<Binding<?>> pending = new ArrayList<>();
+
+    /**
+     * Hodnoty zdrojů přečtené během průchodu - slouží pouze ke čtení, o tom, zda byl cíl již nastaven, rozhoduje {@link #changedActors}.
+     * */
+    private final Map<ReadonlyWrapper<?>, Object> valueCache = new DefaultDictByIdentity<>(ReadonlyWrapper::get);
+
+    /**
+     * Properties, jež byly během průchodu změněny - již nesmí být znovu nastaveny.
+     * */
+    private final Map<Object, Boolean> changedActors = new IdentityHashMap<>();
+
+    /**
+     * Bindingy vedoucí z jednotlivých properties, pamatované po dobu průchodu.
+     * */
+    private final Map<Object, Collection<? extends Binding<?>>> outgoing = new IdentityHashMap<>();
+
+
+    private void runWave(){
+        Map<Object, Boolean> waveTargets = new IdentityHashMap<>();
+        List<Binding<?>> wave = new ArrayList<>(pending.size());
+        for(Binding<?> b: pending){
+            if(b.isDisposed() || changedActors.containsKey(b.target) || waveTargets.containsKey(b.target))
+                continue;
+            waveTargets.put(b.target, Boolean.TRUE);
+            wave.add(b);
+        }
+        pending.clear();
+
+        Map<Object, Boolean> unsettled = reachableFrom(waveTargets.keySet());
+        List<Binding<?>> ready = new ArrayList<>(wave.size());
+        for(Binding<?> b: wave){
+            if(readsAny(b, unsettled))
+                pending.add(b);
+            else
+                ready.add(b);
+        }
+        if(ready.isEmpty() && !wave.isEmpty()){   //všechny bindingy vlny tvoří cyklus - je přerušen u prvního z nich
+            ready.add(pending.remove(0));
+        }
+
+        Object[] results = evaluate(ready);
+
+        for(int t = 0; t < ready.size(); ++t){
+            Binding<?> b = ready.get(t);
+            if(b.isDisposed() || changedActors.containsKey(b.target))
+                continue;
+            boolean isReadable = b.target instanceof ReadonlyWrapper;
+            if(isReadable && BindingMetrics.isEnabled() && FormsUtil.equals(((ReadonlyWrapper<?>)b.target).get(), results[t]))
+                BindingMetrics.recordUnchanged(b);
+            Object result = setTarget(b, results[t]);
+            if(isReadable)
+                valueCache.put((ReadonlyWrapper<?>)b.target, result);
+            changedActors.put(b.target, Boolean.TRUE);
+        }
+    }
+
+    @SuppressWarnings("unchecked")  //výsledek byl spočten transformační funkcí téhož bindingu, je tedy typu T
+    private static<T> T setTarget(Binding<T> b, Object result){
+        return b.target.set((T)result);
+    }
+
+    /**
+     * Properties, které ještě mohou být během průchodu změněny - dané cíle a vše, co je z nich dosažitelné skrze bindingy tohoto executoru.
+     * */
+    private Map<Object, Boolean> reachableFrom(Collection<Object> targets){
+        Map<Object, Boolean> ret = new IdentityHashMap<>();
+        List<Object> toVisit = new ArrayList<>(targets);
+        for(Object t: targets)
+            ret.put(t, Boolean.TRUE);
+        while(!toVisit.isEmpty()){
+            Object actor = toVisit.remove(toVisit.size() - 1);
+            for(Binding<?> next: outgoingBindings(actor)){
+                if(!next.isDisposed() && !changedActors.containsKey(next.target) && ret.put(next.target, Boolean.TRUE) == null)
+                    toVisit.add(next.target);
+            }
+        }
+        return ret;
+    }
+
+    private Collection<? extends Binding<?>> outgoingBindings(Object actor){
+        Collection<? extends Binding<?>> ret = outgoing.get(actor);
+        if(ret == null)
+            outgoing.put(actor, ret = BinderListener.bindingsServedBy(actor, this));
+        return ret;
+    }
+
+    private static boolean readsAny(Binding<?> b, Map<Object, Boolean> targets){
+        for(ReadonlyProperty<?> src: b.sources)
+            if(src != b.target && targets.containsKey(src))
+                return true;
+        return false;
+    }
+
+    /**
+     * Vypočítá nové hodnoty cílů daných bindingů - čisté funkce paralelně, ostatní na volajícím vlákně.
+     * */
+    private Object[] evaluate(List<Binding<?>> ready){
+        Object[] results = new Object[ready.size()];
+
+        List<Integer> pure = new ArrayList<>();
+        if(!BindingMetrics.isEnabled()){
+            for(int t = 0; t < ready.size(); ++t)
+                if(ready.get(t).isPure())
+                    pure.add(t);
+        }
+        int tasks = Math.min(parallelism, pure.size());
+        if(tasks <= 1)
+            pure.clear();
+
+        //hodnoty zdrojů čistých funkcí jsou přečteny předem, na volajícím vlákně
+        Object[][] args = new Object[ready.size()][];
+        for(int i: pure){
+            Binding<?> b = ready.get(i);
+            Object[] a = args[i] = new Object[b.sources.length];
+            for(int s = 0; s < a.length; ++s)
+                a[s] = valueCache.get(b.sources[s]);
+        }
+
+        CountDownLatch done = new CountDownLatch(Math.max(tasks - 1, 0));
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        for(int task = 1; task < tasks && !pure.isEmpty(); ++task){
+            final int first = task, step = tasks;
+            Runnable job = () -> {
+                try {
+                    computePure(ready, pure, first, step, args, results);
+                }catch (Throwable e){
+                    failure.compareAndSet(null, e);
+                }finally {
+                    done.countDown();
+                }
+            };
+            try {
+                workers.execute(job);
+            }catch (RejectedExecutionException e){
+                job.run();
+            }
+        }
+
+        try {
+            if(!pure.isEmpty())
+                computePure(ready, pure, 0, tasks, args, results);
+            for(int t = 0; t < ready.size(); ++t)
+                if(args[t] == null)
+                    results[t] = BindingMetrics.computeValue(ready.get(t), valueCache::get);
+        }finally {
+            awaitUninterruptibly(done);
+        }
+
+        Throwable e = failure.get();
+        if(e instanceof RuntimeException)
+            throw (RuntimeException)e;
+        if(e instanceof Error)
+            throw (Error)e;
+        if(e != null)
+            throw new RuntimeException(e);
+        return results;
+    }
+
+    private static void computePure(List<Binding<?>> ready, List<Integer> pure, int first, int step, Object[][] args, Object[] results){
+        for(int p = first; p < pure.size(); p += step){
+            int i = pure.get(p);
+            Binding<?> b = ready.get(i);
+            Object[] a = args[i];
+            results[i] = b.computeValue(src -> a[indexOf(b.sources, src)]);
+        }
+    }
+
+    private static int indexOf(ReadonlyProperty<?>[] sources, Object src){
+        for(int t = 0; t < sources.length; ++t)
+            if(sources[t] == src)
+                return t;
+        throw new IllegalArgumentException("Not a source of the binding!");
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch){
+        boolean interrupted = false;
+        while(true){
+            try {
+                latch.await();
+                break;
+            }catch (InterruptedException e){
+                interrupted = true;
+            }
+        }
+        if(interrupted)
+            Thread.currentThread().interrupt();
+    }
+}
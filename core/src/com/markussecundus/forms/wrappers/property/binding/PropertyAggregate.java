@@ -0,0 +1,434 @@
+package com.markussecundus.forms.wrappers.property.binding;
+
+import com.markussecundus.forms.events.EventListener;
+import com.markussecundus.forms.events.ListenerPriorities;
+import com.markussecundus.forms.utils.FormsUtil;
+import com.markussecundus.forms.utils.Pair;
+import com.markussecundus.forms.utils.datastruct.AutobucketedList;
+import com.markussecundus.forms.utils.datastruct.ObservedList;
+import com.markussecundus.forms.utils.function.Function;
+import com.markussecundus.forms.utils.function.Predicate;
+import com.markussecundus.forms.wrappers.WriteonlyWrapper;
+import com.markussecundus.forms.wrappers.property.ChangePolicy;
+import com.markussecundus.forms.wrappers.property.ReadonlyProperty;
+import com.markussecundus.forms.wrappers.property.impl.readonly.SimpleReadonlyProperty;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Seznam Properties, který průběžně udržuje agregovanou hodnotu (součet, minimum, maximum, počet...) jejich hodnot.
+ * <p></p>
+ * Agregace není při každé změně počítána znovu přes všechny prvky - přidání, odebrání či nahrazení prvku seznamu
+ * (zachycené skrze háčky {@link ObservedList}u) i změna hodnoty kterékoliv z Properties (zachycená jejím setter-listenerem)
+ * stojí O(1) pro agregace s inverzí ({@link Group} - součty, počty) a O(log n) pro ostatní ({@link Monoid} - minimum, maximum...),
+ * které jsou udržovány ve stromu intervalů. Souhrn nad tisíci řádky tak stisk klávesy v jednom z nich nezdrží.
+ * <p></p>
+ * Výsledek je k dispozici jako {@link ReadonlyProperty} {@link #result()}, kterou lze dál bindovat. Její setter-listenery
+ * jsou provedeny pouze, pokud se výsledek podle <code>equals</code> opravdu změní.
+ * <pre>
+ *     PropertyAggregate&lt;Float, Float&gt; total = PropertyAggregate.sumFloat(x -&gt; x);
+ *     for(Row row: rows) total.add(row.price);
+ *     Bindings.bind(totalLabel.text(), t -&gt; "Celkem: " + t, total.result());
+ * </pre>
+ * Agregace nezávisí na pořadí prvků, operace {@link Monoid}u proto musí být komutativní.
+ * Prvky jsou rozlišovány podle identity; jedna Property může být v seznamu vícekrát a počítá se pak za každý svůj výskyt.
+ * Hodnoty <code>null</code> v seznamu jsou ignorovány.
+ * <p></p>
+ * Seznam drží na svých Properties listenery - Properties, jež z něj byly odebrány, jsou od něj odpojeny.
+ * <p></p>
+ * Stejně jako zbytek knihovny není vláknově bezpečný - smí být používán pouze z vykreslovacího vlákna.
+ *
+ * @param <V> typ hodnot agregovaných Properties
+ * @param <R> typ výsledku agregace
+ *
+ * @see Bindings
+ *
+ * @author MarkusSecundus
+ * */
+public class PropertyAggregate<V, R> extends ObservedList<ReadonlyProperty<? extends V>> {
+//public:
+
+    /**
+     * Komutativní asociativní operace s neutrálním prvkem, pomocí níž jsou skládány hodnoty prvků.
+     *
+     * @param <R> typ skládaných hodnot
+     * */
+    public interface Monoid<R>{
+        /**
+         * @return neutrální prvek - výsledek agregace prázdného seznamu
+         * */
+        public R identity();
+
+        /**
+         * @return složení dvou hodnot
+         * */
+        public R combine(R a, R b);
+    }
+
+    /**
+     * {@link Monoid}, k jehož každému prvku existuje prvek inverzní - odebrání hodnoty z agregace tak lze provést v O(1).
+     *
+     * @param <R> typ skládaných hodnot
+     * */
+    public interface Group<R> extends Monoid<R>{
+        /**
+         * @return prvek, jehož složení s daným dává neutrální prvek
+         * */
+        public R inverse(R a);
+    }
+
+
+    /**
+     * Součet celých čísel.
+     * */
+    public static final Group<Integer> INT_SUM = new Group<Integer>() {
+        @Override public Integer identity() { return 0; }
+        @Override public Integer combine(Integer a, Integer b) { return a + b; }
+        @Override public Integer inverse(Integer a) { return -a; }
+        @Override public String toString() { return "INT_SUM"; }
+    };
+
+    /**
+     * Součet čísel s plovoucí desetinnou čárkou.
+     * <p></p>
+     * Odebírání hodnot skrze inverzi za sebou nechává zaokrouhlovací chyby - po velkém množství změn je lze odstranit pomocí {@link #recompute()}.
+     * */
+    public static final Group<Float> FLOAT_SUM = new Group<Float>() {
+        @Override public Float identity() { return 0f; }
+        @Override public Float combine(Float a, Float b) { return a + b; }
+        @Override public Float inverse(Float a) { return -a; }
+        @Override public String toString() { return "FLOAT_SUM"; }
+    };
+
+    /**
+     * @return {@link Monoid} vracející menší z hodnot; neutrálním prvkem je <code>null</code>
+     * */
+    public static<R> Monoid<R> minMonoid(Comparator<? super R> comparator){
+        return new Monoid<R>() {
+            @Override public R identity() { return null; }
+            @Override public R combine(R a, R b) { return a == null ? b : b == null ? a : comparator.compare(a, b) <= 0 ? a : b; }
+            @Override public String toString() { return "MIN"; }
+        };
+    }
+
+    /**
+     * @return {@link Monoid} vracející větší z hodnot; neutrálním prvkem je <code>null</code>
+     * */
+    public static<R> Monoid<R> maxMonoid(Comparator<? super R> comparator){
+        return new Monoid<R>() {
+            @Override public R identity() { return null; }
+            @Override public R combine(R a, R b) { return a == null ? b : b == null ? a : comparator.compare(a, b) >= 0 ? a : b; }
+            @Override public String toString() { return "MAX"; }
+        };
+    }
+
+
+    /**
+     * Vytvoří agregaci nad danou bází. Prvky, které již báze obsahuje, jsou do agregace rovnou započteny.
+     *
+     * @param base seznam, na který agregace ukazuje
+     * @param monoid operace skládající hodnoty prvků; je-li to {@link Group}, jsou změny prováděny v O(1)
+     * @param lift funkce převádějící hodnotu Property na hodnotu skládanou monoidem
+     * */
+    public PropertyAggregate(List<ReadonlyProperty<? extends V>> base, Monoid<R> monoid, Function<? super V, ? extends R> lift){
+        super(base);
+        this.monoid = monoid;
+        this.group = monoid instanceof Group ? (Group<R>)monoid : null;
+        this.lift = lift;
+
+        Pair<SimpleReadonlyProperty<R>, WriteonlyWrapper<R>> res = SimpleReadonlyProperty.make(monoid.identity());
+        res.first().setChangePolicy(ChangePolicy.EQUALS);
+        this.result = res.first();
+        this.resultSetter = res.second();
+
+        reset();
+        for(ReadonlyProperty<? extends V> p: base)
+            insert(p);
+        publish();
+    }
+
+    /**
+     * @return nová agregace nad prázdným {@link ArrayList}em
+     * */
+    public static<V, R> PropertyAggregate<V, R> of(Monoid<R> monoid, Function<? super V, ? extends R> lift){
+        return new PropertyAggregate<>(new ArrayList<>(), monoid, lift);
+    }
+
+    /**
+     * @return agregace sčítající hodnoty prvků převedené na <code>float</code>
+     * */
+    public static<V> PropertyAggregate<V, Float> sumFloat(Function<? super V, Float> lift){return of(FLOAT_SUM, lift);}
+
+    /**
+     * @return agregace sčítající hodnoty prvků převedené na <code>int</code>
+     * */
+    public static<V> PropertyAggregate<V, Integer> sumInt(Function<? super V, Integer> lift){return of(INT_SUM, lift);}
+
+    /**
+     * @return agregace počítající prvky, jejichž hodnota splňuje daný predikát
+     * */
+    public static<V> PropertyAggregate<V, Integer> count(Predicate<? super V> predicate){return of(INT_SUM, v -> predicate.test(v) ? 1 : 0);}
+
+    /**
+     * @return agregace udržující nejmenší z hodnot prvků, pro prázdný seznam <code>null</code>
+     * */
+    public static<V> PropertyAggregate<V, V> min(Comparator<? super V> comparator){return of(minMonoid(comparator), v -> v);}
+
+    /**
+     * @return agregace udržující největší z hodnot prvků, pro prázdný seznam <code>null</code>
+     * */
+    public static<V> PropertyAggregate<V, V> max(Comparator<? super V> comparator){return of(maxMonoid(comparator), v -> v);}
+
+
+    /**
+     * @return Property obsahující aktuální výsledek agregace
+     * */
+    public ReadonlyProperty<R> result(){return result;}
+
+    /**
+     * @return Pohodlnější zkratka pro <code>result().get()</code>
+     * */
+    public R getResult(){return result.get();}
+
+    /**
+     * Přepočítá agregaci znovu ze současných hodnot všech prvků, v O(n).
+     * <p></p>
+     * Za normálních okolností není potřeba - slouží k odstranění zaokrouhlovacích chyb nasčítaných skrze {@link Group#inverse(Object)}.
+     * */
+    public void recompute(){
+        reset();
+        for(Entry e: entries.values()){
+            e.value = lift.apply(e.property.get());
+            int count = e.count;
+            e.count = 0;
+            for(int t = 0; t < count; ++t)
+                insertOccurrence(e);
+        }
+        publish();
+    }
+
+
+//protected:
+
+    @Override protected void onAdded(ReadonlyProperty<? extends V> t, int index) {
+        insert(t);
+        publish();
+    }
+
+    @Override protected void onDelete(Object t) {
+        Entry e = entries.get(t);
+        if(e == null)
+            return;
+        removeOccurrence(e);
+        publish();
+    }
+
+    @Override protected void onSet(ReadonlyProperty<? extends V> oldElem, ReadonlyProperty<? extends V> newElem, int index) {
+        Entry e = entries.get(oldElem);
+        if(e != null)
+            removeOccurrence(e);
+        insert(newElem);
+        publish();
+    }
+
+    /**
+     * Odpojí se ode všech prvků a vrátí agregaci do výchozího stavu, v O(n).
+     * */
+    @Override protected void onClear() {
+        for(Entry e: entries.values())
+            e.handle.remove();
+        entries.clear();
+        reset();
+        publish();
+    }
+
+    /**
+     * Odebere z agregace všechny výskyty prvků dané kolekce, stejně jako to udělá samotné <code>removeAll</code>.
+     * */
+    @Override protected void onRemoveAll(Collection<?> col) {
+        for(Object o: col){
+            Entry e = entries.get(o);
+            while(e != null && e.count > 0)
+                removeOccurrence(e);
+        }
+        publish();
+    }
+
+
+//private:
+
+    private final Monoid<R> monoid;
+
+    /**
+     * Týž objekt jako {@link #monoid}, pokud jde o {@link Group}, jinak <code>null</code>.
+     * */
+    private final Group<R> group;
+
+    private final Function<? super V, ? extends R> lift;
+
+    private final SimpleReadonlyProperty<R> result;
+
+    private final WriteonlyWrapper<R> resultSetter;
+
+    private final Map<Object, Entry> entries = new IdentityHashMap<>();
+
+    /**
+     * Aktuální výsledek, je-li agregace prováděna skrze {@link Group}.
+     * */
+    private R accumulator;
+
+    /**
+     * Strom intervalů nad hodnotami jednotlivých výskytů prvků, není-li agregace prováděna skrze {@link Group}.
+     * Listy leží na indexech <code>capacity + slot</code>, kořen s výsledkem na indexu 1.
+     * */
+    private Object[] tree;
+    private int capacity, usedSlots;
+    private int[] freeSlots;
+    private int freeSlotsCount;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+
+    /**
+     * Jedna Property v seznamu, spolu s listenerem, který na ní visí, a sloty stromu, jež zabírají její výskyty.
+     * */
+    private final class Entry implements EventListener<Object>{
+        Entry(ReadonlyProperty<? extends V> property){
+            this.property = property;
+            this.value = lift.apply(property.get());
+        }
+
+        final ReadonlyProperty<? extends V> property;
+        R value;
+        AutobucketedList.Handle<?> handle;
+        int count = 0;
+        int[] slots = null;
+
+        @Override public boolean exec(Object e) {
+            onValueChanged(this, newValueOf(e));
+            return true;
+        }
+    }
+
+    private void reset(){
+        if(group != null){
+            accumulator = group.identity();
+        }else{
+            capacity = INITIAL_CAPACITY;
+            tree = FormsUtil.fillArray(new Object[2*capacity], monoid.identity());
+            freeSlots = new int[INITIAL_CAPACITY];
+            usedSlots = freeSlotsCount = 0;
+        }
+    }
+
+    private void publish(){
+        resultSetter.set(group != null ? accumulator : node(tree, 1));
+    }
+
+    private void insert(ReadonlyProperty<? extends V> property){
+        if(property == null)
+            return;
+        Entry e = entries.get(property);
+        if(e == null){
+            entries.put(property, e = new Entry(property));
+            e.handle = property.getSetterListeners().addListener(ListenerPriorities.POST_UTIL, e);
+        }
+        insertOccurrence(e);
+    }
+
+    private void insertOccurrence(Entry e){
+        if(group != null){
+            accumulator = group.combine(accumulator, e.value);
+        }else{
+            int slot = allocSlot();
+            if(e.slots == null)
+                e.slots = new int[1];
+            else if(e.count == e.slots.length)
+                e.slots = Arrays.copyOf(e.slots, 2*e.count);
+            e.slots[e.count] = slot;
+            setLeaf(slot, e.value);
+        }
+        ++e.count;
+    }
+
+    private void removeOccurrence(Entry e){
+        --e.count;
+        if(group != null){
+            accumulator = group.combine(accumulator, group.inverse(e.value));
+        }else{
+            int slot = e.slots[e.count];
+            setLeaf(slot, monoid.identity());
+            if(freeSlotsCount == freeSlots.length)
+                freeSlots = Arrays.copyOf(freeSlots, 2*freeSlotsCount);
+            freeSlots[freeSlotsCount++] = slot;
+        }
+        if(e.count == 0){
+            e.handle.remove();
+            entries.remove(e.property);
+        }
+    }
+
+    private void onValueChanged(Entry e, V newRaw){
+        R newValue = lift.apply(newRaw);
+        if(FormsUtil.equals(e.value, newValue))
+            return;
+
+        if(group != null){
+            R delta = group.combine(newValue, group.inverse(e.value));
+            for(int t = 0; t < e.count; ++t)
+                accumulator = group.combine(accumulator, delta);
+        }else{
+            for(int t = 0; t < e.count; ++t)
+                setLeaf(e.slots[t], newValue);
+        }
+        e.value = newValue;
+        publish();
+    }
+
+    private int allocSlot(){
+        if(freeSlotsCount > 0)
+            return freeSlots[--freeSlotsCount];
+        if(usedSlots == capacity)
+            grow();
+        return usedSlots++;
+    }
+
+    /**
+     * Zdvojnásobí kapacitu stromu, v O(n) - amortizovaně tedy O(1) na přidaný prvek.
+     * */
+    private void grow(){
+        int newCapacity = 2*capacity;
+        Object[] newTree = FormsUtil.fillArray(new Object[2*newCapacity], monoid.identity());
+        System.arraycopy(tree, capacity, newTree, newCapacity, capacity);
+        for(int i = newCapacity - 1; i > 0; --i)
+            newTree[i] = combineChildren(newTree, i);
+        tree = newTree;
+        capacity = newCapacity;
+    }
+
+    private void setLeaf(int slot, R value){
+        int i = capacity + slot;
+        tree[i] = value;
+        for(i >>= 1; i > 0; i >>= 1)
+            tree[i] = combineChildren(tree, i);
+    }
+
+    private R combineChildren(Object[] tree, int i){
+        return monoid.combine(node(tree, 2*i), node(tree, 2*i + 1));
+    }
+
+    @SuppressWarnings("unchecked")  //strom obsahuje pouze identitu monoidu a hodnoty vzniklé funkcí lift či operací monoidu, vše typu R
+    private R node(Object[] tree, int i){ return (R)tree[i]; }
+
+    @SuppressWarnings("unchecked")  //Entry visí pouze na setterových listenerech Property typu V
+    private V newValueOf(Object setterListenerArgs){
+        return ((ReadonlyProperty.SetterListenerArgs<? extends V>)setterListenerArgs).newVal().get();
+    }
+}
@@ -0,0 +1,240 @@
+package com.markussecundus.forms.wrappers.property.binding;
+
+import com.markussecundus.forms.utils.FormsUtil;
+import com.markussecundus.forms.utils.datastruct.DefaultDictByIdentity;
+import com.markussecundus.forms.utils.function.Function;
+import com.markussecundus.forms.wrappers.ReadonlyWrapper;
+import com.markussecundus.forms.wrappers.property.ReadonlyProperty;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+
+/**
+ * Implementace {@link BindingExecutor}, která vázané properties přepočítává v topologickém pořadí bindovacího grafu.
+ * <p></p>
+ * Na rozdíl od {@link IBindingExecutor}, který bindingy zpracovává v pořadí, v jakém na ně narazí, si tento před samotným vyhodnocováním
+ * naplánuje celý podgraf dosažitelný ze změněných properties a každý binding vyhodnotí až poté, co byly vyhodnoceny všechny bindingy,
+ * jež nastavují jeho zdroje. V grafu tvaru kosočtverce je tak každý cíl přepočítán jen jednou, a to až z ustálených hodnot.
+ * <p></p>
+ * Sousednost vrcholů grafu je zjišťována z {@link BinderListener}ů cílových properties a pamatována si pouze po dobu jednoho průchodu
+ * - executor tak nedrží reference na properties, které mezitím přestaly být používány.
+ * <p></p>
+ * Cykly jsou odhaleny už při plánování, před vyhodnocením čehokoliv. Cyklus, který prochází některou ze změněných properties
+ * (typicky obousměrný binding), je přerušen přirozeně - změněné properties se v rámci průchodu již znovu nenastavují.
+ * Ostatní cykly jsou přerušeny u bindingu nejbližšího změně a ohlášeny skrze {@link #onCycleDetected(Binding)}.
+ * <p></p>
+ * Vyhodnocení bindingu je přeskočeno, pokud se během průchodu nezměnil žádný z jeho zdrojů, a cíl není nastaven, pokud
+ * se nová hodnota podle <code>equals</code> shoduje s tou dosavadní - nezměněné hodnoty se tak grafem dál nešíří.
+ * Taková vyhodnocení jsou v {@link BindingMetrics} zaznamenána jako zbytečná.
+ * <p></p>
+ * Stejně jako zbytek knihovny není vláknově bezpečná - smí být používána pouze z vykreslovacího vlákna.
+ *
+ * @see BindingExecutor#setDefault(BindingExecutor)
+ * @see IBindingExecutor
+ *
+ * @author MarkusSecundus
+ * */
+public class TopologicalBindingExecutor implements BindingExecutor {
+
+    /**
+     * Zavolána, když je při plánování průchodu nalezen cyklus, který neprochází žádnou ze změněných properties.
+     * Cyklus je přerušen tak, že daný binding je vyhodnocen dřív, než všechny bindingy, na nichž závisí.
+     * <p></p>
+     * Výchozí implementace nedělá nic.
+     *
+     * @param breakingPoint binding, u kterého byl cyklus přerušen
+     * */
+    protected void onCycleDetected(Binding<?> breakingPoint){}
+
+
+    @Override
+    public void run() {
+        if(isRunning)
+            return;
+
+        try {
+            isRunning = true;
+            while(!committed.isEmpty()){
+                List<Binding<?>> roots = new ArrayList<>(committed);
+                committed.clear();
+                for(Binding<?> b: plan(roots))
+                    evaluate(b);
+                planned.clear();
+            }
+        }finally {
+            isRunning = false;
+            committed.clear();
+            forced.clear();
+            planned.clear();
+            changedActors.clear();
+            valueCache.clear();
+            outgoing.clear();
+        }
+    }
+
+    @Override
+    public <T> void setValueForActor(ReadonlyWrapper<? super T> actor, T value) {
+        valueCache.put(actor, value);
+        changedActors.put(actor, Boolean.TRUE);
+    }
+
+    @Override
+    public void commitBinding(Binding<?> actor) {
+        if(changedActors.containsKey(actor.target) || planned.containsKey(actor))
+            return;
+        if(!isRunning)
+            forced.put(actor, Boolean.TRUE);
+        committed.add(actor);
+    }
+
+
+//private:
+
+    private boolean isRunning = false;
+
+    /**
+     * Bindingy čekající na naplánování.
+     * */
+    private final List<Binding<?>> committed = new ArrayList<>();
+
+    /**
+     * Bindingy zařazené zvenčí - ty jsou vyhodnoceny vždy, i když se žádný z jejich zdrojů nezměnil.
+     * */
+    private final Map<Binding<?>, Boolean> forced = new IdentityHashMap<>();
+
+    /**
+     * Bindingy aktuálně naplánované k vyhodnocení.
+     * */
+    private final Map<Binding<?>, Boolean> planned = new IdentityHashMap<>();
+
+    /**
+     * Properties, jež byly během průchodu změněny - již nesmí být znovu nastaveny.
+     * */
+    private final Map<Object, Boolean> changedActors = new IdentityHashMap<>();
+
+    private final Map<ReadonlyWrapper<?>, Object> valueCache = new DefaultDictByIdentity<>(ReadonlyWrapper::get);
+
+    private final Function<ReadonlyProperty<?>, Object> cachedValueOf = src -> valueCache.get(src);
+
+    /**
+     * Bindingy vedoucí z jednotlivých properties, pamatované po dobu průchodu.
+     * Jde o živé kolekce z {@link BinderListener}ů, takže bindingy přidané během průchodu jsou v nich obsaženy také.
+     * */
+    private final Map<Object, Collection<? extends Binding<?>>> outgoing = new IdentityHashMap<>();
+
+
+    private static final class Node implements Comparable<Node>{
+        Node(Binding<?> binding, int rank){this.binding = binding; this.rank = rank;}
+
+        final Binding<?> binding;
+        /**
+         * Pořadí, v jakém byl binding při plánování objeven - čím menší, tím blíž ke změně.
+         * */
+        final int rank;
+        int inDegree = 0;
+        boolean isDone = false;
+        final List<Node> successors = new ArrayList<>(2);
+
+        @Override public int compareTo(Node o) {
+            return Integer.compare(rank, o.rank);
+        }
+    }
+
+    /**
+     * Naplánuje vyhodnocení podgrafu dosažitelného z daných bindingů.
+     *
+     * @return bindingy v topologickém pořadí
+     * */
+    private List<Binding<?>> plan(List<Binding<?>> roots){
+        Map<Binding<?>, Node> nodes = new IdentityHashMap<>();
+        List<Node> discovered = new ArrayList<>();
+
+        for(Binding<?> b: roots)
+            discover(b, nodes, discovered);
+
+        for(int t = 0; t < discovered.size(); ++t){
+            Node n = discovered.get(t);
+            for(Binding<?> next: outgoingBindings(n.binding.target)){
+                if(changedActors.containsKey(next.target))
+                    continue;
+                Node succ = discover(next, nodes, discovered);
+                n.successors.add(succ);
+                ++succ.inDegree;
+            }
+        }
+
+        List<Binding<?>> ret = new ArrayList<>(discovered.size());
+        PriorityQueue<Node> ready = new PriorityQueue<>();
+        for(Node n: discovered)
+            if(n.inDegree == 0)
+                ready.add(n);
+
+        int cycleSearchBegin = 0;
+        while(ret.size() < discovered.size()){
+            if(ready.isEmpty()){
+                while(discovered.get(cycleSearchBegin).isDone)
+                    ++cycleSearchBegin;
+                Node breakingPoint = discovered.get(cycleSearchBegin);
+                onCycleDetected(breakingPoint.binding);
+                breakingPoint.inDegree = 0;
+                ready.add(breakingPoint);
+            }
+            Node n = ready.poll();
+            if(n.isDone)
+                continue;
+            n.isDone = true;
+            ret.add(n.binding);
+            for(Node succ: n.successors)
+                if(!succ.isDone && --succ.inDegree == 0)
+                    ready.add(succ);
+        }
+        return ret;
+    }
+
+    private Node discover(Binding<?> b, Map<Binding<?>, Node> nodes, List<Node> discovered){
+        Node ret = nodes.get(b);
+        if(ret == null){
+            nodes.put(b, ret = new Node(b, discovered.size()));
+            discovered.add(ret);
+            planned.put(b, Boolean.TRUE);
+        }
+        return ret;
+    }
+
+    private<T> void evaluate(Binding<T> b){
+        if(b.isDisposed() || changedActors.containsKey(b.target))
+            return;
+        if(forced.remove(b) == null && !anySourceChanged(b))
+            return;
+
+        T newVal = BindingMetrics.computeValue(b, cachedValueOf);
+        if(b.target instanceof ReadonlyWrapper && FormsUtil.equals(valueCache.get(b.target), newVal)){
+            BindingMetrics.recordUnchanged(b);
+            return;
+        }
+
+        T result = b.target.set(newVal);
+        if(b.target instanceof ReadonlyWrapper)
+            valueCache.put((ReadonlyWrapper<?>)b.target, result);
+        changedActors.put(b.target, Boolean.TRUE);
+    }
+
+    private boolean anySourceChanged(Binding<?> b){
+        for(ReadonlyProperty<?> src: b.sources)
+            if(changedActors.containsKey(src))
+                return true;
+        return false;
+    }
+
+    private Collection<? extends Binding<?>> outgoingBindings(Object actor){
+        Collection<? extends Binding<?>> ret = outgoing.get(actor);
+        if(ret == null)
+            outgoing.put(actor, ret = BinderListener.bindingsServedBy(actor, this));
+        return ret;
+    }
+}
@@ -42,7 +42,7 @@ public abstract class AbstractConstProperty<T> extends ReadonlyWrapper.AbstractS
     @Override
     public T get() {
         if(getterListeners!=null)
-            getterListeners.get().exec(GetterListenerArgs.make(this, obtainListenerlessWrapper()));
+            getterListeners.get().exec(getterArgs());
         return obtain();
     }
 
@@ -58,6 +58,17 @@ public abstract class AbstractConstProperty<T> extends ReadonlyWrapper.AbstractS
 
     private AbstractConstProperty<EventDelegate<GetterListenerArgs<T>>> getterListeners = null;
 
+    /**
+     * Argumenty getterových listenerů jsou pro všechna volání getteru stejné - vytvoří se tedy jen jednou, líně.
+     * */
+    private GetterListenerArgs<T> getterArgs = null;
+
+    private GetterListenerArgs<T> getterArgs(){
+        if(getterArgs == null)
+            getterArgs = GetterListenerArgs.make(this, obtainListenerlessWrapper());
+        return getterArgs;
+    }
+
     private class ListenerlessWrapper extends ReadonlyWrapper.AbstractSimpleWrapper<T>{
         @Override public T get() {
             return obtain();
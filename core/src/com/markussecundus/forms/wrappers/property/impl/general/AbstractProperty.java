@@ -4,10 +4,13 @@ import com.markussecundus.forms.events.EventDelegate;
 import com.markussecundus.forms.utils.FormsUtil;
 import com.markussecundus.forms.wrappers.ReadonlyWrapper;
 import com.markussecundus.forms.wrappers.Wrapper;
+import com.markussecundus.forms.wrappers.property.ChangePolicy;
 import com.markussecundus.forms.wrappers.property.ConstProperty;
 import com.markussecundus.forms.wrappers.property.Property;
+import com.markussecundus.forms.wrappers.property.PropertyTransaction;
 import com.markussecundus.forms.wrappers.property.impl.constant.AbstractConstProperty;
 import com.markussecundus.forms.wrappers.property.impl.constant.SimpleConstProperty;
+import com.markussecundus.forms.wrappers.property.impl.readonly.ComputedProperty;
 
 /**
  * Základní parciální implementace {@link Property}, ze které se již velmi jednoduše dají odvozovat
@@ -27,6 +30,19 @@ public abstract class AbstractProperty<T> extends Wrapper.AbstractSimpleWrapper<
 
 //protected:
 
+    /**
+     * Vytvoří Property, jež každé nastavení považuje za změnu ({@link ChangePolicy#ALWAYS}).
+     * */
+    protected AbstractProperty(){}
+
+    /**
+     * Vytvoří Property s danou politikou potlačování nezměněných hodnot.
+     *
+     * @param changePolicy politika určující, která nastavení jsou považována za změnu
+     * */
+    protected AbstractProperty(ChangePolicy changePolicy){setChangePolicy(changePolicy);}
+
+
     /**
      * Skutečná vnitřní implementace procesu získání vnitřní hodnoty. Volána před tím, než se provede getter.
      * Neměla by mít postranní efekty.
@@ -53,17 +69,20 @@ public abstract class AbstractProperty<T> extends Wrapper.AbstractSimpleWrapper<
 
     @Override
     public T get() {
+        ComputedProperty.recordRead(this);
         if(getterListeners!=null)
-            getterListeners.get().exec( GetterListenerArgs.make(this, obtainListenerlessWrapper()));
+            getterListeners.get().exec(getterArgs());
         return obtain();
     }
 
     @Override
     public T set(T t) {
         T old = this.obtain();
+        if(!changePolicy.isChange(old, t))
+            return old;
         this.change(t);
         if(setterListeners!=null)
-            setterListeners.get().exec( SetterListenerArgs.make(this, old, obtainListenerlessWrapper()));
+            execSetterListeners(old, false);
         return obtain();
     }
 
@@ -72,10 +91,23 @@ public abstract class AbstractProperty<T> extends Wrapper.AbstractSimpleWrapper<
         T old = this.obtain();
         this.change(obtain());
         if(setterListeners!=null)
-            setterListeners.get().exec( SetterListenerArgs.make(this, old, obtainListenerlessWrapper()));
+            execSetterListeners(old, true);
         return obtain();
     }
 
+    /**
+     * @return politika určující, která nastavení jsou považována za změnu
+     * */
+    public ChangePolicy getChangePolicy(){return changePolicy;}
+
+    /**
+     * Nastaví politiku určující, která nastavení jsou považována za změnu.
+     * Nastavení, jež změnou nejsou, ponechají starou hodnotu a neprovedou setter-listenery.
+     *
+     * @param changePolicy nová politika; <code>null</code> znamená {@link ChangePolicy#ALWAYS}
+     * */
+    public void setChangePolicy(ChangePolicy changePolicy){this.changePolicy = changePolicy == null ? ChangePolicy.ALWAYS : changePolicy;}
+
     /**
      * {@inheritDoc}
      *
@@ -101,9 +133,65 @@ public abstract class AbstractProperty<T> extends Wrapper.AbstractSimpleWrapper<
 
 //private:
 
+    private ChangePolicy changePolicy = ChangePolicy.ALWAYS;
+
     private AbstractConstProperty<EventDelegate<SetterListenerArgs<T>>> setterListeners = null;
     private AbstractConstProperty<EventDelegate<GetterListenerArgs<T>>> getterListeners = null;
 
+    /**
+     * Argumenty getterových listenerů jsou pro všechna volání getteru stejné - vytvoří se tedy jen jednou, líně.
+     * */
+    private GetterListenerArgs<T> getterArgs = null;
+
+    private GetterListenerArgs<T> getterArgs(){
+        if(getterArgs == null)
+            getterArgs = GetterListenerArgs.make(this, obtainListenerlessWrapper());
+        return getterArgs;
+    }
+
+    /**
+     * Znovupoužívaná instance argumentů setterových listenerů, vytvořená líně.
+     * */
+    private SetterListenerArgs.Reusable<T> setterArgs = null;
+
+    /**
+     * Zástupce této Property v {@link PropertyTransaction}, vytvořený líně.
+     * */
+    private DeferredSetterListeners deferredSetterListeners = null;
+
+    private class DeferredSetterListeners implements PropertyTransaction.Participant{
+        /**
+         * Zda byl v rámci transakce zavolán <code>pretendSet</code> - listenery pak mají být provedeny, i když se hodnota v souhrnu nezměnila.
+         * */
+        boolean isForced = false;
+
+        @SuppressWarnings("unchecked")  //PropertyTransaction vrací přesně tu hodnotu, kterou jsme mu předali v execSetterListeners
+        @Override public void execDeferredSetterListeners(Object oldVal) {
+            boolean forced = isForced;
+            isForced = false;
+            if(forced || changePolicy.isChange(oldVal, obtain()))
+                execSetterListeners((T) oldVal, forced);
+        }
+    }
+
+    private void execSetterListeners(T old, boolean forced){
+        if(PropertyTransaction.isActive()){
+            if(deferredSetterListeners == null)
+                deferredSetterListeners = new DeferredSetterListeners();
+            deferredSetterListeners.isForced |= forced;
+            PropertyTransaction.deferSetterListeners(deferredSetterListeners, old);
+            return;
+        }
+        if(setterArgs == null)
+            setterArgs = new SetterListenerArgs.Reusable<>(this, obtainListenerlessWrapper());
+        SetterListenerArgs<T> args = setterArgs.obtain(old);
+        try {
+            setterListeners.get().exec(args);
+        } finally {
+            setterArgs.release(args);
+        }
+    }
+
 
     private class ListenerlessWrapper extends Wrapper.AbstractSimpleWrapper<T> {
         @Override public T get() {
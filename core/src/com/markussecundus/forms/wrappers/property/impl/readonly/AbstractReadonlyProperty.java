@@ -4,8 +4,10 @@ import com.markussecundus.forms.events.EventDelegate;
 import com.markussecundus.forms.utils.FormsUtil;
 import com.markussecundus.forms.wrappers.ReadonlyWrapper;
 import com.markussecundus.forms.wrappers.WriteonlyWrapper;
+import com.markussecundus.forms.wrappers.property.ChangePolicy;
 import com.markussecundus.forms.wrappers.property.ConstProperty;
 import com.markussecundus.forms.wrappers.property.Property;
+import com.markussecundus.forms.wrappers.property.PropertyTransaction;
 import com.markussecundus.forms.wrappers.property.ReadonlyProperty;
 import com.markussecundus.forms.wrappers.property.impl.constant.AbstractConstProperty;
 import com.markussecundus.forms.wrappers.property.impl.constant.SimpleConstProperty;
@@ -26,6 +28,19 @@ import com.markussecundus.forms.wrappers.property.impl.constant.SimpleConstPrope
 public abstract class AbstractReadonlyProperty<T> extends ReadonlyWrapper.AbstractSimpleWrapper<T> implements ReadonlyProperty<T> {
 //protected:
 
+    /**
+     * Vytvoří Property, jež každé nastavení považuje za změnu ({@link ChangePolicy#ALWAYS}).
+     * */
+    protected AbstractReadonlyProperty(){}
+
+    /**
+     * Vytvoří Property s danou politikou potlačování nezměněných hodnot.
+     *
+     * @param changePolicy politika určující, která nastavení jsou považována za změnu
+     * */
+    protected AbstractReadonlyProperty(ChangePolicy changePolicy){setChangePolicy(changePolicy);}
+
+
     /**
      * Skutečná vnitřní implementace procesu získání vnitřní hodnoty. Volána před tím, než se provede getter.
      * Neměla by mít postranní efekty.
@@ -55,12 +70,18 @@ public abstract class AbstractReadonlyProperty<T> extends ReadonlyWrapper.Abstra
      * */
     protected WriteonlyWrapper<T> makeSetter(){return new Setter();}
 
+    /**
+     * @return zda již byly vytvořeny setter-listenery, tj. zda může na změny hodnoty někdo čekat
+     * */
+    protected final boolean hasSetterListeners(){return setterListeners != null;}
+
 
 //public:
 
     @Override public final T get() {
+        ComputedProperty.recordRead(this);
         if( getterListeners!=null)
-            getterListeners.get().exec( GetterListenerArgs.make(this, obtainListenerlessWrapper()));
+            getterListeners.get().exec(getterArgs());
         return obtain();
     }
 
@@ -71,12 +92,27 @@ public abstract class AbstractReadonlyProperty<T> extends ReadonlyWrapper.Abstra
      * */
     private final T set(T t){
         T old = this.obtain();
+        if(!changePolicy.isChange(old, t))
+            return old;
         this.change(t);
         if(setterListeners!=null)
-            setterListeners.get().exec( SetterListenerArgs.make(this, old, obtainListenerlessWrapper()));
+            execSetterListeners(old);
         return obtain();
     }
 
+    /**
+     * @return politika určující, která nastavení jsou považována za změnu
+     * */
+    public ChangePolicy getChangePolicy(){return changePolicy;}
+
+    /**
+     * Nastaví politiku určující, která nastavení jsou považována za změnu.
+     * Nastavení, jež změnou nejsou, ponechají starou hodnotu a neprovedou setter-listenery.
+     *
+     * @param changePolicy nová politika; <code>null</code> znamená {@link ChangePolicy#ALWAYS}
+     * */
+    public void setChangePolicy(ChangePolicy changePolicy){this.changePolicy = changePolicy == null ? ChangePolicy.ALWAYS : changePolicy;}
+
     /**
      * {@inheritDoc}
      *
@@ -101,9 +137,57 @@ public abstract class AbstractReadonlyProperty<T> extends ReadonlyWrapper.Abstra
 
 //private:
 
+    private ChangePolicy changePolicy = ChangePolicy.ALWAYS;
+
     private AbstractConstProperty<EventDelegate<GetterListenerArgs<T>>> getterListeners = null;
     private AbstractConstProperty<EventDelegate<SetterListenerArgs<T>>> setterListeners = null;
 
+    /**
+     * Argumenty getterových listenerů jsou pro všechna volání getteru stejné - vytvoří se tedy jen jednou, líně.
+     * */
+    private GetterListenerArgs<T> getterArgs = null;
+
+    private GetterListenerArgs<T> getterArgs(){
+        if(getterArgs == null)
+            getterArgs = GetterListenerArgs.make(this, obtainListenerlessWrapper());
+        return getterArgs;
+    }
+
+    /**
+     * Znovupoužívaná instance argumentů setterových listenerů, vytvořená líně.
+     * */
+    private SetterListenerArgs.Reusable<T> setterArgs = null;
+
+    /**
+     * Zástupce této Property v {@link PropertyTransaction}, vytvořený líně.
+     * */
+    private DeferredSetterListeners deferredSetterListeners = null;
+
+    private class DeferredSetterListeners implements PropertyTransaction.Participant{
+        @SuppressWarnings("unchecked")  //PropertyTransaction vrací přesně tu hodnotu, kterou jsme mu předali v execSetterListeners
+        @Override public void execDeferredSetterListeners(Object oldVal) {
+            if(changePolicy.isChange(oldVal, obtain()))
+                execSetterListeners((T) oldVal);
+        }
+    }
+
+    private void execSetterListeners(T old){
+        if(PropertyTransaction.isActive()){
+            if(deferredSetterListeners == null)
+                deferredSetterListeners = new DeferredSetterListeners();
+            PropertyTransaction.deferSetterListeners(deferredSetterListeners, old);
+            return;
+        }
+        if(setterArgs == null)
+            setterArgs = new SetterListenerArgs.Reusable<>(this, obtainListenerlessWrapper());
+        SetterListenerArgs<T> args = setterArgs.obtain(old);
+        try {
+            setterListeners.get().exec(args);
+        } finally {
+            setterArgs.release(args);
+        }
+    }
+
 
     private class ListenerlessWrapper extends ReadonlyWrapper.AbstractSimpleWrapper<T>{
         @Override public T get() {
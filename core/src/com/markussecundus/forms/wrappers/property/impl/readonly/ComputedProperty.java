@@ -0,0 +1,226 @@
+package com.markussecundus.forms.wrappers.property.impl.readonly;
+
+import com.markussecundus.forms.events.EventDelegate;
+import com.markussecundus.forms.events.EventListener;
+import com.markussecundus.forms.events.ListenerPriorities;
+import com.markussecundus.forms.utils.datastruct.AutobucketedList;
+import com.markussecundus.forms.utils.function.Supplier;
+import com.markussecundus.forms.wrappers.WriteonlyWrapper;
+import com.markussecundus.forms.wrappers.property.ChangePolicy;
+import com.markussecundus.forms.wrappers.property.ConstProperty;
+import com.markussecundus.forms.wrappers.property.PropertyTransaction;
+import com.markussecundus.forms.wrappers.property.ReadonlyProperty;
+import com.markussecundus.forms.wrappers.property.impl.constant.SimpleConstProperty;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+
+/**
+ * {@link ReadonlyProperty}, jejíž hodnota je vypočítávána dodanou funkcí z hodnot jiných Properties - líně a s pamětí.
+ * <p></p>
+ * Na rozdíl od {@link com.markussecundus.forms.wrappers.property.binding.Bindings#bind} není hodnota přepočítávána při každé změně zdrojů,
+ * ale až při prvním čtení po ní - zdroje, které se mezi dvěma čteními změní mnohokrát, tak stojí jediný přepočet.
+ * <p></p>
+ * Zdroje není třeba vyjmenovávat - při každém výpočtu jsou zaznamenány všechny Properties, jejichž getter funkce zavolala,
+ * a na jejich setter-listenery je pověšen listener, který hodnotu zneplatní. Zdroje, které při posledním výpočtu přečteny nebyly, jsou odpojeny.
+ * Zaznamenávají se Properties odvozené od kanonických abstraktních implementací (obecných, readonly i primitivních); závisí-li výpočet na
+ * jiné {@link ComputedProperty}, reaguje na její zneplatnění, takže ani ta nemusí být přepočítána dřív, než je skutečně potřeba.
+ * <p></p>
+ * Setter-listenery jsou provedeny při každém přepočtu (podle nastavené {@link ChangePolicy}). Má-li Property setter-listenery
+ * (např. je-li zdrojem bindingu), přepočítává se kvůli nim při zneplatnění rovnou, aby se změna mohla šířit dál.
+ * <p></p>
+ * Během {@link PropertyTransaction}, kdy je zneplatňování odloženo spolu s listenery zdrojů, je hodnota přepočítána při každém čtení.
+ * <p></p>
+ * Zdroje drží na Property silné reference - Property kratšího života než její zdroje by měla být uvolněna pomocí {@link #dispose()}.
+ * <p></p>
+ * Stejně jako zbytek knihovny není vláknově bezpečná - smí být používána pouze z vykreslovacího vlákna.
+ *
+ * @param <T> typ na který Property ukazuje
+ *
+ * @see com.markussecundus.forms.wrappers.property.impl.readonly.AbstractReadonlyProperty
+ * @see com.markussecundus.forms.wrappers.property.impl.readonly.LazyReadonlyProperty
+ *
+ * @author MarkusSecundus
+ * */
+public class ComputedProperty<T> extends AbstractReadonlyProperty<T> {
+//public:
+
+    /**
+     * Vytvoří Property, jež každý přepočet považuje za změnu ({@link ChangePolicy#ALWAYS}).
+     *
+     * @param computation funkce, která hodnotu vypočítá z hodnot jiných Properties
+     * */
+    public ComputedProperty(Supplier<T> computation){this(computation, ChangePolicy.ALWAYS);}
+
+    /**
+     * Vytvoří Property s danou politikou potlačování nezměněných hodnot.
+     *
+     * @param computation funkce, která hodnotu vypočítá z hodnot jiných Properties
+     * @param changePolicy politika určující, které přepočty jsou považovány za změnu a provedou setter-listenery
+     * */
+    public ComputedProperty(Supplier<T> computation, ChangePolicy changePolicy){
+        super(changePolicy);
+        this.computation = computation;
+        this.setter = makeSetter();
+    }
+
+
+    /**
+     * Zaznamená, že byla přečtena hodnota dané Property, pokud právě probíhá výpočet nějaké {@link ComputedProperty}.
+     * <p></p>
+     * Voláno z getterů kanonických implementací Properties.
+     *
+     * @param source přečtená Property
+     * */
+    public static void recordRead(ReadonlyProperty<?> source){
+        if(tracking != null && tracking != source)
+            tracking.addDependency(source);
+    }
+
+
+    /**
+     * Zneplatní hodnotu, takže bude při příštím čtení přepočítána.
+     * Provede listenery zneplatnění; má-li Property setter-listenery, rovnou ji přepočítá.
+     * */
+    public void invalidate(){
+        if(isDirty)
+            return;
+        isDirty = true;
+        if(invalidationListeners != null)
+            invalidationListeners.get().exec(this);
+        if(hasSetterListeners())
+            obtain();
+    }
+
+    /**
+     * @return zda je zapamatovaná hodnota platná, tj. zda ji příští čtení nebude přepočítávat
+     * */
+    public boolean isValid(){return !isDirty;}
+
+    /**
+     * Odpojí Property od všech zdrojů a zneplatní její hodnotu.
+     * Při příštím čtení je hodnota přepočítána a zdroje znovu zaznamenány.
+     * */
+    public void dispose(){
+        for(AutobucketedList.Handle<?> h: dependencies.values())
+            h.remove();
+        dependencies.clear();
+        isDirty = true;
+    }
+
+    /**
+     * Listenery, které jsou provedeny, když je hodnota zneplatněna.
+     * <p></p>
+     * Listenery jsou generovány líně.
+     *
+     * @return delegát listenerů zneplatnění
+     * */
+    public ConstProperty<EventDelegate<ComputedProperty<T>>> invalidationListeners(){
+        if(invalidationListeners == null)
+            invalidationListeners = new SimpleConstProperty<>(EventDelegate.make());
+        return invalidationListeners;
+    }
+
+    /**
+     * @return Pohodlnější zkratka pro <code>invalidationListeners().get()</code>
+     * */
+    public EventDelegate<ComputedProperty<T>> getInvalidationListeners(){return invalidationListeners().get();}
+
+
+//protected:
+
+    /**
+     * Je-li hodnota neplatná, přepočítá ji.
+     *
+     * {@inheritDoc}
+     * */
+    @Override protected T obtain() {
+        if(!isUpdating && (isDirty || PropertyTransaction.isActive()))
+            recompute();
+        return val;
+    }
+
+    @Override protected T change(T val) {
+        return this.val = val;
+    }
+
+
+//private:
+
+    private final Supplier<T> computation;
+
+    private final WriteonlyWrapper<T> setter;
+
+    private T val;
+
+    private boolean isDirty = true, isComputing = false, isUpdating = false;
+
+    private SimpleConstProperty<EventDelegate<ComputedProperty<T>>> invalidationListeners = null;
+
+    /**
+     * Zdroje zaznamenané při posledním výpočtu, spolu s handly listenerů, které na ně byly pověšeny.
+     * */
+    private Map<ReadonlyProperty<?>, AutobucketedList.Handle<?>> dependencies = new IdentityHashMap<>(), collectedDependencies = new IdentityHashMap<>();
+
+    private final EventListener<Object> invalidator = e->{
+        invalidate();
+        return true;
+    };
+
+    /**
+     * Property, jejíž výpočet právě probíhá a která si zaznamenává čtené zdroje.
+     * */
+    private static ComputedProperty<?> tracking = null;
+
+    private void recompute(){
+        if(isComputing)
+            throw new IllegalStateException("Cyclic dependency - ComputedProperty was read during its own computation!");
+
+        ComputedProperty<?> outer = tracking;
+        T newVal;
+        isComputing = true;
+        tracking = this;
+        try {
+            newVal = computation.get();
+        }finally {
+            tracking = outer;
+            isComputing = false;
+            releaseUnusedDependencies();
+        }
+        isDirty = false;
+
+        isUpdating = true;
+        try {
+            setter.set(newVal);
+        }finally {
+            isUpdating = false;
+        }
+    }
+
+    private void addDependency(ReadonlyProperty<?> source){
+        if(collectedDependencies.containsKey(source))
+            return;
+        AutobucketedList.Handle<?> handle = dependencies.remove(source);
+        if(handle == null){
+            if(source instanceof ComputedProperty)
+                handle = ((ComputedProperty<?>)source).getInvalidationListeners().addListener(ListenerPriorities.USER, invalidator);
+            else
+                handle = source.getSetterListeners().addListener(ListenerPriorities.PRE_UTIL, invalidator);
+        }
+        collectedDependencies.put(source, handle);
+    }
+
+    /**
+     * Odpojí zdroje, které nebyly přečteny při posledním výpočtu, a zaznamenané zdroje učiní aktuálními.
+     * */
+    private void releaseUnusedDependencies(){
+        for(AutobucketedList.Handle<?> h: dependencies.values())
+            h.remove();
+        dependencies.clear();
+
+        Map<ReadonlyProperty<?>, AutobucketedList.Handle<?>> tmp = dependencies;
+        dependencies = collectedDependencies;
+        collectedDependencies = tmp;
+    }
+}
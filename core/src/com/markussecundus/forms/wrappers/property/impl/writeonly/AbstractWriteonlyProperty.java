@@ -61,7 +61,7 @@ public abstract class AbstractWriteonlyProperty<T> implements WriteonlyProperty<
     @Override public T set(T t) {
         change(t);
         if(setterListeners!=null)
-            setterListeners.get().exec( SetterListenerArgs.make(this, obtainListenerlessWrapper()));
+            setterListeners.get().exec(setterArgs());
         return t;
     }
 
@@ -72,7 +72,7 @@ public abstract class AbstractWriteonlyProperty<T> implements WriteonlyProperty<
      * */
     private T get(){
         if(getterListeners!=null)
-            getterListeners.get().exec( GetterListenerArgs.make(this, obtainListenerlessWrapper()));
+            getterListeners.get().exec(getterArgs());
         return obtain();
     }
 
@@ -106,6 +106,28 @@ public abstract class AbstractWriteonlyProperty<T> implements WriteonlyProperty<
     private AbstractConstProperty<EventDelegate<SetterListenerArgs<T>>> setterListeners = null;
     private AbstractConstProperty<EventDelegate<GetterListenerArgs<T>>> getterListeners = null;
 
+    /**
+     * Argumenty getterových listenerů jsou pro všechna volání getteru stejné - vytvoří se tedy jen jednou, líně.
+     * */
+    private GetterListenerArgs<T> getterArgs = null;
+
+    private GetterListenerArgs<T> getterArgs(){
+        if(getterArgs == null)
+            getterArgs = GetterListenerArgs.make(this, obtainListenerlessWrapper());
+        return getterArgs;
+    }
+
+    /**
+     * Argumenty setterových listenerů jsou pro všechna volání setteru stejné - vytvoří se tedy jen jednou, líně.
+     * */
+    private SetterListenerArgs<T> setterArgs = null;
+
+    private SetterListenerArgs<T> setterArgs(){
+        if(setterArgs == null)
+            setterArgs = SetterListenerArgs.make(this, obtainListenerlessWrapper());
+        return setterArgs;
+    }
+
 
     private class ListenerlessWrapper implements WriteonlyWrapper<T>{
         @Override public T set(T t) {
@@ -5,7 +5,11 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
 import com.markussecundus.forms.elements.DrawableElem;
+import com.markussecundus.forms.events.CoalescingEventDelegate;
+import com.markussecundus.forms.events.DeferredScheduler;
+import com.markussecundus.forms.events.DispatchMetrics;
 import com.markussecundus.forms.utils.vector.Vect2f;
+import com.markussecundus.forms.wrappers.property.binding.DeferredBindingExecutor;
 import com.markussecundus.formsgdx.rendering.BasicRenderer;
 
 
@@ -69,7 +73,12 @@ public abstract class BasicFormApplication extends ApplicationAdapter {
 
     @Override
     public final void render() {
+        DispatchMetrics.beginFrame();
+
         Form.update(Gdx.graphics.getDeltaTime(), ++frameNum);
+        CoalescingEventDelegate.flushAll();     //doručí události nahromaděné během snímku, aby se promítly ještě do jeho vykreslení
+        DeferredScheduler.runFrame();           //odložená práce z předchozích snímků, jen dokud nevyprší časový rozpočet snímku
+        DeferredBindingExecutor.flushAll();     //bindingy odložené během snímku se vyhodnotí jednou, až z konečných hodnot zdrojů
 
         Gdx.gl.glClearColor(BackgroundColor.r, BackgroundColor.g, BackgroundColor.b, BackgroundColor.a);
         //Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
@@ -306,7 +306,7 @@ public class FormsGdxExample extends BasicFormApplication {
 				}},
 				Color.FOREST
 		);
-		switchButton.getOnTouchUpListener().add(e-> {if(e.actor.isClicked())root.jumpCurrent(1);});
+		switchButton.getOnTouchUpListener().add(e-> {if(e.actor().isClicked())root.jumpCurrent(1);});
 
 		ly.addDrawableChild(switchButton, 0, 3);
 
@@ -447,7 +447,7 @@ public class FormsGdxExample extends BasicFormApplication {
 				}},
 				Color.FOREST
 		);
-		switchButton.getOnTouchUpListener().add(e->{if(e.actor.isClicked())root.jumpCurrent(1);});
+		switchButton.getOnTouchUpListener().add(e->{if(e.actor().isClicked())root.jumpCurrent(1);});
 
 		ly.getDrawableChildren().add(1, switchButton);
 
@@ -13,8 +13,8 @@ import com.markussecundus.forms.utils.function.Function;
 import com.markussecundus.forms.utils.vector.Vect2f;
 import com.markussecundus.forms.utils.vector.Vect2i;
 import com.markussecundus.forms.utils.vector.VectUtil;
-import com.markussecundus.forms.wrappers.property.Property;
-import com.markussecundus.forms.wrappers.property.impl.general.SimpleProperty;
+import com.markussecundus.forms.wrappers.property.impl.general.SimpleFloatProperty;
+import com.markussecundus.forms.wrappers.property.raw.FloatProperty;
 import com.markussecundus.formsgdx.Style;
 import com.markussecundus.formsgdx.graphics.RoundedRectangle;
 import com.markussecundus.formsgdx.input.args.OnMouseMovedArgs;
@@ -76,15 +76,15 @@ public abstract class Slider< Telo extends GraphicalPrimitive<? super BasicRende
         //<\při změně velikosti Slideru zaručíme, že komponenty se do něj pořád ještě vejdou>
 
 
-        this.value  = new SimpleProperty<>(0f);                 //hodnota posuvníku je iniciálně 0
+        this.value  = new SimpleFloatProperty(0f);                 //hodnota posuvníku je iniciálně 0
 
         this.value.getSetterListeners().getListeners(ListenerPriorities.ARG_GUARD).add(e->{            //zaručíme, že hodnota posuvníku bude v intervalu 0f..1f, případné přetečení se oseká
-            e.newVal().set(FormsUtil.intoBounds(0f,e.newVal().get(), 1f));
+            e.newVal().set_raw(FormsUtil.intoBounds(0f,e.newVal().get_raw(), 1f));
             return true;
         });
 
         this.getOnTouchDraggedListener()._getUtilListeners().add(e->{   //při kliknutí na posuvník nastavíme hodnotu podle polohy kliknutí
-            setValue(e.x/getSize().x);           //podíl vzdálenosti kliku od počátku vůči celkové délce posuvníku
+            setValue(e.x()/getSize().x);           //podíl vzdálenosti kliku od počátku vůči celkové délce posuvníku
             return true;
         });
         this.getOnClickedListener()._getPostUtilListeners().add(e->{    //změna hodnoty posuvníku se provede i při jednorázovém kliknutí
@@ -121,16 +121,16 @@ public abstract class Slider< Telo extends GraphicalPrimitive<? super BasicRende
      *
      * @return hodnota posuvníku
      * */
-    public Property<Float> value(){return value;}
+    public FloatProperty value(){return value;}
 
     /**
-     * @return Pohodlnější zkratka pro <code>value().get()</code>
+     * @return Pohodlnější zkratka pro <code>value().get_raw()</code>
      * */
-    public Float getValue(){return value().get();}
+    public float getValue(){return value().get_raw();}
     /**
-     * @return Pohodlnější zkratka pro <code>value().set(newVal)</code>
+     * @return Pohodlnější zkratka pro <code>value().set_raw(newVal)</code>
      * */
-    public Float setValue(Float newVal){return value().set(newVal);}
+    public float setValue(float newVal){return value().set_raw(newVal);}
 
 
     @Override
@@ -150,7 +150,7 @@ public abstract class Slider< Telo extends GraphicalPrimitive<? super BasicRende
                 IListeneredUniversalConsumer.super.__ListeneredTouchConsumer_option__touchInputBoundsGetter();
 
         return (self, del)-> (del == self.onTouchDragged.get())     //pro Delegát zpracovávající onTouchDragged
-                ? (e -> self.isClicked() && self.isPointer(((OnTouchDraggedArgs)e).pointer) ? IListeneredTouchConsumer.Util.SKIPPER_ALWAYS_HIT : IListeneredTouchConsumer.Util.SKIPPER_NO_HIT)
+                ? (e -> self.isClicked() && self.isPointer(((OnTouchDraggedArgs)e).pointer()) ? IListeneredTouchConsumer.Util.SKIPPER_ALWAYS_HIT : IListeneredTouchConsumer.Util.SKIPPER_NO_HIT)
                 : puvodni.apply(self, del);     //pro ostatní Delegáty vrátíme původní hodnotu
 
     }
@@ -160,7 +160,7 @@ public abstract class Slider< Telo extends GraphicalPrimitive<? super BasicRende
     /**
      * Property pro hodnotu slideru.
      */
-    private final Property<Float> value;
+    private final FloatProperty value;
 
     /**
      * Posuvníková část slideru.
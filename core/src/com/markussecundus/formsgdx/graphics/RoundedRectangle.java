@@ -8,7 +8,9 @@ import com.markussecundus.forms.gfx.GraphicalPrimitive;
 import com.markussecundus.forms.utils.vector.Vect2f;
 import com.markussecundus.forms.utils.vector.VectUtil;
 import com.markussecundus.forms.wrappers.property.Property;
+import com.markussecundus.forms.wrappers.property.impl.general.SimpleFloatProperty;
 import com.markussecundus.forms.wrappers.property.impl.general.SimpleProperty;
+import com.markussecundus.forms.wrappers.property.raw.FloatProperty;
 import com.markussecundus.formsgdx.Style;
 
 /**
@@ -31,7 +33,7 @@ public class RoundedRectangle extends IExtensible implements GraphicalPrimitive<
      * */
     public RoundedRectangle(Vect2f dims, float roundness, Color color){
         this.dimensions = new SimpleProperty<>(dims);
-        this.roundness = new SimpleProperty<>(roundness);
+        this.roundness = new SimpleFloatProperty(roundness);
         this.color = new SimpleProperty<>(color);
     }
 
@@ -72,7 +74,7 @@ public class RoundedRectangle extends IExtensible implements GraphicalPrimitive<
     /**
      * @return zaoblenost hran - poměr poloměrů rohových zaoblovcích kružnic vůči minimu z rozměrů obdélníku
      * */
-    public Property<Float> roundness(){return roundness;}
+    public FloatProperty roundness(){return roundness;}
 
     /**
      * @return Barva v které bude obdélník vykreslen na obrazovku.
@@ -80,18 +82,18 @@ public class RoundedRectangle extends IExtensible implements GraphicalPrimitive<
     public Property<Color> color(){return color;}
 
     /**
-     * @return Pohodnlnější zkrataka za <code>roundness().get()</code>
+     * @return Pohodnlnější zkrataka za <code>roundness().get_raw()</code>
      * */
-    public Float getRoundness(){return roundness().get();}
+    public float getRoundness(){return roundness().get_raw();}
     /**
      * @return Pohodnlnější zkrataka za <code>color().get()</code>
      * */
     public Color getColor(){return color().get();}
 
     /**
-     * @return Pohodnlnější zkrataka za <code>roundness().set(newRoundness)</code>
+     * @return Pohodnlnější zkrataka za <code>roundness().set_raw(newRoundness)</code>
      * */
-    public Float setRoundness(float newRoundness){return roundness().set(newRoundness);}
+    public float setRoundness(float newRoundness){return roundness().set_raw(newRoundness);}
     /**
      * @return Pohodnlnější zkrataka za <code>color().set(newColor)</code>
      * */
@@ -103,7 +105,7 @@ public class RoundedRectangle extends IExtensible implements GraphicalPrimitive<
 
 //private:
     private final Property<Vect2f> dimensions;
-    private final Property<Float> roundness;
+    private final FloatProperty roundness;
     private final Property<Color> color;
 
 
@@ -131,7 +133,7 @@ public class RoundedRectangle extends IExtensible implements GraphicalPrimitive<
         public SObrubou(Vect2f dims, float roundness, Vect2f borderSize, Color innerCol, Color outerCol){
             super(borderSize, new RoundedRectangle(dims, roundness, outerCol), new RoundedRectangle(dims, roundness, innerCol));
             obj1.roundness().getSetterListeners()._getPostUtilListeners().add(e->{
-                obj2.setRoundness(e.newVal().get());
+                obj2.setRoundness(e.newVal().get_raw());
                 return true;
             });
         }
@@ -148,7 +150,7 @@ public class RoundedRectangle extends IExtensible implements GraphicalPrimitive<
          * Zaoblenost obou komponent
          * @return zaoblenost obou komponent
          * */
-        public Property<Float> roundness(){return obj1.roundness();}
+        public FloatProperty roundness(){return obj1.roundness();}
     }
 
 
@@ -159,7 +159,7 @@ public interface InputConsumer {
          * {@inheritDoc}
          * */
         @Override
-        public default boolean touchDown(OnTouchArgs e) { return __InputConsumerFromProcessor_getBase().touchDown(e.x, e.y, e.pointer, e.button); }
+        public default boolean touchDown(OnTouchArgs e) { return __InputConsumerFromProcessor_getBase().touchDown(e.x(), e.y(), e.pointer(), e.button()); }
 
         /**
          * Přesměrovává na bázi.
@@ -167,7 +167,7 @@ public interface InputConsumer {
          * {@inheritDoc}
          * */
         @Override
-        public default boolean touchUp(OnTouchArgs e) { return __InputConsumerFromProcessor_getBase().touchUp(e.x, e.y, e.pointer,e.button); }
+        public default boolean touchUp(OnTouchArgs e) { return __InputConsumerFromProcessor_getBase().touchUp(e.x(), e.y(), e.pointer(),e.button()); }
 
         /**
          * Přesměrovává na bázi.
@@ -175,7 +175,7 @@ public interface InputConsumer {
          * {@inheritDoc}
          * */
         @Override
-        public default boolean touchDragged(OnTouchDraggedArgs e) { return __InputConsumerFromProcessor_getBase().touchDragged(e.x,e.y, e.pointer); }
+        public default boolean touchDragged(OnTouchDraggedArgs e) { return __InputConsumerFromProcessor_getBase().touchDragged(e.x(),e.y(), e.pointer()); }
 
         /**
          * Přesměrovává na bázi.
@@ -183,7 +183,7 @@ public interface InputConsumer {
          * {@inheritDoc}
          * */
         @Override
-        public default boolean mouseMoved(OnMouseMovedArgs e) { return __InputConsumerFromProcessor_getBase().mouseMoved(e.x,e.y); }
+        public default boolean mouseMoved(OnMouseMovedArgs e) { return __InputConsumerFromProcessor_getBase().mouseMoved(e.x(),e.y()); }
 
         /**
          * Přesměrovává na bázi.
@@ -252,25 +252,29 @@ public interface InputConsumer {
         /**{@inheritDoc}*/
         @Override
         default boolean touchDown(int screenX, int screenY, int pointer, int button){
-            return this.touchDown(OnTouchArgs.make(__InputConsumerToProcessor_getInputManager(), this, screenX, screenY, pointer, button));
+            OnTouchArgs e = OnTouchArgs.obtain(__InputConsumerToProcessor_getInputManager(), this, screenX, screenY, pointer, button);
+            try { return this.touchDown(e); } finally { e.release(); }
         }
 
         /**{@inheritDoc}*/
         @Override
         default boolean touchUp(int screenX, int screenY, int pointer, int button){
-            return this.touchUp(OnTouchArgs.make(__InputConsumerToProcessor_getInputManager(), this, screenX, screenY, pointer, button));
+            OnTouchArgs e = OnTouchArgs.obtain(__InputConsumerToProcessor_getInputManager(), this, screenX, screenY, pointer, button);
+            try { return this.touchUp(e); } finally { e.release(); }
         }
 
         /**{@inheritDoc}*/
         @Override
         default boolean touchDragged(int screenX, int screenY, int pointer){
-            return this.touchDragged(OnTouchDraggedArgs.make(__InputConsumerToProcessor_getInputManager(), this, screenX, screenY, pointer));
+            OnTouchDraggedArgs e = OnTouchDraggedArgs.obtain(__InputConsumerToProcessor_getInputManager(), this, screenX, screenY, pointer);
+            try { return this.touchDragged(e); } finally { e.release(); }
         }
 
         /**{@inheritDoc}*/
         @Override
         default boolean mouseMoved(int screenX, int screenY){
-            return this.mouseMoved(OnMouseMovedArgs.make(__InputConsumerToProcessor_getInputManager(), this, screenX, screenY));
+            OnMouseMovedArgs e = OnMouseMovedArgs.obtain(__InputConsumerToProcessor_getInputManager(), this, screenX, screenY);
+            try { return this.mouseMoved(e); } finally { e.release(); }
         }
 
         /**{@inheritDoc}*/
@@ -10,6 +10,7 @@ import com.markussecundus.forms.utils.function.Function;
 import com.markussecundus.forms.utils.function.Predicate;
 import com.markussecundus.forms.utils.datastruct.ObservedList;
 import com.markussecundus.forms.utils.vector.Vect2i;
+import com.markussecundus.formsgdx.input.args.OnInputEventArgs;
 import com.markussecundus.formsgdx.input.args.OnMouseMovedArgs;
 import com.markussecundus.formsgdx.input.args.OnTouchArgs;
 import com.markussecundus.formsgdx.input.mixins.IListeneredTouchConsumer;
@@ -60,18 +61,18 @@ public class InputManager extends IExtensible implements  InputConsumer, IListen
 
 
         getOnTouchDownListener()._getPostUtilListeners()
-                .add(e->tryConsumers(getTouchConsumers(), e.x, e.y, (c,v)->c.touchDown(e.with(c, v.x, v.y))));
+                .add(e->tryConsumers(getTouchConsumers(), e.x(), e.y(), (c,v)->OnInputEventArgs.dispatch(e.with(c, v.x, v.y), c::touchDown)));
         getOnTouchUpListener()._getPostUtilListeners()
-                .add(e->tryConsumers(getTouchConsumers(), e.x, e.y, (c,v)->c.touchUp(e.with(c, v.x, v.y))));
+                .add(e->tryConsumers(getTouchConsumers(), e.x(), e.y(), (c,v)->OnInputEventArgs.dispatch(e.with(c, v.x, v.y), c::touchUp)));
         getOnTouchDraggedListener()._getPostUtilListeners()
-                .add(e->tryConsumers(getTouchConsumers(), e.x, e.y, (c,v)->c.touchDragged(e.with(c, v.x, v.y))));
+                .add(e->tryConsumers(getTouchConsumers(), e.x(), e.y(), (c,v)->OnInputEventArgs.dispatch(e.with(c, v.x, v.y), c::touchDragged)));
         getOnMouseMovedListener()._getPostUtilListeners()
-                .add(e->tryConsumers(getTouchConsumers(), e.x, e.y, (c,v)->c.mouseMoved(e.with(c, v.x, v.y))));
+                .add(e->tryConsumers(getTouchConsumers(), e.x(), e.y(), (c,v)->OnInputEventArgs.dispatch(e.with(c, v.x, v.y), c::mouseMoved)));
 
         getOnClickedListener()._getPostUtilListeners()
-                .add(e->tryConsumers(getTouchConsumers(), e.x, e.y, (c,v)->c.clicked(e.with(c, v.x, v.y))));
+                .add(e->tryConsumers(getTouchConsumers(), e.x(), e.y(), (c,v)->OnInputEventArgs.dispatch(e.with(c, v.x, v.y), c::clicked)));
         getOnUnclickedListener()._getPostUtilListeners()
-                .add(e->tryConsumers(getTouchConsumers(), e.x, e.y, (c,v)->c.clicked(e.with(c, v.x, v.y))));
+                .add(e->tryConsumers(getTouchConsumers(), e.x(), e.y(), (c,v)->OnInputEventArgs.dispatch(e.with(c, v.x, v.y), c::clicked)));
 
 
         getOnScrollListener()._getPostUtilListeners()
@@ -128,6 +129,28 @@ public class InputManager extends IExtensible implements  InputConsumer, IListen
         return false;
     }
 
+    /**
+     * Dotykové delegáty {@link InputManager}a procházejí své listenery přes kešovaný snapshot,
+     * jelikož se do nich při každém kliknutí přidávají a zase z nich odebírají listenery odkliknutí.
+     *
+     * @return <code>{@link EventDelegate}.makeSnapshotting()</code>
+     * */
+    @Override
+    public <T> EventDelegate<T> __ListeneredTouchConsumer_option__MakeEventDelegate() {
+        return EventDelegate.makeSnapshotting();
+    }
+
+    /**
+     * Pohyby myší jsou slučovány - příjemcům je jednou za snímek (v <code>BasicFormApplication.render</code>) doručen pouze ten poslední,
+     * takže se rozložení pod kurzorem neprochází při každém jednotlivém pohybu, kterých může být za snímek i několik desítek.
+     *
+     * @return <code>{@link EventDelegate}.makeCoalescing(null)</code>
+     * */
+    @Override
+    public EventDelegate<OnMouseMovedArgs> __ListeneredTouchConsumer_option__MakeMouseMovedDelegate() {
+        return EventDelegate.makeCoalescing(null);
+    }
+
     /**
      * Přijat bude libovolný vstup detekovaný na jakémkoliv místě obrazovky.
      *
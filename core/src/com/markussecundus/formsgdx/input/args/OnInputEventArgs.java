@@ -1,10 +1,20 @@
 package com.markussecundus.formsgdx.input.args;
 
+import com.markussecundus.forms.events.TransientArgs;
+import com.markussecundus.forms.utils.function.Predicate;
+import com.markussecundus.forms.utils.function.Supplier;
 import com.markussecundus.formsgdx.input.InputConsumer;
 import com.markussecundus.formsgdx.input.InputManager;
 
 /**
  * Základní datová třída sdružující argumenty společné pro všechny typy událostí zpracování vstupu.
+ * <p>
+ * Argumenty dotykových událostí mohou být poolované (viz {@link TransientArgs}) - taková instance je platná pouze po dobu
+ * zpracování události, kterému byla předána. Kdo si argumenty chce ponechat déle, musí si uložit výsledek {@link #retain()}.
+ * <p>
+ * Instance odvozená skrze <code>with(...)</code> z poolované instance je znovupoužívána, jakmile je uvolněna skrze {@link #release()}
+ * (k čemuž slouží {@link #dispatch(OnInputEventArgs, Predicate)}). Dokud uvolněna není, vytváří <code>with(...)</code> instance nové
+ * - argumenty, které příjemce ještě zpracovává, tak nikdy nejsou přepsány.
  *
  * @see OnInputEventArgs
  *
@@ -22,22 +32,136 @@ import com.markussecundus.formsgdx.input.InputManager;
  *
  * @author MarkusSecundus
  * */
-public class OnInputEventArgs {
+public class OnInputEventArgs implements TransientArgs<OnInputEventArgs> {
     /**
-     * Instance {@link InputManager}, v níž započala daná událost.
+     * @return Instance {@link InputManager}, v níž započala daná událost.
      * */
-    public final InputManager manager;
+    public InputManager manager(){return manager;}
 
     /**
-     * Instance {@link InputConsumer}, v jejímž listeneru je tato instance argumentů používána.
+     * @return Instance {@link InputConsumer}, v jejímž listeneru je tato instance argumentů používána.
      * */
-    public final InputConsumer actor;
+    public InputConsumer actor(){return actor;}
 
     /**
      * Inicializuje instanci danými hodnotami.
      * */
     public OnInputEventArgs(InputManager manager, InputConsumer actor){
+        init(manager, actor);
+    }
+
+    @Override
+    public boolean isTransient() {
+        return isTransient;
+    }
+
+    /**
+     * {@inheritDoc}
+     * */
+    @Override
+    public OnInputEventArgs retain() {
+        return isTransient ? new OnInputEventArgs(manager, actor) : this;
+    }
+
+    /**
+     * Vrátí poolovanou instanci, získanou skrze <code>obtain(...)</code> či <code>with(...)</code>, zpět k znovupoužití.
+     * Uvolnění kořenové instance uvolní i všechny z ní odvozené instance - zpracování události skončilo.
+     * Pro nepoolované instance nedělá nic.
+     * */
+    public void release(){
+        if(!isTransient)
+            return;
+        for(OnInputEventArgs args = this; args != null && args.inUse; args = args.reusableChild)
+            args.inUse = false;
+        if(isPooledRoot)
+            init(null, null);
+    }
+
+    /**
+     * Předá dané argumenty danému příjemci a poté je uvolní skrze {@link #release()}.
+     * <p>
+     * Určeno pro distribuci instancí získaných skrze <code>with(...)</code>, aby rodičovská instance mohla tutéž instanci
+     * znovupoužít pro dalšího příjemce.
+     *
+     * @param args argumenty k předání
+     * @param receiver příjemce argumentů
+     * @param <A> typ argumentů
+     *
+     * @return hodnota vrácená příjemcem
+     * */
+    public static <A extends OnInputEventArgs> boolean dispatch(A args, Predicate<? super A> receiver){
+        try {
+            return receiver.test(args);
+        }finally {
+            args.release();
+        }
+    }
+
+    /**
+     * Naplní instanci danými hodnotami.
+     * */
+    protected void init(InputManager manager, InputConsumer actor){
         this.manager = manager;
         this.actor = actor;
     }
+
+    /**
+     * Vrátí znovupoužitelnou odvozenou instanci pro <code>with(...)</code> a označí ji jako používanou.
+     * Pokud ji instance zatím nemá, použije k tomu dodanou novou instanci.
+     *
+     * @param fresh nová instance, kterou lze použít, pokud tato instance znovupoužitelnou odvozenou instanci zatím nemá
+     *
+     * @return znovupoužitelná odvozená instance, nebo <code>null</code>, pokud tato instance není poolovaná
+     *      nebo je odvozená instance právě používána
+     * */
+    protected OnInputEventArgs obtainReusableChild(Supplier<? extends OnInputEventArgs> fresh){
+        if(!isTransient)
+            return null;
+        if(reusableChild == null)
+            (reusableChild = fresh.get()).isTransient = true;
+        else if(reusableChild.inUse)
+            return null;
+        reusableChild.inUse = true;
+        return reusableChild;
+    }
+
+    /**
+     * Označí danou instanci jako poolovanou.
+     * */
+    protected static <A extends OnInputEventArgs> A transientCopy(A args){
+        args.isTransient = true;
+        return args;
+    }
+
+    /**
+     * Označí danou instanci jako kořen poolu.
+     * */
+    protected static <A extends OnInputEventArgs> A transientRoot(A args){
+        args.isPooledRoot = true;
+        return transientCopy(args);
+    }
+
+
+    /**
+     * Zda je instance poolovaná.
+     * */
+    protected boolean isTransient = false;
+
+    /**
+     * Zda je instance kořenem poolu - tj. znovupoužívá se pro další událost, jakmile je uvolněna skrze {@link #release()}.
+     * */
+    protected boolean isPooledRoot = false;
+
+    /**
+     * Zda je kořenová instance poolu právě používána.
+     * */
+    protected boolean inUse = false;
+
+    /**
+     * Poolovaná instance, která je znovupoužívána jako výsledek <code>with(...)</code> této instance.
+     * */
+    protected OnInputEventArgs reusableChild = null;
+
+    private InputManager manager;
+    private InputConsumer actor;
 }
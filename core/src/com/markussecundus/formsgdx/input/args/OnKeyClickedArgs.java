@@ -51,10 +51,10 @@ public class OnKeyClickedArgs extends OnInputEventArgs {
     /**
      * @return Instance datové třídy sestávající z nových hodnot, zachovávajíce původní hodnoty tam, kde nové nejsou poskytnuty.
      * */
-    public OnKeyClickedArgs with(InputConsumer actor){return actor==this.actor?this:make(manager, actor, keycode);}
+    public OnKeyClickedArgs with(InputConsumer actor){return actor==actor()?this:make(manager(), actor, keycode);}
 
     /**
      * @return Instance datové třídy sestávající z nových hodnot, zachovávajíce původní hodnoty tam, kde nové nejsou poskytnuty.
      * */
-    public OnKeyClickedArgs with(InputConsumer actor, int keycode){return actor==this.actor?this:make(manager, actor, keycode);}
+    public OnKeyClickedArgs with(InputConsumer actor, int keycode){return actor==actor()?this:make(manager(), actor, keycode);}
 }
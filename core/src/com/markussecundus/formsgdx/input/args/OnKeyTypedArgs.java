@@ -48,5 +48,5 @@ public class OnKeyTypedArgs extends OnInputEventArgs {
     /**
      * @return Instance datové třídy sestávající z nových hodnot, zachovávajíce původní hodnoty tam, kde nové nejsou poskytnuty.
      * */
-    public OnKeyTypedArgs with(InputConsumer actor){ return actor==this.actor?this:make(manager, actor, character);}
+    public OnKeyTypedArgs with(InputConsumer actor){ return actor==actor()?this:make(manager(), actor, character);}
 }
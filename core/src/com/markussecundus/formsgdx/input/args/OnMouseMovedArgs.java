@@ -23,10 +23,16 @@ import com.markussecundus.formsgdx.input.InputManager;
  * */
 public class OnMouseMovedArgs extends OnInputEventArgs {
     /**
-     * Souřadnice, na kterých ke vstupní události došlo,
+     * @return Souřadnice x, na které ke vstupní události došlo,
      * relativní vůči pozici objektu aktuálně vstup zpracovávajícího.
      * */
-    public final int x,  y;
+    public int x(){return x;}
+
+    /**
+     * @return Souřadnice y, na které ke vstupní události došlo,
+     * relativní vůči pozici objektu aktuálně vstup zpracovávajícího.
+     * */
+    public int y(){return y;}
 
     /**
      * Inicializuje instanci danými hodnotami.
@@ -47,21 +53,59 @@ public class OnMouseMovedArgs extends OnInputEventArgs {
     /**
      * @return Instance datové třídy sestávající z nových hodnot, zachovávajíce původní hodnoty tam, kde nové nejsou poskytnuty.
      * */
-    public OnMouseMovedArgs with(InputConsumer actor){return actor==this.actor?this:make(manager, actor, x, y);}
+    public OnMouseMovedArgs with(InputConsumer actor){return actor==actor()?this:with(actor, x, y);}
 
     /**
      * @return Instance datové třídy sestávající z nových hodnot, zachovávajíce původní hodnoty tam, kde nové nejsou poskytnuty.
      * */
-    public OnMouseMovedArgs with(InputConsumer actor, int x, int y){return make(manager, actor, x, y);}
+    public OnMouseMovedArgs with(InputConsumer actor, int x, int y){
+        OnMouseMovedArgs child = (OnMouseMovedArgs) obtainReusableChild(() -> new OnMouseMovedArgs(null, null, 0, 0));
+        return child == null ? make(manager(), actor, x, y) : child.init(manager(), actor, x, y);
+    }
+
+    /**
+     * @return poolovaná instance naplněná danými hodnotami, která musí být po skončení zpracování události uvolněna skrze {@link #release()}
+     * */
+    public static OnMouseMovedArgs obtain(InputManager manager, InputConsumer actor, int x, int y){
+        OnMouseMovedArgs ret = pooledRoot;
+        if(ret == null)
+            pooledRoot = ret = transientRoot(new OnMouseMovedArgs(manager, actor, x, y));
+        else if(ret.inUse)
+            ret = transientCopy(new OnMouseMovedArgs(manager, actor, x, y));
+        ret.inUse = true;
+        return ret.init(manager, actor, x, y);
+    }
+
+    /**
+     * {@inheritDoc}
+     * */
+    @Override
+    public OnMouseMovedArgs retain() {
+        return isTransient ? make(manager(), actor(), x, y) : this;
+    }
+
+    /**
+     * Naplní instanci danými hodnotami.
+     * */
+    protected OnMouseMovedArgs init(InputManager manager, InputConsumer actor, int x, int y){
+        init(manager, actor);
+        this.x = x;
+        this.y = y;
+        return this;
+    }
+
+    private int x, y;
+
+    private static OnMouseMovedArgs pooledRoot = null;
 
 
     /**
      * @return Instance datové třídy sestávající z nových hodnot, zachovávajíce původní hodnoty tam, kde nové nejsou poskytnuty.
      * */
-    public com.markussecundus.formsgdx.input.args.OnTouchDraggedArgs with(InputConsumer actor, int x, int y, int pointer){return OnTouchDraggedArgs.make(manager, actor, x, y,pointer);}
+    public com.markussecundus.formsgdx.input.args.OnTouchDraggedArgs with(InputConsumer actor, int x, int y, int pointer){return OnTouchDraggedArgs.make(manager(), actor, x, y,pointer);}
 
     /**
      * @return Instance datové třídy sestávající z nových hodnot, zachovávajíce původní hodnoty tam, kde nové nejsou poskytnuty.
      * */
-    public OnTouchArgs with(InputConsumer actor, int x, int y, int pointer, int button){return OnTouchArgs.make(manager, actor, x, y,pointer, button);}
+    public OnTouchArgs with(InputConsumer actor, int x, int y, int pointer, int button){return OnTouchArgs.make(manager(), actor, x, y,pointer, button);}
 }
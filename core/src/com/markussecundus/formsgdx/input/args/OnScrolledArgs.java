@@ -47,10 +47,10 @@ public class OnScrolledArgs extends OnInputEventArgs{
     /**
      * @return Instance datové třídy sestávající z nových hodnot, zachovávajíce původní hodnoty tam, kde nové nejsou poskytnuty.
      * */
-    public OnScrolledArgs with(InputConsumer actor){return actor==this.actor?this:make(manager, actor, amount);}
+    public OnScrolledArgs with(InputConsumer actor){return actor==actor()?this:make(manager(), actor, amount);}
 
     /**
      * @return Instance datové třídy sestávající z nových hodnot, zachovávajíce původní hodnoty tam, kde nové nejsou poskytnuty.
      * */
-    public OnScrolledArgs with(InputConsumer actor, int amount){return make(manager, actor, amount);}
+    public OnScrolledArgs with(InputConsumer actor, int amount){return make(manager(), actor, amount);}
 }
@@ -24,11 +24,11 @@ import com.markussecundus.formsgdx.input.InputManager;
  * */
 public class OnTouchArgs extends OnTouchDraggedArgs {
     /**
-     * Stejný význam jako hodnota <code>button</code> předávaná
+     * @return Stejný význam jako hodnota <code>button</code> předávaná
      * metodě <code>onTouchDown</code> / <code>onTouchUp</code>
      * na LibGDXím rozhraní {@link InputProcessor}.
      * */
-    public final int button;
+    public int button(){return button;}
 
     /**
      * Inicializuje instanci danými hodnotami.
@@ -48,15 +48,52 @@ public class OnTouchArgs extends OnTouchDraggedArgs {
     /**
      * @return Instance datové třídy sestávající z nových hodnot, zachovávajíce původní hodnoty tam, kde nové nejsou poskytnuty.
      * */
-    public OnTouchArgs with(InputConsumer actor){return actor==this.actor?this:make(manager, actor, x, y,pointer, button);}
+    public OnTouchArgs with(InputConsumer actor){return actor==actor()?this:with(actor, x(), y());}
 
     /**
      * @return Instance datové třídy sestávající z nových hodnot, zachovávajíce původní hodnoty tam, kde nové nejsou poskytnuty.
      * */
-    public OnTouchArgs with(InputConsumer actor, int x, int y){return make(manager, actor, x, y,pointer, button);}
+    public OnTouchArgs with(InputConsumer actor, int x, int y){return with(actor, x, y, pointer());}
 
     /**
      * @return Instance datové třídy sestávající z nových hodnot, zachovávajíce původní hodnoty tam, kde nové nejsou poskytnuty.
      * */
-    public OnTouchArgs with(InputConsumer actor, int x, int y, int pointer){return make(manager, actor, x, y,pointer, button);}
+    public OnTouchArgs with(InputConsumer actor, int x, int y, int pointer){
+        OnTouchArgs child = (OnTouchArgs) obtainReusableChild(() -> new OnTouchArgs(null, null, 0, 0, 0, 0));
+        return child == null ? make(manager(), actor, x, y, pointer, button) : child.init(manager(), actor, x, y, pointer, button);
+    }
+
+    /**
+     * @return poolovaná instance naplněná danými hodnotami, která musí být po skončení zpracování události uvolněna skrze {@link #release()}
+     * */
+    public static OnTouchArgs obtain(InputManager manager, InputConsumer actor, int x, int y, int pointer, int button){
+        OnTouchArgs ret = pooledRoot;
+        if(ret == null)
+            pooledRoot = ret = transientRoot(new OnTouchArgs(manager, actor, x, y, pointer, button));
+        else if(ret.inUse)
+            ret = transientCopy(new OnTouchArgs(manager, actor, x, y, pointer, button));
+        ret.inUse = true;
+        return ret.init(manager, actor, x, y, pointer, button);
+    }
+
+    /**
+     * {@inheritDoc}
+     * */
+    @Override
+    public OnTouchArgs retain() {
+        return isTransient ? make(manager(), actor(), x(), y(), pointer(), button) : this;
+    }
+
+    /**
+     * Naplní instanci danými hodnotami.
+     * */
+    protected OnTouchArgs init(InputManager manager, InputConsumer actor, int x, int y, int pointer, int button){
+        init(manager, actor, x, y, pointer);
+        this.button = button;
+        return this;
+    }
+
+    private int button;
+
+    private static OnTouchArgs pooledRoot = null;
 }
@@ -24,12 +24,12 @@ import com.markussecundus.formsgdx.input.InputManager;
  * */
 public class OnTouchDraggedArgs extends OnMouseMovedArgs {
     /**
-     * Identifikátor prstu, přes který byl dotyk proveden (má smysl u multitouch zařízení).
+     * @return Identifikátor prstu, přes který byl dotyk proveden (má smysl u multitouch zařízení).
      *
      * Stejný význam jako hodnota <code>pointer</code> předávaná
      * metodě <code>onTouchDragged</code> na LibGDXím rozhraní {@link InputProcessor}.
      * */
-    public final int pointer;
+    public int pointer(){return pointer;}
 
     /**
      * Inicializuje instanci danými hodnotami.
@@ -50,11 +50,48 @@ public class OnTouchDraggedArgs extends OnMouseMovedArgs {
     /**
      * @return Instance datové třídy sestávající z nových hodnot, zachovávajíce původní hodnoty tam, kde nové nejsou poskytnuty.
      * */
-    public OnTouchDraggedArgs with(InputConsumer actor){return actor==this.actor?this:make(manager, actor, x, y,pointer);}
+    public OnTouchDraggedArgs with(InputConsumer actor){return actor==actor()?this:with(actor, x(), y());}
 
     /**
      * @return Instance datové třídy sestávající z nových hodnot, zachovávajíce původní hodnoty tam, kde nové nejsou poskytnuty.
      * */
-    public OnTouchDraggedArgs with(InputConsumer actor, int x, int y){return make(manager, actor, x, y,pointer);}
+    public OnTouchDraggedArgs with(InputConsumer actor, int x, int y){
+        OnTouchDraggedArgs child = (OnTouchDraggedArgs) obtainReusableChild(() -> new OnTouchDraggedArgs(null, null, 0, 0, 0));
+        return child == null ? make(manager(), actor, x, y, pointer) : child.init(manager(), actor, x, y, pointer);
+    }
+
+    /**
+     * @return poolovaná instance naplněná danými hodnotami, která musí být po skončení zpracování události uvolněna skrze {@link #release()}
+     * */
+    public static OnTouchDraggedArgs obtain(InputManager manager, InputConsumer actor, int x, int y, int pointer){
+        OnTouchDraggedArgs ret = pooledRoot;
+        if(ret == null)
+            pooledRoot = ret = transientRoot(new OnTouchDraggedArgs(manager, actor, x, y, pointer));
+        else if(ret.inUse)
+            ret = transientCopy(new OnTouchDraggedArgs(manager, actor, x, y, pointer));
+        ret.inUse = true;
+        return ret.init(manager, actor, x, y, pointer);
+    }
+
+    /**
+     * {@inheritDoc}
+     * */
+    @Override
+    public OnTouchDraggedArgs retain() {
+        return isTransient ? make(manager(), actor(), x(), y(), pointer) : this;
+    }
+
+    /**
+     * Naplní instanci danými hodnotami.
+     * */
+    protected OnTouchDraggedArgs init(InputManager manager, InputConsumer actor, int x, int y, int pointer){
+        init(manager, actor, x, y);
+        this.pointer = pointer;
+        return this;
+    }
+
+    private int pointer;
+
+    private static OnTouchDraggedArgs pooledRoot = null;
 
 }
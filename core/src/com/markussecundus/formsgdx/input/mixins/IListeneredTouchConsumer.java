@@ -4,12 +4,15 @@ import com.markussecundus.forms.elements.DrawableElem;
 import com.markussecundus.forms.elements.UberDrawable;
 import com.markussecundus.forms.events.EventDelegate;
 import com.markussecundus.forms.events.EventListener;
+import com.markussecundus.forms.events.EventListenerR;
 import com.markussecundus.forms.events.ListenerPriorities;
+import com.markussecundus.forms.events.ListenerResult;
 import com.markussecundus.forms.extensibility.Extensible;
 import com.markussecundus.forms.extensibility.ExtensionType;
 import com.markussecundus.forms.extensibility.IExtensionType;
 import com.markussecundus.forms.gfx.Drawable;
 import com.markussecundus.forms.utils.Pair;
+import com.markussecundus.forms.utils.datastruct.AutobucketedList;
 import com.markussecundus.forms.utils.function.BiFunction;
 import com.markussecundus.forms.utils.function.BiPredicate;
 import com.markussecundus.forms.utils.function.Function;
@@ -22,6 +25,7 @@ import com.markussecundus.forms.wrappers.property.ConstProperty;
 import com.markussecundus.forms.wrappers.property.impl.constant.SimpleConstProperty;
 import com.markussecundus.formsgdx.input.InputConsumer;
 import com.markussecundus.formsgdx.input.InputManager;
+import com.markussecundus.formsgdx.input.args.OnInputEventArgs;
 import com.markussecundus.formsgdx.input.args.OnMouseMovedArgs;
 import com.markussecundus.formsgdx.input.args.OnTouchArgs;
 import com.markussecundus.formsgdx.input.args.OnTouchDraggedArgs;
@@ -147,6 +151,14 @@ public interface IListeneredTouchConsumer extends InputConsumer, ListeneredTouch
      * */
     default <T> EventDelegate<T> __ListeneredTouchConsumer_option__MakeEventDelegate(){return EventDelegate.make();}
 
+    /**
+     * Factory na {@link EventDelegate}, který bude sloužit jako handler události <code>mouseMoved</code>.
+     * Přepište, pokud má tato (často volaná) událost používat jinou implementaci než ostatní, např. {@link EventDelegate#makeCoalescing(Function)}.
+     *
+     * @return <code>{@link #__ListeneredTouchConsumer_option__MakeEventDelegate()}</code>
+     * */
+    default EventDelegate<OnMouseMovedArgs> __ListeneredTouchConsumer_option__MakeMouseMovedDelegate(){return __ListeneredTouchConsumer_option__MakeEventDelegate();}
+
     /**
      * @return <code>null</code> pokud má být příjímán veškerý vstup z obrazovky, nezávisle na pozici, na které k události došlo,
      *  jinak funkce, která pro každý Delegát náležící jedné ze vstupních událostí vygeneruje funkci generující hranice, za kterými když
@@ -235,7 +247,7 @@ public interface IListeneredTouchConsumer extends InputConsumer, ListeneredTouch
                 onTouchDown = new SimpleConstProperty<>(self.__ListeneredTouchConsumer_option__MakeEventDelegate());
                 onTouchUp = new SimpleConstProperty<>(self.__ListeneredTouchConsumer_option__MakeEventDelegate());
                 onTouchDragged = new SimpleConstProperty<>(self.__ListeneredTouchConsumer_option__MakeEventDelegate());
-                onMouseMoved = new SimpleConstProperty<>(self.__ListeneredTouchConsumer_option__MakeEventDelegate());
+                onMouseMoved = new SimpleConstProperty<>(self.__ListeneredTouchConsumer_option__MakeMouseMovedDelegate());
                 onClicked = new SimpleConstProperty<>(self.__ListeneredTouchConsumer_option__MakeEventDelegate());
                 onUnclicked = new SimpleConstProperty<>(self.__ListeneredTouchConsumer_option__MakeEventDelegate());
 
@@ -251,28 +263,31 @@ public interface IListeneredTouchConsumer extends InputConsumer, ListeneredTouch
                     this.clickApplier = clickApplierOnTouchDown;
 
                     this.onClickBegin = e->{                                         //na začátku kliknutí - pozanamená v InputManagerovi, aby mi zrušil kliknutost, když se kdekoliv odklikne mně náležející kurzor
-                        if(e.manager==null)
+                        if(e.manager()==null)
                             return true;
 
-                        if(this.isClicked && this.pointer == e.pointer && this.manager == e.manager)
+                        if(this.isClicked && this.pointer == e.pointer() && this.manager == e.manager())
                             return true;
 
-                        if(this.isClicked && untouchOnCursorUpApplier !=null && manager != null)
-                            manager.getOnTouchUpListener()._getUtilListeners().remove(untouchOnCursorUpApplier);
+                        if(this.isClicked && untouchOnCursorUpHandle !=null)
+                            untouchOnCursorUpHandle.remove();
 
                         this.isClicked = true;
-                        final int pointer = this.pointer = e.pointer;
-                        final InputManager manager = this.manager = e.manager;
-
-                        this.untouchOnCursorUpApplier = args->{
-                            if(args.pointer == pointer) {
-                                this.untouchOnCursorUpApplier = null;
+                        final int pointer = this.pointer = e.pointer();
+                        final InputManager manager = this.manager = e.manager();
+
+                        EventListenerR<OnTouchArgs> untouchApplier = args->{
+                            if(args.pointer() == pointer) {
+                                AutobucketedList.Handle<?> handle = this.untouchOnCursorUpHandle;
+                                this.untouchOnCursorUpHandle = null;
+                                if(handle != null)
+                                    handle.remove();    //přes handle, bez hledání listeneru v delegátu
                                 self.unclicked(args.with(self, -1, -1));
-                                throw EventDelegate.DELETE_SELF;
+                                return handle != null ? ListenerResult.CONTINUE : ListenerResult.REMOVE;
                             }
-                            return true;
+                            return ListenerResult.CONTINUE;
                         };
-                        manager.getOnTouchUpListener()._getPostUtilListeners().add(untouchOnCursorUpApplier);
+                        this.untouchOnCursorUpHandle = manager.getOnTouchUpListener().addListener(ListenerPriorities.POST_UTIL, untouchApplier);
 
                         return true;
                     };
@@ -280,8 +295,9 @@ public interface IListeneredTouchConsumer extends InputConsumer, ListeneredTouch
 
                     this.onUnclickCleaner = o->{                                   //uklízí po odkliknutí
                         this.isClicked = false;
-                        if(this.untouchOnCursorUpApplier !=null)
-                            this.manager.getOnTouchUpListener()._getUtilListeners().remove(this.untouchOnCursorUpApplier);
+                        if(this.untouchOnCursorUpHandle !=null)
+                            this.untouchOnCursorUpHandle.remove();
+                        this.untouchOnCursorUpHandle = null;
                         return true;
                     };
                     this.onUnclicked.get()._getPostUtilListeners().add(this.onUnclickCleaner);
@@ -290,7 +306,7 @@ public interface IListeneredTouchConsumer extends InputConsumer, ListeneredTouch
 
             private boolean isClicked = false;
             private int pointer = -1;
-            private EventListener<OnTouchArgs> untouchOnCursorUpApplier = null;
+            private AutobucketedList.Handle<?> untouchOnCursorUpHandle = null;
             private InputManager manager = null;
 
             private EventListener<OnTouchArgs> onClickBegin = null;
@@ -333,7 +349,7 @@ public interface IListeneredTouchConsumer extends InputConsumer, ListeneredTouch
                     if(bounds==SKIPPER_NO_HIT)return false;
 
                     Vect2i min = bounds.first(), max = bounds.second();
-                    return e.x>=min.x && e.y>=min.y && e.x<max.x && e.y<max.y;
+                    return e.x()>=min.x && e.y()>=min.y && e.x()<max.x && e.y()<max.y;
                 };
                 del.getListeners(ListenerPriorities.ARG_GUARD).add(0, skipper);
                 touchSkippers.put(del, skipper);
@@ -441,10 +457,10 @@ public interface IListeneredTouchConsumer extends InputConsumer, ListeneredTouch
                 public Impl(IListeneredTouchConsumer.ForLayout self, BiFunction<Vect2i, DrawableElem<?,?>, Vect2i> childPosTransform){
                     super(self);
 
-                    distrTouchUp = e->distrToChildren(self, e,  childPosTransform, (c,v)->c.touchUp(e.with(c, v.x, v.y)));
-                    distrTouchDown = e->distrToChildren(self, e,  childPosTransform, (c,v)->c.touchDown(e.with(c, v.x, v.y)));
-                    distrTouchDragged = e->distrToChildren(self, e,  childPosTransform, (c,v)->c.touchDragged(e.with(c, v.x, v.y)));
-                    distrMouseMoved = e->distrToChildren(self, e,  childPosTransform, (c,v)->c.mouseMoved(e.with(c, v.x, v.y)));
+                    distrTouchUp = e->distrToChildren(self, e,  childPosTransform, (c,v)->OnInputEventArgs.dispatch(e.with(c, v.x, v.y), c::touchUp));
+                    distrTouchDown = e->distrToChildren(self, e,  childPosTransform, (c,v)->OnInputEventArgs.dispatch(e.with(c, v.x, v.y), c::touchDown));
+                    distrTouchDragged = e->distrToChildren(self, e,  childPosTransform, (c,v)->OnInputEventArgs.dispatch(e.with(c, v.x, v.y), c::touchDragged));
+                    distrMouseMoved = e->distrToChildren(self, e,  childPosTransform, (c,v)->OnInputEventArgs.dispatch(e.with(c, v.x, v.y), c::mouseMoved));
 
                     onTouchUp.get()._getPostUtilListeners().add(distrTouchUp);
                     onTouchDown.get()._getPostUtilListeners().add(distrTouchDown);
@@ -471,7 +487,7 @@ public interface IListeneredTouchConsumer extends InputConsumer, ListeneredTouch
                 private static boolean distrToChildren(IListeneredTouchConsumer.ForLayout self, OnMouseMovedArgs v, BiFunction<Vect2i, DrawableElem<?,?>, Vect2i> childPosTransform, BiPredicate<InputConsumer, Vect2i> distr){
                     boolean ret = false;
                     for(DrawableElem<?,?> child: ((UberDrawable<?,?>) self).getDrawableChildren())
-                        ret |= (child instanceof InputConsumer && distr.test((InputConsumer) child, childPosTransform.apply(Vect2i.make(v.x, v.y), child)));
+                        ret |= (child instanceof InputConsumer && distr.test((InputConsumer) child, childPosTransform.apply(Vect2i.make(v.x(), v.y()), child)));
 
                     return ret;
                 }
@@ -0,0 +1,75 @@
+package com.markussecundus.forms.wrappers.property.impl.constant;
+
+import com.markussecundus.forms.events.EventDelegate;
+import com.markussecundus.forms.wrappers.ReadonlyWrapper;
+import com.markussecundus.forms.wrappers.property.ConstProperty;
+import com.markussecundus.forms.wrappers.property.raw.__Prim__ConstProperty;
+import com.markussecundus.forms.wrappers.property.raw.Readonly__Prim__Wrapper;
+
+
+/**
+ * Základní parciální implementace {@link __Prim__ConstProperty}, ze které se již velmi jednoduše dají odvozovat
+ * implementace konkrétní.
+ *
+ * @see com.markussecundus.forms.wrappers.property.impl.constant.Simple__Prim__ConstProperty
+ * @see com.markussecundus.forms.wrappers.property.impl.constant.Lazy__Prim__ConstProperty
+ * @see com.markussecundus.forms.wrappers.property.impl.constant.AbstractConstProperty
+ *
+ * @author MarkusSecundus
+ * */
+public abstract class Abstract__Prim__ConstProperty extends ReadonlyWrapper.AbstractSimpleWrapper<__Boxed__> implements __Prim__ConstProperty {
+//protected:
+
+    /**
+     * Skutečná vnitřní implementace procesu získání vnitřní hodnoty. Volána před tím, než se provede getter.
+     * Neměla by mít postranní efekty.
+     *
+     * Nutno implementovat.
+     * */
+    protected abstract __prim__ obtain_raw();
+
+    /**
+     * Factory na wrappery, přes něž je možno uvnitř getteru číst vnitřní hodnotu bez spuštění listenerů.
+     * */
+    protected Readonly__Prim__Wrapper obtainListenerlessWrapper(){return new ListenerlessWrapper();}
+
+//public:
+
+    /**Provede getter a vrátí vnitřní hodnotu.*/
+    @Override
+    public __prim__ get_raw() {
+        if(getterListeners!=null)
+            getterListeners.get().exec(getterArgs());
+        return obtain_raw();
+    }
+
+    @Override
+    public ConstProperty<EventDelegate<ConstProperty.GetterListenerArgs<__Boxed__>>> getterListeners() {
+        if(getterListeners==null)
+            getterListeners = new SimpleConstProperty<>(EventDelegate.make());
+        return getterListeners;
+    }
+
+
+//private:
+
+    private AbstractConstProperty<EventDelegate<ConstProperty.GetterListenerArgs<__Boxed__>>> getterListeners = null;
+
+    /**
+     * Argumenty getterových listenerů jsou pro všechna volání getteru stejné - vytvoří se tedy jen jednou, líně.
+     * */
+    private ConstProperty.GetterListenerArgs<__Boxed__> getterArgs = null;
+
+    private ConstProperty.GetterListenerArgs<__Boxed__> getterArgs(){
+        if(getterArgs == null)
+            getterArgs = ConstProperty.GetterListenerArgs.make(this, obtainListenerlessWrapper());
+        return getterArgs;
+    }
+
+    private class ListenerlessWrapper extends ReadonlyWrapper.AbstractSimpleWrapper<__Boxed__> implements Readonly__Prim__Wrapper{
+        @Override public __prim__ get_raw() {
+            return obtain_raw();
+        }
+    }
+
+}
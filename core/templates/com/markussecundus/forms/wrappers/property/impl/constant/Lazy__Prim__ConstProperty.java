@@ -0,0 +1,39 @@
+package com.markussecundus.forms.wrappers.property.impl.constant;
+
+import com.markussecundus.forms.utils.function.Supplier;
+import com.markussecundus.forms.wrappers.property.raw.Readonly__Prim__Wrapper;
+
+
+/**
+ * Implementace {@link com.markussecundus.forms.wrappers.property.raw.__Prim__ConstProperty}, která svou hodnotu generuje líně při jejím prvním vyžádání.
+ *
+ * @see com.markussecundus.forms.wrappers.property.impl.constant.Abstract__Prim__ConstProperty
+ * @see com.markussecundus.forms.wrappers.property.impl.constant.Simple__Prim__ConstProperty
+ * @see com.markussecundus.forms.wrappers.property.impl.constant.LazyConstProperty
+ *
+ * @author MarkusSecundus
+ * */
+public class Lazy__Prim__ConstProperty extends Abstract__Prim__ConstProperty {
+//public:
+
+    /**
+     * @param generator vygeneruje hodnotu pro Property až bude potřeba; vygenerované <code>null</code> je odmítnuto
+     *      ({@link NullPointerException} při prvním čtení hodnoty)
+     * */
+    public Lazy__Prim__ConstProperty(Supplier<__Boxed__> generator){ this.sup = generator;}
+
+//protected:
+
+    @Override protected __prim__ obtain_raw() {
+        if(sup!=null) {
+            val = Readonly__Prim__Wrapper.unbox(sup.get());
+            sup = null;
+        }
+        return val;
+    }
+
+//private:
+
+    private __prim__ val;
+    private Supplier<__Boxed__> sup;
+}
@@ -0,0 +1,33 @@
+package com.markussecundus.forms.wrappers.property.impl.constant;
+
+
+/**
+ * Implementace {@link com.markussecundus.forms.wrappers.property.raw.__Prim__ConstProperty}, která má v sobě přímo obsaženu svou hodnotu.
+ *
+ * @see com.markussecundus.forms.wrappers.property.impl.constant.Abstract__Prim__ConstProperty
+ * @see com.markussecundus.forms.wrappers.property.impl.constant.Lazy__Prim__ConstProperty
+ * @see com.markussecundus.forms.wrappers.property.impl.constant.SimpleConstProperty
+ *
+ * @author MarkusSecundus
+ * */
+public class Simple__Prim__ConstProperty extends Abstract__Prim__ConstProperty {
+//public:
+
+    /**
+     * Inicializuje Property danou hodnotou.
+     *
+     * @param val hodnota pro Property
+     * */
+    public Simple__Prim__ConstProperty(__prim__ val){ this.val = val;}
+
+//protected:
+
+    @Override
+    protected __prim__ obtain_raw() {
+        return val;
+    }
+
+//private:
+
+    private final __prim__ val;
+}
@@ -0,0 +1,209 @@
+package com.markussecundus.forms.wrappers.property.impl.general;
+
+import com.markussecundus.forms.events.EventDelegate;
+import com.markussecundus.forms.wrappers.Wrapper;
+import com.markussecundus.forms.wrappers.property.ChangePolicy;
+import com.markussecundus.forms.wrappers.property.ConstProperty;
+import com.markussecundus.forms.wrappers.property.Property;
+import com.markussecundus.forms.wrappers.property.PropertyTransaction;
+import com.markussecundus.forms.wrappers.property.impl.constant.AbstractConstProperty;
+import com.markussecundus.forms.wrappers.property.impl.constant.SimpleConstProperty;
+import com.markussecundus.forms.wrappers.property.impl.readonly.ComputedProperty;
+import com.markussecundus.forms.wrappers.property.raw.__Prim__Property;
+import com.markussecundus.forms.wrappers.property.raw.__Prim__Wrapper;
+
+
+/**
+ * Základní parciální implementace {@link __Prim__Property}, ze které se již velmi jednoduše dají odvozovat
+ * implementace konkrétní.
+ * <p></p>
+ * Politiky {@link ChangePolicy#EQUALS} a {@link ChangePolicy#IDENTITY} porovnávají nezaboxované hodnoty přímo, bez boxingu (shodně s {@link __Boxed__#equals(Object)}).
+ *
+ * @see com.markussecundus.forms.wrappers.property.impl.general.Simple__Prim__Property
+ * @see com.markussecundus.forms.wrappers.property.impl.general.Lazy__Prim__Property
+ * @see com.markussecundus.forms.wrappers.property.impl.general.AbstractProperty
+ *
+ * @author MarkusSecundus
+ * */
+public abstract class Abstract__Prim__Property extends Wrapper.AbstractSimpleWrapper<__Boxed__> implements __Prim__Property {
+//protected:
+
+    /**
+     * Vytvoří Property, jež každé nastavení považuje za změnu ({@link ChangePolicy#ALWAYS}).
+     * */
+    protected Abstract__Prim__Property(){}
+
+    /**
+     * Vytvoří Property s danou politikou potlačování nezměněných hodnot.
+     *
+     * @param changePolicy politika určující, která nastavení jsou považována za změnu
+     * */
+    protected Abstract__Prim__Property(ChangePolicy changePolicy){setChangePolicy(changePolicy);}
+
+    /**
+     * Skutečná vnitřní implementace procesu získání vnitřní hodnoty. Volána před tím, než se provede getter.
+     * Neměla by mít postranní efekty.
+     *
+     * Nutno implementovat.
+     * */
+    protected abstract __prim__ obtain_raw();
+
+    /**
+     * Skutečná vnitřní implementace procesu modifikace vnitřní hodnoty. Volána před tím, než se provede setter.
+     * Neměla by mít postranní efekty.
+     *
+     * Nutno implementovat.
+     * */
+    protected abstract __prim__ change_raw(__prim__ val);
+
+    /**
+     * Factory na wrappery, přes něž je možno uvnitř getteru číst a modifikovat vnitřní hodnotu bez spuštění listenerů.
+     * */
+    protected __Prim__Wrapper obtainListenerlessWrapper(){return new ListenerlessWrapper();}
+
+
+//public:
+
+    @Override
+    public __prim__ get_raw() {
+        ComputedProperty.recordRead(this);
+        if(getterListeners!=null)
+            getterListeners.get().exec(getterArgs());
+        return obtain_raw();
+    }
+
+    @Override
+    public __prim__ set_raw(__prim__ val) {
+        __prim__ old = obtain_raw();
+        if(!isChange(old, val))
+            return old;
+        change_raw(val);
+        if(setterListeners!=null)
+            execSetterListeners(old, false);
+        return obtain_raw();
+    }
+
+    @Override
+    public __Boxed__ pretendSet() {
+        __prim__ old = obtain_raw();
+        change_raw(old);
+        if(setterListeners!=null)
+            execSetterListeners(old, true);
+        return obtain_raw();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Listenery jsou generovány líně.
+     * */
+    @Override public ConstProperty<EventDelegate<__Prim__Property.SetterListenerArgs>> setterListeners() {
+        if(setterListeners==null)
+            setterListeners=new SimpleConstProperty<>(EventDelegate.make());
+        return setterListeners;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Listenery jsou generovány líně.
+     * */
+    @Override public ConstProperty<EventDelegate<Property.GetterListenerArgs<__Boxed__>>> getterListeners() {
+        if(getterListeners==null)
+            getterListeners=new SimpleConstProperty<>(EventDelegate.make());
+        return getterListeners;
+    }
+
+    /**
+     * @return politika určující, která nastavení jsou považována za změnu
+     * */
+    public ChangePolicy getChangePolicy(){return changePolicy;}
+
+    /**
+     * Nastaví politiku určující, která nastavení jsou považována za změnu.
+     * Nastavení, jež změnou nejsou, ponechají starou hodnotu a neprovedou setter-listenery.
+     *
+     * @param changePolicy nová politika; <code>null</code> znamená {@link ChangePolicy#ALWAYS}
+     * */
+    public void setChangePolicy(ChangePolicy changePolicy){this.changePolicy = changePolicy == null ? ChangePolicy.ALWAYS : changePolicy;}
+
+
+//private:
+
+    private ChangePolicy changePolicy = ChangePolicy.ALWAYS;
+
+    private AbstractConstProperty<EventDelegate<__Prim__Property.SetterListenerArgs>> setterListeners = null;
+    private AbstractConstProperty<EventDelegate<Property.GetterListenerArgs<__Boxed__>>> getterListeners = null;
+
+    /**
+     * Argumenty getterových listenerů jsou pro všechna volání getteru stejné - vytvoří se tedy jen jednou, líně.
+     * */
+    private Property.GetterListenerArgs<__Boxed__> getterArgs = null;
+
+    private Property.GetterListenerArgs<__Boxed__> getterArgs(){
+        if(getterArgs == null)
+            getterArgs = Property.GetterListenerArgs.make(this, obtainListenerlessWrapper());
+        return getterArgs;
+    }
+
+    /**
+     * Znovupoužívaná instance argumentů setterových listenerů, vytvořená líně.
+     * */
+    private __Prim__Property.SetterListenerArgs.Reusable setterArgs = null;
+
+    private boolean isChange(__prim__ old, __prim__ val){
+        if(changePolicy == ChangePolicy.ALWAYS)
+            return true;
+        if(changePolicy == ChangePolicy.EQUALS || changePolicy == ChangePolicy.IDENTITY)
+            return __Boxed__.compare(old, val) != 0;
+        return changePolicy.isChange(old, val);
+    }
+
+    /**
+     * Zástupce této Property v {@link PropertyTransaction}, vytvořený líně.
+     * */
+    private DeferredSetterListeners deferredSetterListeners = null;
+
+    private class DeferredSetterListeners implements PropertyTransaction.Participant{
+        /**
+         * Zda byl v rámci transakce zavolán <code>pretendSet</code> - listenery pak mají být provedeny, i když se hodnota v souhrnu nezměnila.
+         * */
+        boolean isForced = false;
+
+        @Override public void execDeferredSetterListeners(Object oldVal) {
+            __prim__ old = (__Boxed__) oldVal;
+            boolean forced = isForced;
+            isForced = false;
+            if(forced || isChange(old, obtain_raw()))
+                execSetterListeners(old, forced);
+        }
+    }
+
+    private void execSetterListeners(__prim__ old, boolean forced){
+        if(PropertyTransaction.isActive()){
+            if(deferredSetterListeners == null)
+                deferredSetterListeners = new DeferredSetterListeners();
+            deferredSetterListeners.isForced |= forced;
+            PropertyTransaction.deferSetterListeners(deferredSetterListeners, old);
+            return;
+        }
+        if(setterArgs == null)
+            setterArgs = new __Prim__Property.SetterListenerArgs.Reusable(this, obtainListenerlessWrapper());
+        __Prim__Property.SetterListenerArgs args = setterArgs.obtain(old);
+        try {
+            setterListeners.get().exec(args);
+        } finally {
+            setterArgs.release(args);
+        }
+    }
+
+
+    private class ListenerlessWrapper extends Wrapper.AbstractSimpleWrapper<__Boxed__> implements __Prim__Wrapper {
+        @Override public __prim__ get_raw() {
+            return obtain_raw();
+        }
+        @Override public __prim__ set_raw(__prim__ val) {
+            return change_raw(val);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.markussecundus.forms.wrappers.property.impl.general;
+
+import com.markussecundus.forms.events.EventDelegate;
+import com.markussecundus.forms.events.EventListener;
+import com.markussecundus.forms.events.ListenerPriorities;
+import com.markussecundus.forms.wrappers.Wrapper;
+import com.markussecundus.forms.wrappers.property.ConstProperty;
+import com.markussecundus.forms.wrappers.property.Property;
+import com.markussecundus.forms.wrappers.property.impl.constant.SimpleConstProperty;
+import com.markussecundus.forms.wrappers.property.raw.__Prim__Property;
+import com.markussecundus.forms.wrappers.property.raw.__Prim__Wrapper;
+import com.markussecundus.forms.wrappers.property.raw.Readonly__Prim__Wrapper;
+
+
+/**
+ * Adaptér, jenž zpřístupní libovolnou generickou <code>Property&lt;__Boxed__&gt;</code> skrze rozhraní {@link __Prim__Property}.
+ * <p></p>
+ * Čtení i zápis deleguje na původní Property, její getter-listenery sdílí.
+ * Původní Property nesmí obsahovat <code>null</code> - čtení takové hodnoty skrze adaptér vyhodí {@link NullPointerException}.
+ * <p></p>
+ * Setter-listenery má vlastní - jakmile jsou poprvé vyžádány, vloží do setter-listenerů původní Property (do přihrádky {@link ListenerPriorities#USER})
+ * listener, jenž na ně přeposílá každou změnu, bez ohledu na to, skrze koho byla provedena.
+ * Tento listener zůstává v původní Property, dokud není adaptér zrušen skrze {@link #dispose()}
+ * - do té doby původní Property drží adaptér naživu.
+ *
+ * @see __Prim__Property#of(Property)
+ *
+ * @author MarkusSecundus
+ * */
+public class Adapted__Prim__Property extends Wrapper.AbstractSimpleWrapper<__Boxed__> implements __Prim__Property {
+//public:
+
+    /**
+     * @param base Property, na niž má adaptér delegovat
+     * */
+    public Adapted__Prim__Property(Property<__Boxed__> base){this.base = base;}
+
+    /**
+     * @return Property, na niž adaptér deleguje
+     * */
+    public Property<__Boxed__> getBase(){return base;}
+
+    @Override public __prim__ get_raw() {
+        return Readonly__Prim__Wrapper.unbox(base.get());
+    }
+
+    @Override public __prim__ set_raw(__prim__ val) {
+        return Readonly__Prim__Wrapper.unbox(base.set(val));
+    }
+
+    @Override public __Boxed__ pretendSet() {
+        return base.pretendSet();
+    }
+
+    @Override public ConstProperty<? extends EventDelegate<? extends Property.GetterListenerArgs<__Boxed__>>> getterListeners() {
+        return base.getterListeners();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Listenery jsou generovány líně.
+     * */
+    @Override public ConstProperty<EventDelegate<__Prim__Property.SetterListenerArgs>> setterListeners() {
+        if(setterListeners == null){
+            setterListeners = new SimpleConstProperty<>(EventDelegate.make());
+            forwarder = e->{
+                Property.SetterListenerArgs<__Boxed__> args = asBaseArgs(e);
+                currentVal = args.newVal();
+                __Prim__Property.SetterListenerArgs rawArgs = setterArgs.obtain(Readonly__Prim__Wrapper.unbox(args.oldVal()));
+                try {
+                    return setterListeners.get().exec(rawArgs);
+                } finally {
+                    setterArgs.release(rawArgs);
+                }
+            };
+            base.getSetterListeners().getListeners(ListenerPriorities.USER).add(forwarder);
+        }
+        return setterListeners;
+    }
+
+    /**
+     * Odebere z původní Property listener přeposílající změny do setter-listenerů adaptéru.
+     * <p>
+     * Setter-listenery adaptéru poté již nejsou o změnách původní Property informovány, dokud nejsou znovu vyžádány skrze {@link #setterListeners()}.
+     * Čtení i zápis skrze adaptér fungují i nadále.
+     * */
+    public void dispose(){
+        if(forwarder == null)
+            return;
+        base.getSetterListeners().getListeners(ListenerPriorities.USER).remove(forwarder);
+        forwarder = null;
+        setterListeners = null;
+    }
+
+
+//private:
+
+    private final Property<__Boxed__> base;
+
+    private SimpleConstProperty<EventDelegate<__Prim__Property.SetterListenerArgs>> setterListeners = null;
+
+    /**
+     * Listener vložený do setter-listenerů původní Property, dokud adaptér není zrušen.
+     * */
+    private EventListener<Object> forwarder = null;
+
+    private final __Prim__Property.SetterListenerArgs.Reusable setterArgs = new __Prim__Property.SetterListenerArgs.Reusable(this, new CurrentValWrapper());
+
+    /**
+     * Wrapper na hodnotu původní Property bez spuštění listenerů, převzatý z argumentů jejího posledního setteru.
+     * */
+    private Wrapper<__Boxed__> currentVal = null;
+
+    @SuppressWarnings("unchecked")  //forwarder je vložen pouze do setter-listenerů původní Property, dostává tedy jen její argumenty
+    private static Property.SetterListenerArgs<__Boxed__> asBaseArgs(Object e){
+        return (Property.SetterListenerArgs<__Boxed__>) e;
+    }
+
+    private class CurrentValWrapper extends Wrapper.AbstractSimpleWrapper<__Boxed__> implements __Prim__Wrapper{
+        @Override public __prim__ get_raw() {
+            return Readonly__Prim__Wrapper.unbox(currentVal.get());
+        }
+        @Override public __prim__ set_raw(__prim__ val) {
+            return Readonly__Prim__Wrapper.unbox(currentVal.set(val));
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.markussecundus.forms.wrappers.property.impl.general;
+
+import com.markussecundus.forms.utils.function.Supplier;
+import com.markussecundus.forms.wrappers.property.raw.Readonly__Prim__Wrapper;
+
+
+/**
+ * Implementace {@link com.markussecundus.forms.wrappers.property.raw.__Prim__Property}, která svou hodnotu generuje líně při jejím prvním vyžádání.
+ *
+ * @see com.markussecundus.forms.wrappers.property.impl.general.Abstract__Prim__Property
+ * @see com.markussecundus.forms.wrappers.property.impl.general.Simple__Prim__Property
+ * @see com.markussecundus.forms.wrappers.property.impl.general.LazyProperty
+ *
+ * @author MarkusSecundus
+ * */
+public class Lazy__Prim__Property extends Abstract__Prim__Property {
+//public:
+
+    /**
+     * @param generator vygeneruje iniciální hodnotu pro Property až bude potřeba; vygenerované <code>null</code> je odmítnuto
+     *      ({@link NullPointerException} při prvním čtení hodnoty)
+     * */
+    public Lazy__Prim__Property(Supplier<__Boxed__> generator){ this.sup = generator;}
+
+//protected:
+
+    @Override protected __prim__ obtain_raw() {
+        if(sup!=null)
+            consumeSupply();
+        return val;
+    }
+
+    @Override protected __prim__ change_raw(__prim__ val) {
+        sup = null;
+        return this.val = val;
+    }
+
+//private:
+
+    private void consumeSupply(){
+        val = Readonly__Prim__Wrapper.unbox(sup.get());
+        sup = null;
+    }
+
+    private __prim__ val;
+    private Supplier<__Boxed__> sup;
+}
@@ -0,0 +1,37 @@
+package com.markussecundus.forms.wrappers.property.impl.general;
+
+
+/**
+ * Implementace {@link com.markussecundus.forms.wrappers.property.raw.__Prim__Property}, která má v sobě přímo obsaženu svou hodnotu.
+ *
+ * @see com.markussecundus.forms.wrappers.property.impl.general.Abstract__Prim__Property
+ * @see com.markussecundus.forms.wrappers.property.impl.general.Lazy__Prim__Property
+ * @see com.markussecundus.forms.wrappers.property.impl.general.SimpleProperty
+ *
+ * @author MarkusSecundus
+ * */
+public class Simple__Prim__Property extends Abstract__Prim__Property {
+//public:
+
+    /**
+     * Inicializuje Property danou hodnotou.
+     *
+     * @param val iniciální hodnota pro Property
+     * */
+    public Simple__Prim__Property(__prim__ val){ this.val = val;}
+
+
+//protected:
+
+    @Override protected __prim__ obtain_raw() {
+        return val;
+    }
+
+    @Override protected __prim__ change_raw(__prim__ val) {
+        return this.val = val;
+    }
+
+//private:
+
+    private __prim__ val;
+}
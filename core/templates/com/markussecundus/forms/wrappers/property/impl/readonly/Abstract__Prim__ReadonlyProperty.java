@@ -0,0 +1,203 @@
+package com.markussecundus.forms.wrappers.property.impl.readonly;
+
+import com.markussecundus.forms.events.EventDelegate;
+import com.markussecundus.forms.wrappers.ReadonlyWrapper;
+import com.markussecundus.forms.wrappers.property.ChangePolicy;
+import com.markussecundus.forms.wrappers.property.ConstProperty;
+import com.markussecundus.forms.wrappers.property.PropertyTransaction;
+import com.markussecundus.forms.wrappers.property.ReadonlyProperty;
+import com.markussecundus.forms.wrappers.property.impl.constant.AbstractConstProperty;
+import com.markussecundus.forms.wrappers.property.impl.constant.SimpleConstProperty;
+import com.markussecundus.forms.wrappers.property.raw.__Prim__ReadonlyProperty;
+import com.markussecundus.forms.wrappers.property.raw.Readonly__Prim__Wrapper;
+
+
+/**
+ * Základní parciální implementace {@link __Prim__ReadonlyProperty}, ze které se již velmi jednoduše dají odvozovat
+ * implementace konkrétní.
+ * <p></p>
+ * Politiky {@link ChangePolicy#EQUALS} a {@link ChangePolicy#IDENTITY} porovnávají nezaboxované hodnoty přímo, bez boxingu (shodně s {@link __Boxed__#equals(Object)}).
+ *
+ * @see com.markussecundus.forms.wrappers.property.impl.readonly.Simple__Prim__ReadonlyProperty
+ * @see com.markussecundus.forms.wrappers.property.impl.readonly.AbstractReadonlyProperty
+ *
+ * @author MarkusSecundus
+ * */
+public abstract class Abstract__Prim__ReadonlyProperty extends ReadonlyWrapper.AbstractSimpleWrapper<__Boxed__> implements __Prim__ReadonlyProperty {
+//protected:
+
+    /**
+     * Vytvoří Property, jež každé nastavení považuje za změnu ({@link ChangePolicy#ALWAYS}).
+     * */
+    protected Abstract__Prim__ReadonlyProperty(){}
+
+    /**
+     * Vytvoří Property s danou politikou potlačování nezměněných hodnot.
+     *
+     * @param changePolicy politika určující, která nastavení jsou považována za změnu
+     * */
+    protected Abstract__Prim__ReadonlyProperty(ChangePolicy changePolicy){setChangePolicy(changePolicy);}
+
+    /**
+     * Skutečná vnitřní implementace procesu získání vnitřní hodnoty. Volána před tím, než se provede getter.
+     * Neměla by mít postranní efekty.
+     *
+     * Nutno implementovat.
+     * */
+    protected abstract __prim__ obtain_raw();
+
+    /**
+     * Skutečná vnitřní implementace procesu modifikace vnitřní hodnoty. Volána před tím, než se provede setter.
+     * Neměla by mít postranní efekty.
+     *
+     * Nutno implementovat.
+     * */
+    protected abstract __prim__ change_raw(__prim__ val);
+
+    /**
+     * Factory na wrappery, přes něž je možno uvnitř getteru číst vnitřní hodnotu bez spuštění listenerů.
+     * */
+    protected Readonly__Prim__Wrapper obtainListenerlessWrapper(){return new ListenerlessWrapper();}
+
+    /**
+     * Factory na proxy, která jediná smí modifikovat hodnotu obsaženou v Property.
+     *
+     * @return Proxy která modifikuje hodnotu v Property
+     * */
+    protected __Prim__ReadonlyProperty.Setter makeSetter(){return new SetterProxy();}
+
+
+//public:
+
+    @Override public final __prim__ get_raw() {
+        ComputedProperty.recordRead(this);
+        if(getterListeners!=null)
+            getterListeners.get().exec(getterArgs());
+        return obtain_raw();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Listenery jsou generovány líně.
+     * */
+    @Override public ConstProperty<EventDelegate<ReadonlyProperty.GetterListenerArgs<__Boxed__>>> getterListeners() {
+        if(getterListeners==null)
+            getterListeners=new SimpleConstProperty<>(EventDelegate.make());
+        return getterListeners;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Listenery jsou generovány líně.
+     * */
+    @Override public final ConstProperty<EventDelegate<__Prim__ReadonlyProperty.SetterListenerArgs>> setterListeners() {
+        if(setterListeners==null)
+            setterListeners=new SimpleConstProperty<>(EventDelegate.make());
+        return setterListeners;
+    }
+
+    /**
+     * @return politika určující, která nastavení jsou považována za změnu
+     * */
+    public ChangePolicy getChangePolicy(){return changePolicy;}
+
+    /**
+     * Nastaví politiku určující, která nastavení jsou považována za změnu.
+     * Nastavení, jež změnou nejsou, ponechají starou hodnotu a neprovedou setter-listenery.
+     *
+     * @param changePolicy nová politika; <code>null</code> znamená {@link ChangePolicy#ALWAYS}
+     * */
+    public void setChangePolicy(ChangePolicy changePolicy){this.changePolicy = changePolicy == null ? ChangePolicy.ALWAYS : changePolicy;}
+
+
+//private:
+
+    private ChangePolicy changePolicy = ChangePolicy.ALWAYS;
+
+    private AbstractConstProperty<EventDelegate<ReadonlyProperty.GetterListenerArgs<__Boxed__>>> getterListeners = null;
+    private AbstractConstProperty<EventDelegate<__Prim__ReadonlyProperty.SetterListenerArgs>> setterListeners = null;
+
+    /**
+     * Argumenty getterových listenerů jsou pro všechna volání getteru stejné - vytvoří se tedy jen jednou, líně.
+     * */
+    private ReadonlyProperty.GetterListenerArgs<__Boxed__> getterArgs = null;
+
+    private ReadonlyProperty.GetterListenerArgs<__Boxed__> getterArgs(){
+        if(getterArgs == null)
+            getterArgs = ReadonlyProperty.GetterListenerArgs.make(this, obtainListenerlessWrapper());
+        return getterArgs;
+    }
+
+    /**
+     * Znovupoužívaná instance argumentů setterových listenerů, vytvořená líně.
+     * */
+    private __Prim__ReadonlyProperty.SetterListenerArgs.Reusable setterArgs = null;
+
+    /**
+     * Nastaví novou hodnotu a provede setter.
+     *
+     * Smí být volána pouze skrze proxy z <code>makeSetter</code>.
+     * */
+    private __prim__ set_raw(__prim__ val){
+        __prim__ old = obtain_raw();
+        if(!isChange(old, val))
+            return old;
+        change_raw(val);
+        if(setterListeners!=null)
+            execSetterListeners(old);
+        return obtain_raw();
+    }
+
+    private boolean isChange(__prim__ old, __prim__ val){
+        if(changePolicy == ChangePolicy.ALWAYS)
+            return true;
+        if(changePolicy == ChangePolicy.EQUALS || changePolicy == ChangePolicy.IDENTITY)
+            return __Boxed__.compare(old, val) != 0;
+        return changePolicy.isChange(old, val);
+    }
+
+    /**
+     * Zástupce této Property v {@link PropertyTransaction}, vytvořený líně.
+     * */
+    private DeferredSetterListeners deferredSetterListeners = null;
+
+    private class DeferredSetterListeners implements PropertyTransaction.Participant{
+        @Override public void execDeferredSetterListeners(Object oldVal) {
+            __prim__ old = (__Boxed__) oldVal;
+            if(isChange(old, obtain_raw()))
+                execSetterListeners(old);
+        }
+    }
+
+    private void execSetterListeners(__prim__ old){
+        if(PropertyTransaction.isActive()){
+            if(deferredSetterListeners == null)
+                deferredSetterListeners = new DeferredSetterListeners();
+            PropertyTransaction.deferSetterListeners(deferredSetterListeners, old);
+            return;
+        }
+        if(setterArgs == null)
+            setterArgs = new __Prim__ReadonlyProperty.SetterListenerArgs.Reusable(this, obtainListenerlessWrapper());
+        __Prim__ReadonlyProperty.SetterListenerArgs args = setterArgs.obtain(old);
+        try {
+            setterListeners.get().exec(args);
+        } finally {
+            setterArgs.release(args);
+        }
+    }
+
+
+    private class ListenerlessWrapper extends ReadonlyWrapper.AbstractSimpleWrapper<__Boxed__> implements Readonly__Prim__Wrapper{
+        @Override public __prim__ get_raw() {
+            return obtain_raw();
+        }
+    }
+
+    private class SetterProxy implements __Prim__ReadonlyProperty.Setter{
+        @Override public __prim__ set_raw(__prim__ val) {
+            return Abstract__Prim__ReadonlyProperty.this.set_raw(val);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.markussecundus.forms.wrappers.property.impl.readonly;
+
+import com.markussecundus.forms.utils.Pair;
+import com.markussecundus.forms.wrappers.property.raw.__Prim__ReadonlyProperty;
+
+
+/**
+ * Implementace {@link __Prim__ReadonlyProperty}, která má v sobě přímo obsaženu svou hodnotu.
+ *
+ * @see com.markussecundus.forms.wrappers.property.impl.readonly.Abstract__Prim__ReadonlyProperty
+ * @see com.markussecundus.forms.wrappers.property.impl.readonly.SimpleReadonlyProperty
+ *
+ * @author MarkusSecundus
+ * */
+public class Simple__Prim__ReadonlyProperty extends Abstract__Prim__ReadonlyProperty {
+//public:
+    /**
+     * Factory, která vytvoří a vrátí novou instanci {@link Simple__Prim__ReadonlyProperty}
+     * rovnou spolu s její setterovou proxy.
+     *
+     * @param val iniciální hodnota
+     *
+     * @return dvojice nově vytvořené Property a jejího setteru
+     * */
+    public static Pair<Simple__Prim__ReadonlyProperty, __Prim__ReadonlyProperty.Setter> make(__prim__ val){
+        Simple__Prim__ReadonlyProperty ret = new Simple__Prim__ReadonlyProperty(val);
+        return Pair.make(ret, ret.makeSetter());
+    }
+
+//protected:
+
+    @Override
+    protected __prim__ obtain_raw() {
+        return val;
+    }
+
+    @Override
+    protected __prim__ change_raw(__prim__ val) { return this.val=val; }
+
+//private:
+
+    private Simple__Prim__ReadonlyProperty(__prim__ val){ this.val = val;}
+
+    private __prim__ val;
+}
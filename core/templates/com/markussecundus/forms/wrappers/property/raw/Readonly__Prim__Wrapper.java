@@ -0,0 +1,41 @@
+package com.markussecundus.forms.wrappers.property.raw;
+
+import com.markussecundus.forms.wrappers.ReadonlyWrapper;
+
+
+/**
+ * Specializace {@link ReadonlyWrapper} pro hodnoty typu <code>__prim__</code>, jež umožňuje číst hodnotu bez boxingu.
+ *
+ * @see __Prim__Wrapper
+ * @see __Prim__ConstProperty
+ *
+ * @author MarkusSecundus
+ * */
+public interface Readonly__Prim__Wrapper extends ReadonlyWrapper<__Boxed__> {
+
+    /**
+     * @return obsažená hodnota, bez boxingu
+     * */
+    public __prim__ get_raw();
+
+    /**
+     * Ekvivalent {@link #get_raw()} se zaboxovanou hodnotou - pro přístup skrze generické rozhraní.
+     * */
+    @Override
+    public default __Boxed__ get(){return get_raw();}
+
+    /**
+     * Rozbalí zaboxovanou hodnotu předávanou skrze generické rozhraní.
+     *
+     * @param val zaboxovaná hodnota
+     *
+     * @return nezaboxovaná hodnota
+     *
+     * @throws NullPointerException pokud je <code>val</code> <code>null</code> - hodnota typu <code>__prim__</code> nemůže být <code>null</code>
+     * */
+    public static __prim__ unbox(__Boxed__ val){
+        if(val == null)
+            throw new NullPointerException("Value of type __prim__ must not be null!");
+        return val;
+    }
+}
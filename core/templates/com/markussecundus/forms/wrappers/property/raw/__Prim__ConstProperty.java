@@ -0,0 +1,20 @@
+package com.markussecundus.forms.wrappers.property.raw;
+
+import com.markussecundus.forms.wrappers.property.ConstProperty;
+
+
+/**
+ * Specializace {@link ConstProperty} pro hodnoty typu <code>__prim__</code>, jež umožňuje číst hodnotu bez boxingu.
+ * <p></p>
+ * Zůstává plnohodnotnou <code>ConstProperty&lt;__Boxed__&gt;</code>, takže ji lze použít všude, kde se očekává generická Property.
+ *
+ * @see __Prim__ReadonlyProperty
+ * @see __Prim__Property
+ * @see com.markussecundus.forms.wrappers.property.impl.constant.Abstract__Prim__ConstProperty
+ * @see com.markussecundus.forms.wrappers.property.impl.constant.Simple__Prim__ConstProperty
+ * @see com.markussecundus.forms.wrappers.property.impl.constant.Lazy__Prim__ConstProperty
+ *
+ * @author MarkusSecundus
+ * */
+public interface __Prim__ConstProperty extends ConstProperty<__Boxed__>, Readonly__Prim__Wrapper {
+}
@@ -0,0 +1,129 @@
+package com.markussecundus.forms.wrappers.property.raw;
+
+import com.markussecundus.forms.events.EventDelegate;
+import com.markussecundus.forms.wrappers.property.ConstProperty;
+import com.markussecundus.forms.wrappers.property.Property;
+import com.markussecundus.forms.wrappers.property.impl.general.Adapted__Prim__Property;
+
+
+/**
+ * Specializace {@link Property} pro hodnoty typu <code>__prim__</code>, jež umožňuje číst i měnit hodnotu bez boxingu
+ * a jejíž setter-listenery dostávají argumenty se starou hodnotou nezaboxovanou.
+ * <p></p>
+ * Zůstává plnohodnotnou <code>Property&lt;__Boxed__&gt;</code>, takže ji lze použít všude, kde se očekává generická Property.
+ * Opačným směrem lze libovolnou <code>Property&lt;__Boxed__&gt;</code> zpřístupnit skrze {@link #of(Property)}.
+ *
+ * @see __Prim__ConstProperty
+ * @see __Prim__ReadonlyProperty
+ * @see com.markussecundus.forms.wrappers.property.impl.general.Abstract__Prim__Property
+ * @see com.markussecundus.forms.wrappers.property.impl.general.Simple__Prim__Property
+ * @see com.markussecundus.forms.wrappers.property.impl.general.Lazy__Prim__Property
+ *
+ * @author MarkusSecundus
+ * */
+public interface __Prim__Property extends Property<__Boxed__>, __Prim__ReadonlyProperty, __Prim__Wrapper {
+
+    /**
+     * Zpřístupní generickou Property skrze nezaboxované rozhraní.
+     *
+     * @param base Property, jež má být zpřístupněna
+     *
+     * @return <code>base</code>, pokud již je {@link __Prim__Property}, jinak adaptér, jenž na ni vše deleguje
+     *
+     * @see Adapted__Prim__Property
+     * */
+    public static __Prim__Property of(Property<__Boxed__> base){
+        if(base instanceof __Prim__Property)
+            return (__Prim__Property) base;
+        return new Adapted__Prim__Property(base);
+    }
+
+
+    @Override
+    public default __Boxed__ get(){return get_raw();}
+
+    @Override
+    public ConstProperty<? extends EventDelegate<? extends SetterListenerArgs>> setterListeners();
+
+    @Override
+    public default EventDelegate<? extends SetterListenerArgs> getSetterListeners(){
+        return setterListeners().get();
+    }
+
+
+    /**
+     * Argumenty setterového listeneru se starou hodnotou nezaboxovanou.
+     *
+     * @see Property.SetterListenerArgs
+     *
+     * @author MarkusSecundus
+     * */
+    public static interface SetterListenerArgs extends Property.SetterListenerArgs<__Boxed__>, __Prim__ReadonlyProperty.SetterListenerArgs{
+        @Override
+        public __Prim__Property caller();
+
+        @Override
+        public default __Boxed__ oldVal(){return oldVal_raw();}
+
+        @Override
+        public __Prim__Wrapper newVal();
+
+        @Override
+        public default SetterListenerArgs retain(){return this;}
+
+        /**
+         * Zkonstruuje instanci z daných argumentů.
+         * */
+        public static SetterListenerArgs make(__Prim__Property caller, __prim__ oldVal, __Prim__Wrapper newVal){
+            return new SetterListenerArgs() {
+                public __Prim__Property caller() { return caller; }
+                public __prim__ oldVal_raw() { return oldVal; }
+                public __Prim__Wrapper newVal() { return newVal; }
+            };
+        }
+
+        /**
+         * Znovupoužitelná instance argumentů pro setterové listenery jedné konkrétní Property.
+         *
+         * @see Property.SetterListenerArgs.Reusable
+         * */
+        public static final class Reusable implements SetterListenerArgs{
+            /**
+             * @param caller Property, jíž budou argumenty náležet
+             * @param newVal wrapper, přes který lze přistupovat k vnitřní hodnotě Property bez spuštění listenerů
+             * */
+            public Reusable(__Prim__Property caller, __Prim__Wrapper newVal){this.caller = caller; this.newVal = newVal;}
+
+            /**
+             * @return tato instance naplněná danou hodnotou, popř. nová instance, pokud je tato právě používána
+             * */
+            public SetterListenerArgs obtain(__prim__ oldVal){
+                if(inUse)
+                    return make(caller, oldVal, newVal);
+                inUse = true;
+                this.oldVal = oldVal;
+                return this;
+            }
+
+            /**
+             * Uvolní instanci získanou z {@link #obtain(__prim__)} poté, co doběhly všechny listenery.
+             * */
+            public void release(SetterListenerArgs args){
+                if(args == this)
+                    inUse = false;
+            }
+
+            public __Prim__Property caller() { return caller; }
+            public __prim__ oldVal_raw() { return oldVal; }
+            public __Prim__Wrapper newVal() { return newVal; }
+
+            @Override public boolean isTransient(){return true;}
+            @Override public SetterListenerArgs retain(){return make(caller, oldVal, newVal);}
+
+            private final __Prim__Property caller;
+            private final __Prim__Wrapper newVal;
+            private __prim__ oldVal;
+            private boolean inUse = false;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.markussecundus.forms.wrappers.property.raw;
+
+import com.markussecundus.forms.events.EventDelegate;
+import com.markussecundus.forms.wrappers.WriteonlyWrapper;
+import com.markussecundus.forms.wrappers.property.ConstProperty;
+import com.markussecundus.forms.wrappers.property.ReadonlyProperty;
+
+
+/**
+ * Specializace {@link ReadonlyProperty} pro hodnoty typu <code>__prim__</code>, jež umožňuje číst hodnotu bez boxingu
+ * a jejíž setter-listenery dostávají argumenty se starou hodnotou nezaboxovanou.
+ * <p></p>
+ * Zůstává plnohodnotnou <code>ReadonlyProperty&lt;__Boxed__&gt;</code>, takže ji lze použít všude, kde se očekává generická Property.
+ *
+ * @see __Prim__ConstProperty
+ * @see __Prim__Property
+ * @see com.markussecundus.forms.wrappers.property.impl.readonly.Abstract__Prim__ReadonlyProperty
+ * @see com.markussecundus.forms.wrappers.property.impl.readonly.Simple__Prim__ReadonlyProperty
+ *
+ * @author MarkusSecundus
+ * */
+public interface __Prim__ReadonlyProperty extends ReadonlyProperty<__Boxed__>, __Prim__ConstProperty {
+
+    @Override
+    public ConstProperty<? extends EventDelegate<? extends SetterListenerArgs>> setterListeners();
+
+    @Override
+    public default EventDelegate<? extends SetterListenerArgs> getSetterListeners(){
+        return setterListeners().get();
+    }
+
+
+    /**
+     * Proxy, přes kterou lze nezaboxovanou hodnotou modifikovat hodnotu {@link __Prim__ReadonlyProperty}.
+     *
+     * @author MarkusSecundus
+     * */
+    public static interface Setter extends WriteonlyWrapper<__Boxed__>{
+
+        /**
+         * Nastaví novou hodnotu a provede setter, bez boxingu.
+         *
+         * @return nová hodnota
+         * */
+        public __prim__ set_raw(__prim__ val);
+
+        /**
+         * Hodnota <code>null</code> je odmítnuta.
+         *
+         * @throws NullPointerException pokud je <code>val</code> <code>null</code>
+         * */
+        @Override
+        public default __Boxed__ set(__Boxed__ val){return set_raw(Readonly__Prim__Wrapper.unbox(val));}
+    }
+
+
+    /**
+     * Argumenty setterového listeneru se starou hodnotou nezaboxovanou.
+     *
+     * @see ReadonlyProperty.SetterListenerArgs
+     *
+     * @author MarkusSecundus
+     * */
+    public static interface SetterListenerArgs extends ReadonlyProperty.SetterListenerArgs<__Boxed__>{
+        @Override
+        public __Prim__ReadonlyProperty caller();
+
+        /**
+         * @return hodnota před provedením setteru, bez boxingu
+         * */
+        public __prim__ oldVal_raw();
+
+        @Override
+        public default __Boxed__ oldVal(){return oldVal_raw();}
+
+        @Override
+        public Readonly__Prim__Wrapper newVal();
+
+        @Override
+        public default SetterListenerArgs retain(){return this;}
+
+        /**
+         * Zkonstruuje instanci z daných argumentů.
+         * */
+        public static SetterListenerArgs make(__Prim__ReadonlyProperty caller, __prim__ oldVal, Readonly__Prim__Wrapper newVal){
+            return new SetterListenerArgs() {
+                public __Prim__ReadonlyProperty caller() { return caller; }
+                public __prim__ oldVal_raw() { return oldVal; }
+                public Readonly__Prim__Wrapper newVal() { return newVal; }
+            };
+        }
+
+        /**
+         * Znovupoužitelná instance argumentů pro setterové listenery jedné konkrétní Property.
+         *
+         * @see ReadonlyProperty.SetterListenerArgs.Reusable
+         * */
+        public static final class Reusable implements SetterListenerArgs{
+            /**
+             * @param caller Property, jíž budou argumenty náležet
+             * @param newVal wrapper, přes který lze číst vnitřní hodnotu Property bez spuštění listenerů
+             * */
+            public Reusable(__Prim__ReadonlyProperty caller, Readonly__Prim__Wrapper newVal){this.caller = caller; this.newVal = newVal;}
+
+            /**
+             * @return tato instance naplněná danou hodnotou, popř. nová instance, pokud je tato právě používána
+             * */
+            public SetterListenerArgs obtain(__prim__ oldVal){
+                if(inUse)
+                    return make(caller, oldVal, newVal);
+                inUse = true;
+                this.oldVal = oldVal;
+                return this;
+            }
+
+            /**
+             * Uvolní instanci získanou z {@link #obtain(__prim__)} poté, co doběhly všechny listenery.
+             * */
+            public void release(SetterListenerArgs args){
+                if(args == this)
+                    inUse = false;
+            }
+
+            public __Prim__ReadonlyProperty caller() { return caller; }
+            public __prim__ oldVal_raw() { return oldVal; }
+            public Readonly__Prim__Wrapper newVal() { return newVal; }
+
+            @Override public boolean isTransient(){return true;}
+            @Override public SetterListenerArgs retain(){return make(caller, oldVal, newVal);}
+
+            private final __Prim__ReadonlyProperty caller;
+            private final Readonly__Prim__Wrapper newVal;
+            private __prim__ oldVal;
+            private boolean inUse = false;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.markussecundus.forms.wrappers.property.raw;
+
+import com.markussecundus.forms.wrappers.Wrapper;
+
+
+/**
+ * Specializace {@link Wrapper} pro hodnoty typu <code>__prim__</code>, jež umožňuje číst i měnit hodnotu bez boxingu.
+ *
+ * @see Readonly__Prim__Wrapper
+ * @see __Prim__Property
+ *
+ * @author MarkusSecundus
+ * */
+public interface __Prim__Wrapper extends Wrapper<__Boxed__>, Readonly__Prim__Wrapper {
+
+    /**
+     * Nastaví novou hodnotu, bez boxingu.
+     *
+     * @return nová hodnota
+     * */
+    public __prim__ set_raw(__prim__ val);
+
+    @Override
+    public default __Boxed__ get(){return get_raw();}
+
+    /**
+     * Ekvivalent {@link #set_raw(__prim__)} se zaboxovanou hodnotou - pro přístup skrze generické rozhraní.
+     * <p>
+     * Hodnota <code>null</code> je odmítnuta.
+     *
+     * @throws NullPointerException pokud je <code>val</code> <code>null</code>
+     * */
+    @Override
+    public default __Boxed__ set(__Boxed__ val){return set_raw(Readonly__Prim__Wrapper.unbox(val));}
+}
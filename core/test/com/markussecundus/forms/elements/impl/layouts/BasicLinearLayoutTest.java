@@ -0,0 +1,165 @@
+package com.markussecundus.forms.elements.impl.layouts;
+
+import com.markussecundus.forms.elements.DrawableElem;
+import com.markussecundus.forms.elements.impl.DummyDrawableElem;
+import com.markussecundus.forms.utils.vector.Vect2i;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class BasicLinearLayoutTest {
+
+    private static final int WIDTH = 200, HEIGHT = 40, PADDING = 2, INNER_PADDING = 4;
+
+    private BasicLinearLayout<Object, Vect2i, Integer> layout;
+
+    @Before
+    public void makeLayout(){
+        layout = new BasicLinearLayout<>(Vect2i.make(WIDTH, HEIGHT), Vect2i.getUtility());
+        layout.setOuterPadding(Vect2i.make(PADDING, PADDING));
+        layout.setInnerPadding(INNER_PADDING);
+        layout.setIgnoreTooShort(true);
+    }
+
+    private static DrawableElem<Object, Vect2i> child(int width, int height){
+        return new DummyDrawableElem<Object, Vect2i, Integer>(Vect2i.getUtility(), Vect2i.make(width, height));
+    }
+
+    /**
+     * Positions of all the drawable children computed from scratch, independently of the layout.
+     * */
+    private List<Vect2i> expectedPositions(){
+        List<DrawableElem<Object, Vect2i>> children = layout.getDrawableChildren();
+        double alignX = layout.getAlignment(0), alignY = layout.getAlignment(1);
+
+        int line = PADDING;
+        int[] offsets = new int[children.size()];
+        for(int t = 0; t < offsets.length; ++t){
+            offsets[t] = line;
+            line += children.get(t).getSize().x + INNER_PADDING;
+        }
+        line -= INNER_PADDING;
+        int free = WIDTH - PADDING - line;
+        int shift = alignX > 0 && free != 0 ? (int)(free * alignX) : 0;
+
+        List<Vect2i> ret = new ArrayList<>();
+        for(int t = 0; t < offsets.length; ++t){
+            int y = (int)((HEIGHT - 2*PADDING - children.get(t).getSize().y) * alignY) + PADDING;
+            ret.add(Vect2i.make(offsets[t] + shift, y));
+        }
+        return ret;
+    }
+
+    private List<Vect2i> actualPositions(){
+        layout.applySizeChanges();
+        List<Vect2i> ret = new ArrayList<>();
+        for(DrawableElem<Object, Vect2i> c: layout.getDrawableChildren())
+            ret.add(layout.getChildPosition(c));
+        return ret;
+    }
+
+    private void assertPositions(String where){
+        assertEquals(where, expectedPositions(), actualPositions());
+    }
+
+
+    @Test
+    public void appendRepositionsNewChild(){
+        layout.getDrawableChildren().add(child(10, 10));
+        layout.getDrawableChildren().add(child(20, 10));
+        assertPositions("initial");
+
+        layout.getDrawableChildren().add(child(30, 10));
+        assertPositions("append");
+    }
+
+    @Test
+    public void insertInTheMiddleShiftsTheTail(){
+        DrawableElem<Object, Vect2i> a = child(10, 10), b = child(20, 10);
+        layout.getDrawableChildren().add(a);
+        layout.getDrawableChildren().add(b);
+        assertPositions("initial");
+
+        layout.getDrawableChildren().add(1, child(30, 10));
+        assertPositions("insert");
+        assertEquals(Vect2i.make(PADDING + 10 + INNER_PADDING + 30 + INNER_PADDING, PADDING), layout.getChildPosition(b));
+    }
+
+    @Test
+    public void removalShiftsTheFollowingSiblings(){
+        DrawableElem<Object, Vect2i> a = child(10, 10), b = child(20, 10), c = child(30, 10);
+        layout.getDrawableChildren().add(a);
+        layout.getDrawableChildren().add(b);
+        layout.getDrawableChildren().add(c);
+        assertPositions("initial");
+
+        layout.getDrawableChildren().remove(b);
+        assertPositions("remove");
+        assertEquals(Vect2i.make(PADDING + 10 + INNER_PADDING, PADDING), layout.getChildPosition(c));
+
+        layout.getDrawableChildren().remove(a);
+        assertPositions("remove first");
+    }
+
+    @Test
+    public void resizeShiftsTheFollowingSiblings(){
+        DrawableElem<Object, Vect2i> a = child(10, 10), b = child(20, 10), c = child(30, 10);
+        layout.getDrawableChildren().add(a);
+        layout.getDrawableChildren().add(b);
+        layout.getDrawableChildren().add(c);
+        assertPositions("initial");
+
+        b.prefSize().set(Vect2i.make(50, 20));
+        assertPositions("resize");
+    }
+
+    @Test
+    public void alignmentShiftMovesAllChildren(){
+        DrawableElem<Object, Vect2i> a = child(10, 10), b = child(20, 10);
+        layout.getDrawableChildren().add(a);
+        layout.getDrawableChildren().add(b);
+        layout.setAlignment(0, BasicLinearLayout.ALIGNMENT_RIGHT);
+        layout.setAlignment(1, BasicLinearLayout.ALIGNMENT_CENTRE);
+        assertPositions("aligned");
+
+        layout.getDrawableChildren().add(child(30, 10));
+        assertPositions("append while aligned");
+
+        b.prefSize().set(Vect2i.make(40, 10));
+        assertPositions("resize while aligned");
+        assertEquals(Vect2i.make(WIDTH - PADDING - (40 + INNER_PADDING + 30) - INNER_PADDING - 10, PADDING + (HEIGHT - 2*PADDING - 10)/2), layout.getChildPosition(a));
+    }
+
+    @Test
+    public void randomEditsMatchFullRecompute(){
+        double[] alignments = {BasicLinearLayout.ALIGNMENT_LEFT, BasicLinearLayout.ALIGNMENT_CENTRE, BasicLinearLayout.ALIGNMENT_RIGHT};
+        for(long seed = 0; seed < 100; ++seed){
+            makeLayout();
+            Random rnd = new Random(seed);
+            for(int step = 0; step < 60; ++step){
+                List<DrawableElem<Object, Vect2i>> children = layout.getDrawableChildren();
+                int r = rnd.nextInt(10);
+                if(r < 3 || children.isEmpty())
+                    layout.getDrawableChildren().add(child(2 + 2*rnd.nextInt(10), 2 + 2*rnd.nextInt(10)));
+                else if(r < 5)
+                    layout.getDrawableChildren().add(rnd.nextInt(children.size() + 1), child(2 + 2*rnd.nextInt(10), 2 + 2*rnd.nextInt(10)));
+                else if(r < 7)
+                    layout.getDrawableChildren().remove(children.get(rnd.nextInt(children.size())));
+                else if(r < 9)
+                    children.get(rnd.nextInt(children.size())).prefSize().set(Vect2i.make(2 + 2*rnd.nextInt(10), 2 + 2*rnd.nextInt(10)));
+                else
+                    layout.setAlignment(rnd.nextInt(2), alignments[rnd.nextInt(alignments.length)]);
+
+                if(rnd.nextInt(3) == 0)
+                    assertPositions("seed " + seed + ", step " + step);
+            }
+            assertPositions("seed " + seed + ", end");
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.markussecundus.forms.events;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class CoalescingEventDelegateTest {
+
+    private final List<String> delivered = new ArrayList<>();
+
+    @After
+    public void flushLeftovers(){
+        CoalescingEventDelegate.flushAll();
+    }
+
+    private CoalescingEventDelegate<String> makeRecording(){
+        CoalescingEventDelegate<String> ret = new CoalescingEventDelegate<>(s -> s.charAt(0));
+        ret.getUserListeners().add(s -> delivered.add(s));
+        return ret;
+    }
+
+    @Test
+    public void onlyLatestCallPerSourceIsDelivered(){
+        CoalescingEventDelegate<String> d = makeRecording();
+
+        d.exec("a1"); d.exec("b1"); d.exec("a2"); d.exec("b2"); d.exec("a3");
+        assertTrue(delivered.isEmpty());
+
+        CoalescingEventDelegate.flushAll();
+        assertEquals(Arrays.asList("a3", "b2"), delivered);
+        assertFalse(d.hasPending());
+    }
+
+    @Test
+    public void synchronousGuardCanRejectCall(){
+        CoalescingEventDelegate<String> d = makeRecording();
+        d.getListeners(ListenerPriorities.ARG_GUARD).add((EventListener<String>) s -> !s.endsWith("X"));
+
+        assertTrue(d.exec("a1"));
+        assertFalse(d.exec("aX"));
+
+        CoalescingEventDelegate.flushAll();
+        assertEquals(Arrays.asList("a1"), delivered);
+    }
+
+    @Test
+    public void directFlushIsNotDeliveredAgainByFlushAll(){
+        CoalescingEventDelegate<String> d = makeRecording();
+
+        d.exec("a1");
+        d.flush();
+        CoalescingEventDelegate.flushAll();
+        assertEquals(Arrays.asList("a1"), delivered);
+
+        d.exec("a2");
+        d.flush();
+        d.exec("a3");
+        CoalescingEventDelegate.flushAll();
+        assertEquals(Arrays.asList("a1", "a2", "a3"), delivered);
+    }
+
+    @Test
+    public void callsQueuedDuringFlushAreDeliveredInTheSameFlush(){
+        CoalescingEventDelegate<String> first = makeRecording(), second = makeRecording();
+        first.getUserListeners().add(s -> second.exec("b" + s));
+
+        first.exec("a1");
+        CoalescingEventDelegate.flushAll();
+
+        assertEquals(Arrays.asList("a1", "ba1"), delivered);
+        assertFalse(second.hasPending());
+    }
+
+    @Test
+    public void delegatesQueuedAfterAFailingOneAreDeliveredNextTime(){
+        CoalescingEventDelegate<String> failing = new CoalescingEventDelegate<>();
+        failing.getUserListeners().add(s -> {throw new IllegalStateException(s);});
+        CoalescingEventDelegate<String> d = makeRecording();
+
+        failing.exec("x");
+        d.exec("a1");
+        try {
+            CoalescingEventDelegate.flushAll();
+            fail("The listener's exception must propagate");
+        }catch (IllegalStateException expected){}
+        assertTrue(delivered.isEmpty());
+
+        CoalescingEventDelegate.flushAll();
+        assertEquals(Arrays.asList("a1"), delivered);
+        assertFalse(d.hasPending());
+
+        d.exec("a2");
+        CoalescingEventDelegate.flushAll();
+        assertEquals(Arrays.asList("a1", "a2"), delivered);
+    }
+}
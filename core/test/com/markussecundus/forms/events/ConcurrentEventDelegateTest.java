@@ -0,0 +1,179 @@
+package com.markussecundus.forms.events;
+
+import com.markussecundus.forms.utils.datastruct.AutobucketedList;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ConcurrentEventDelegateTest {
+
+    private static final int DISPATCHERS = 4, MUTATORS = 4, EVENTS_PER_DISPATCHER = 20_000, MUTATIONS = 2_000, KEPT_PER_MUTATOR = 10;
+
+    private static final int[] PRIORITIES = {ListenerPriorities.PRE_UTIL, ListenerPriorities.USER, ListenerPriorities.POST_UTIL};
+
+    /**
+     * 8 threads at once - half of them dispatch, the other half keeps registering and removing listeners.
+     * Every event must reach every permanent listener exactly once, no listener may see the same event twice,
+     * and every registration and removal must take effect.
+     * */
+    @Test(timeout = 60_000)
+    public void concurrentRegistrationRemovalAndDispatch() throws Throwable {
+        ConcurrentEventDelegate<Integer> d = new ConcurrentEventDelegate<>();
+        int eventCount = DISPATCHERS * EVENTS_PER_DISPATCHER;
+
+        List<AtomicIntegerArray> permanentCounts = new ArrayList<>();
+        for(int priority: PRIORITIES){
+            AtomicIntegerArray counts = new AtomicIntegerArray(eventCount);
+            permanentCounts.add(counts);
+            d.addListener(priority, e -> { counts.incrementAndGet(e); return true; });
+        }
+
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+
+        for(int t = 0; t < DISPATCHERS; ++t){
+            int first = t * EVENTS_PER_DISPATCHER;
+            threads.add(new Thread(() -> {
+                awaitQuietly(start);
+                for(int e = first; e < first + EVENTS_PER_DISPATCHER; ++e)
+                    if(!d.exec(e))
+                        failure.compareAndSet(null, new AssertionError("Dispatch of " + e + " got aborted!"));
+            }));
+        }
+        for(int t = 0; t < MUTATORS; ++t){
+            int seed = t;
+            threads.add(new Thread(() -> {
+                awaitQuietly(start);
+                for(int m = 0; m < MUTATIONS; ++m){
+                    int priority = PRIORITIES[(m + seed) % PRIORITIES.length];
+                    EventListener<Integer> byHandle = new DuplicateChecker(failure), byValue = new DuplicateChecker(failure);
+
+                    AutobucketedList.Handle<?> handle = d.addListener(priority, byHandle);
+                    d.getListeners(priority).add(byValue);
+
+                    if(!handle.remove())
+                        failure.compareAndSet(null, new AssertionError("Registered listener couldn't be removed by its handle!"));
+                    if(!d.removeListener(byValue))
+                        failure.compareAndSet(null, new AssertionError("Registered listener couldn't be removed!"));
+                    if(handle.isPresent() || handle.remove())
+                        failure.compareAndSet(null, new AssertionError("Removed listener is still present!"));
+                }
+                for(int k = 0; k < KEPT_PER_MUTATOR; ++k)
+                    d.addListener(PRIORITIES[k % PRIORITIES.length], new DuplicateChecker(failure));
+            }));
+        }
+
+        for(Thread t: threads)
+            t.start();
+        start.countDown();
+        for(Thread t: threads)
+            t.join();
+
+        if(failure.get() != null)
+            throw failure.get();
+
+        for(AtomicIntegerArray counts: permanentCounts)
+            for(int e = 0; e < eventCount; ++e)
+                assertEquals("Event " + e + " delivered wrong number of times", 1, counts.get(e));
+
+        int total = 0;
+        for(int priority: PRIORITIES)
+            total += d.getListeners(priority).size();
+        assertEquals(PRIORITIES.length + MUTATORS * KEPT_PER_MUTATOR, total);
+    }
+
+    @Test
+    public void listenersAreExecutedByPriority(){
+        ConcurrentEventDelegate<String> d = new ConcurrentEventDelegate<>();
+        StringBuilder order = new StringBuilder();
+        d.addListener(ListenerPriorities.POST_UTIL, e -> order.append("post ") != null);
+        d.addListener(ListenerPriorities.USER, e -> order.append("user1 ") != null);
+        d.addListener(ListenerPriorities.PRE_UTIL, e -> order.append("pre ") != null);
+        d.addListener(ListenerPriorities.USER, e -> order.append("user2 ") != null);
+
+        d.exec("x");
+
+        assertEquals("pre user1 user2 post ", order.toString());
+    }
+
+    @Test
+    public void returnValuePolicyPropertyNotifiesListeners(){
+        ConcurrentEventDelegate<String> d = new ConcurrentEventDelegate<>();
+        d.getUserListeners().add(e -> false);
+        List<EventDelegate.ReturnValuePolicy> seen = new ArrayList<>();
+        d.returnValuePolicy().getSetterListeners().add(e -> seen.add(e.newVal().get()));
+
+        assertFalse(d.exec("x"));
+        d.setReturnValuePolicy(EventDelegate.ReturnValuePolicy.ALWAYS_TRUE);
+        assertTrue(d.exec("x"));
+        assertSame(EventDelegate.ReturnValuePolicy.ALWAYS_TRUE, d.returnValuePolicy().get());
+        assertEquals(1, seen.size());
+
+        d.returnValuePolicy().set(null);
+        assertFalse(d.exec("x"));
+        assertEquals(2, seen.size());
+    }
+
+    @Test(timeout = 60_000)
+    public void returnValuePolicyCanBeSetFromManyThreads() throws Throwable {
+        ConcurrentEventDelegate<String> d = new ConcurrentEventDelegate<>();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        d.returnValuePolicy().getSetterListeners().add(e -> {
+            if(e.newVal().get() == null)
+                failure.compareAndSet(null, new AssertionError("Listener got no value!"));
+        });
+
+        List<Thread> threads = new ArrayList<>();
+        for(int t = 0; t < 8; ++t){
+            EventDelegate.ReturnValuePolicy pol = t % 2 == 0 ? EventDelegate.ReturnValuePolicy.ALWAYS_TRUE : EventDelegate.ReturnValuePolicy.USE_CHILD;
+            threads.add(new Thread(() -> {
+                for(int i = 0; i < 10_000; ++i){
+                    d.returnValuePolicy().set(pol);
+                    d.returnValuePolicy().get();
+                }
+            }));
+        }
+        for(Thread t: threads)
+            t.start();
+        for(Thread t: threads)
+            t.join();
+
+        assertNull(failure.get());
+    }
+
+
+    private static final class DuplicateChecker implements EventListener<Integer>{
+        DuplicateChecker(AtomicReference<Throwable> failure){this.failure = failure;}
+
+        private final AtomicReference<Throwable> failure;
+        private final Set<Integer> seen = ConcurrentHashMap.newKeySet();
+
+        @Override public boolean exec(Integer e) {
+            if(!seen.add(e))
+                failure.compareAndSet(null, new AssertionError("Event " + e + " delivered twice to the same listener!"));
+            return true;
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch){
+        try {
+            latch.await();
+        }catch (InterruptedException e){
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.markussecundus.forms.events;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class DeferredListenerTest {
+
+    private final List<String> executed = new ArrayList<>();
+
+    @After
+    public void drainScheduler(){
+        DeferredScheduler.runAll();
+    }
+
+    @Test
+    public void executionIsDeferredUntilTheSchedulerRuns(){
+        EventDelegate<String> d = EventDelegate.make();
+        d.addDeferredListener(ListenerPriorities.USER, s -> executed.add(s));
+
+        d.exec("a"); d.exec("b");
+        assertTrue(executed.isEmpty());
+
+        DeferredScheduler.runAll();
+        assertEquals(Arrays.asList("a", "b"), executed);
+    }
+
+    @Test
+    public void latestOnlyKeepsSinglePendingExecution(){
+        EventDelegate<String> d = EventDelegate.make();
+        d.getUserListeners().add(DeferredListener.latestOnly(s -> executed.add(s)));
+
+        d.exec("a"); d.exec("b"); d.exec("c");
+
+        assertEquals(1, DeferredScheduler.getPendingCount());
+        DeferredScheduler.runAll();
+        assertEquals(Arrays.asList("c"), executed);
+    }
+
+    @Test
+    public void deleteSelfIsHonouredWithoutDroppingRestOfTheFrame(){
+        EventDelegate<String> d = EventDelegate.make();
+        d.addDeferredListener(ListenerPriorities.USER, s -> {
+            executed.add("deleting:" + s);
+            throw EventDelegate.DELETE_SELF;
+        });
+        d.addDeferredListener(ListenerPriorities.USER, s -> executed.add("other:" + s));
+
+        d.exec("a");
+        DeferredScheduler.setFrameBudgetNanos(Long.MAX_VALUE);
+        try {
+            assertEquals(2, DeferredScheduler.runFrame());
+        }finally {
+            DeferredScheduler.setFrameBudgetNanos(DeferredScheduler.DEFAULT_FRAME_BUDGET_NANOS);
+        }
+        assertEquals(Arrays.asList("deleting:a", "other:a"), executed);
+
+        d.exec("b");
+        d.exec("c");
+        DeferredScheduler.runAll();
+        assertEquals(Arrays.asList("deleting:a", "other:a", "other:b", "other:c"), executed);
+        assertEquals(1, d.getUserListeners().size());
+    }
+}
@@ -0,0 +1,40 @@
+package com.markussecundus.forms.events;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class DispatchMetricsTest {
+
+    @Before
+    public void enable(){
+        DispatchMetrics.setEnabled(true);
+    }
+
+    @After
+    public void disable(){
+        DispatchMetrics.setEnabled(false);
+    }
+
+    private static int abortsOf(EventDelegate.ReturnValuePolicy policy, boolean listenerAborts){
+        EventDelegate<Object> d = EventDelegate.make();
+        d.setReturnValuePolicy(policy);
+        d.getUserListeners().add(e -> !listenerAborts);
+        for(int t = 0; t < 3; ++t)
+            d.exec(null);
+        return DispatchMetrics.currentFrame(1).get(0).aborts;
+    }
+
+    @Test
+    public void abortsAreRecordedIndependentlyOfReturnValuePolicy(){
+        assertEquals(0, abortsOf(EventDelegate.ReturnValuePolicy.ALWAYS_FALSE, false));
+        DispatchMetrics.reset();
+        assertEquals(3, abortsOf(EventDelegate.ReturnValuePolicy.ALWAYS_TRUE, true));
+        DispatchMetrics.reset();
+        assertEquals(3, abortsOf(EventDelegate.ReturnValuePolicy.INVERSE_CHILD, true));
+        DispatchMetrics.reset();
+        assertEquals(0, abortsOf(EventDelegate.ReturnValuePolicy.INVERSE_CHILD, false));
+    }
+}
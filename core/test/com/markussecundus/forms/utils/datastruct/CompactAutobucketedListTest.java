@@ -0,0 +1,119 @@
+package com.markussecundus.forms.utils.datastruct;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Runs the differential test of {@link IAutobucketedListTest} over {@link CompactAutobucketedList}
+ * - both in short runs, that mostly stay inline, and in long ones, that inflate early.
+ * */
+public class CompactAutobucketedListTest extends IAutobucketedListTest {
+
+    @Override
+    protected AutobucketedList<Integer, Integer> make(){return new CompactAutobucketedList<>(Integer::compareTo);}
+
+    private static List<Integer> contentOf(AutobucketedList<Integer, Integer> list){
+        Integer[] ret = new Integer[list.getBase().size()];
+        for(int t = 0; t < ret.length; ++t)
+            ret[t] = list.getBase().getNth(t);
+        return Arrays.asList(ret);
+    }
+
+    @Test
+    public void shortRunsBehaveLikePerBucketArrayLists(){
+        for(long seed = 0; seed < 2000; ++seed)
+            runRandomized(seed, 8);
+    }
+
+    @Test
+    public void inflatesOnlyPastInlineCapacity(){
+        CompactAutobucketedList<Integer, Integer> list = new CompactAutobucketedList<>(Integer::compareTo);
+        List<Integer> low = list.getBucket(0), high = list.getBucket(5);
+
+        list.add(0, 1);
+        list.add(5, 2);
+        assertEquals(CompactAutobucketedList.INLINE_CAPACITY, list.size());
+        assertFalse(list.isInflated());
+        assertEquals(Arrays.asList(2, 1), contentOf(list));
+
+        list.add(0, 3);
+        assertTrue(list.isInflated());
+        assertEquals(Arrays.asList(2, 1, 3), contentOf(list));
+        assertSame(low, list.getBucket(0));
+        assertSame(high, list.getBucket(5));
+        assertEquals(Arrays.asList(1, 3), low);
+        assertEquals(Arrays.asList(2), high);
+    }
+
+    @Test
+    public void viewAddInflatesToo(){
+        CompactAutobucketedList<Integer, Integer> list = new CompactAutobucketedList<>(Integer::compareTo);
+        List<Integer> bucket = list.getBucket(0);
+        bucket.add(1);
+        bucket.add(0, 2);
+        assertFalse(list.isInflated());
+
+        bucket.add(1, 3);
+        assertTrue(list.isInflated());
+        assertEquals(Arrays.asList(2, 3, 1), contentOf(list));
+    }
+
+    @Test
+    public void handlesSurviveInflation(){
+        CompactAutobucketedList<Integer, Integer> list = new CompactAutobucketedList<>(Integer::compareTo);
+        AutobucketedList.Handle<Integer> a = list.add(0, 1), b = list.add(1, 2);
+        int modCount = list.getModCount();
+
+        AutobucketedList.Handle<Integer> c = list.add(0, 3);
+        assertTrue(list.isInflated());
+        assertTrue(list.getModCount() != modCount);
+
+        assertTrue(a.isPresent());
+        assertEquals(Integer.valueOf(1), a.get());
+        assertEquals(Integer.valueOf(2), b.get());
+
+        assertTrue(a.remove());
+        assertFalse(a.isPresent());
+        assertNull(a.get());
+        assertFalse(a.remove());
+        assertEquals(Arrays.asList(2, 3), contentOf(list));
+
+        list.remove(0);
+        assertFalse(b.isPresent());
+        assertFalse(b.remove());
+        assertEquals(Arrays.asList(3), contentOf(list));
+        assertTrue(c.isPresent());
+    }
+
+    @Test
+    public void staleInlineHandleRemovesNothing(){
+        CompactAutobucketedList<Integer, Integer> list = new CompactAutobucketedList<>(Integer::compareTo);
+        AutobucketedList.Handle<Integer> removed = list.add(0, 1);
+        list.remove(0);
+        list.add(0, 1);
+
+        assertFalse(removed.isPresent());
+        assertFalse(removed.remove());
+        assertEquals(Arrays.asList(1), contentOf(list));
+
+        AutobucketedList.Handle<Integer> overwritten = list.add(0, 2);
+        list.getBucket(0).set(1, 2);
+        assertFalse(overwritten.isPresent());
+        assertFalse(overwritten.remove());
+        assertEquals(Arrays.asList(1, 2), contentOf(list));
+
+        list.add(0, 3);
+        assertTrue(list.isInflated());
+        assertFalse(removed.remove());
+        assertFalse(overwritten.remove());
+        assertEquals(Arrays.asList(1, 2, 3), contentOf(list));
+    }
+}
@@ -0,0 +1,289 @@
+package com.markussecundus.forms.utils.datastruct;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Randomized differential test against a model made of plain per-bucket {@link ArrayList}s.
+ * */
+public class IAutobucketedListTest {
+
+    protected AutobucketedList<Integer, Integer> make(){return new IAutobucketedList<>(Integer::compareTo);}
+
+    protected static final int BUCKETS = 5, VALUES = 12;
+
+
+    private static final class Slot{
+        Slot(Integer value, AutobucketedList.Handle<Integer> handle){this.value = value; this.handle = handle;}
+        Integer value;
+        AutobucketedList.Handle<Integer> handle;
+        boolean present = true;
+    }
+
+    /**
+     * Buckets ordered the same way as in the tested list - from the greatest key.
+     * */
+    private final TreeMap<Integer, List<Slot>> model = new TreeMap<>(Collections.reverseOrder());
+
+    private final List<Slot> handled = new ArrayList<>();
+
+    private final Map<Integer, List<Integer>> views = new HashMap<>();
+
+    private AutobucketedList<Integer, Integer> list;
+
+    private Random rnd;
+
+
+    @Test
+    public void behavesLikePerBucketArrayLists(){
+        for(long seed = 0; seed < 200; ++seed)
+            runRandomized(seed, 300);
+    }
+
+    @Test
+    public void handlesOfRemovedItemsAreDead(){
+        list = make();
+        AutobucketedList.Handle<Integer> a = list.add(0, 1), b = list.add(0, 2), c = list.add(1, 3);
+
+        assertEquals(Integer.valueOf(3), list.remove(0));
+        assertFalse(c.isPresent());
+        assertNull(c.get());
+        assertFalse(c.remove());
+
+        list.getBucket(0).set(0, 10);
+        assertFalse(a.isPresent());
+        assertEquals(Integer.valueOf(2), b.get());
+
+        assertEquals(true, b.remove());
+        assertFalse(b.remove());
+        assertEquals(1, list.getBase().size());
+        assertEquals(Integer.valueOf(10), list.getBase().getNth(0));
+    }
+
+
+    protected void runRandomized(long seed, int steps){
+        list = make();
+        model.clear();
+        handled.clear();
+        views.clear();
+        rnd = new Random(seed);
+
+        for(int step = 0; step < steps; ++step){
+            String op = step();
+            verify("seed " + seed + ", step " + step + " (" + op + ")");
+        }
+    }
+
+    private String step(){
+        int modCount = list.getModCount();
+        int r = rnd.nextInt(100);
+        if(r < 30){
+            int bucket = rnd.nextInt(BUCKETS), value = rnd.nextInt(VALUES);
+            Slot s = new Slot(value, null);
+            s.handle = list.add(bucket, value);
+            bucketOf(bucket).add(s);
+            handled.add(s);
+            assertNotEquals(modCount, list.getModCount());
+            return "add";
+        }else if(r < 40){
+            int bucket = rnd.nextInt(BUCKETS), value = rnd.nextInt(VALUES);
+            List<Slot> m = bucketOf(bucket);
+            int at = rnd.nextInt(m.size() + 1);
+            list.getBucket(bucket).add(at, value);
+            m.add(at, new Slot(value, null));
+            return "view add";
+        }else if(r < 55){
+            if(handled.isEmpty())
+                return "noop";
+            Slot s = handled.get(rnd.nextInt(handled.size()));
+            boolean expected = s.present;
+            if(s.present)
+                removeFromModel(s);
+            assertEquals(expected, s.handle.remove());
+            if(expected)
+                assertNotEquals(modCount, list.getModCount());
+            return "handle remove";
+        }else if(r < 63){
+            int size = totalSize();
+            if(size == 0)
+                return "noop";
+            int i = rnd.nextInt(size);
+            Slot s = slotAt(i);
+            removeFromModel(s);
+            assertEquals(s.value, list.remove(i));
+            return "remove(int)";
+        }else if(r < 70){
+            Integer value = rnd.nextInt(VALUES);
+            Slot s = firstWithValue(value);
+            if(s != null)
+                removeFromModel(s);
+            assertEquals(s != null, list.remove((Object) value));
+            return "remove(Object)";
+        }else if(r < 76){
+            int bucket = rnd.nextInt(BUCKETS);
+            List<Slot> m = bucketOf(bucket);
+            if(m.isEmpty())
+                return "noop";
+            int at = rnd.nextInt(m.size());
+            Slot s = m.get(at);
+            assertEquals(s.value, list.getBucket(bucket).remove(at));
+            removeFromModel(s);
+            return "view remove";
+        }else if(r < 82){
+            int bucket = rnd.nextInt(BUCKETS);
+            List<Slot> m = bucketOf(bucket);
+            if(m.isEmpty())
+                return "noop";
+            int at = rnd.nextInt(m.size()), value = rnd.nextInt(VALUES);
+            Slot s = m.get(at);
+            assertEquals(s.value, list.getBucket(bucket).set(at, value));
+            s.present = false;
+            m.set(at, new Slot(value, null));
+            return "view set";
+        }else if(r < 97){
+            iterateRemovingThroughHandle();
+            return "iterate";
+        }else if(r < 99){
+            int bucket = rnd.nextInt(BUCKETS);
+            list.getBucket(bucket).clear();
+            for(Slot s: bucketOf(bucket))
+                s.present = false;
+            bucketOf(bucket).clear();
+            return "view clear";
+        }else{
+            list.clear();
+            for(List<Slot> m: model.values()){
+                for(Slot s: m)
+                    s.present = false;
+                m.clear();
+            }
+            return "clear";
+        }
+    }
+
+    /**
+     * Iterates over the whole list and removes a random item through its handle in the middle of the iteration
+     * - the removed item must not be returned anymore, unless it already has been.
+     * */
+    private void iterateRemovingThroughHandle(){
+        List<Slot> before = flatten();
+        int removeAfter = before.isEmpty() ? 0 : rnd.nextInt(before.size());
+        Slot toRemove = null;
+        for(Slot s: before)
+            if(s.handle != null && rnd.nextInt(before.size()) == 0)
+                toRemove = s;
+
+        List<Integer> expected = new ArrayList<>(), actual = new ArrayList<>();
+        for(int t = 0; t < before.size(); ++t)
+            if(t < removeAfter || before.get(t) != toRemove)
+                expected.add(before.get(t).value);
+
+        Iterator<Integer> it = list.getBase().iterator();
+        for(int t = 0; ; ++t){
+            if(t == removeAfter && toRemove != null){
+                removeFromModel(toRemove);
+                toRemove.handle.remove();
+            }
+            if(!it.hasNext())
+                break;
+            actual.add(it.next());
+        }
+        assertEquals(expected, actual);
+    }
+
+
+    private void verify(String where){
+        List<Slot> flat = flatten();
+        ReadonlyList<Integer> base = list.getBase();
+
+        assertEquals(where, flat.size(), base.size());
+        List<Integer> expected = new ArrayList<>(), iterated = new ArrayList<>(), indexed = new ArrayList<>();
+        for(Slot s: flat)
+            expected.add(s.value);
+        for(Integer i: base)
+            iterated.add(i);
+        for(int t = 0; t < base.size(); ++t)
+            indexed.add(base.getNth(t));
+        assertEquals(where, expected, iterated);
+        assertEquals(where, expected, indexed);
+
+        for(int bucket = 0; bucket < BUCKETS; ++bucket){
+            List<Integer> view = list.getBucket(bucket);
+            List<Integer> first = views.get(bucket);
+            if(first == null)
+                views.put(bucket, view);
+            else
+                assertSame(where, first, view);
+
+            List<Integer> bucketExpected = new ArrayList<>();
+            for(Slot s: bucketOf(bucket))
+                bucketExpected.add(s.value);
+            assertEquals(where, bucketExpected, new ArrayList<>(view));
+        }
+
+        for(Slot s: handled){
+            assertEquals(where, s.present, s.handle.isPresent());
+            if(s.present)
+                assertEquals(where, s.value, s.handle.get());
+        }
+    }
+
+
+    private List<Slot> bucketOf(int bucket){
+        List<Slot> ret = model.get(bucket);
+        if(ret == null)
+            model.put(bucket, ret = new ArrayList<>());
+        return ret;
+    }
+
+    private List<Slot> flatten(){
+        List<Slot> ret = new ArrayList<>();
+        for(List<Slot> m: model.values())
+            ret.addAll(m);
+        return ret;
+    }
+
+    private int totalSize(){
+        int ret = 0;
+        for(List<Slot> m: model.values())
+            ret += m.size();
+        return ret;
+    }
+
+    private Slot slotAt(int i){
+        return flatten().get(i);
+    }
+
+    private Slot firstWithValue(Integer value){
+        for(Slot s: flatten())
+            if(s.value.equals(value))
+                return s;
+        return null;
+    }
+
+    private void removeFromModel(Slot s){
+        for(List<Slot> m: model.values()){
+            for(int t = 0; t < m.size(); ++t){
+                if(m.get(t) == s){
+                    m.remove(t);
+                    s.present = false;
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.markussecundus.forms.wrappers.property;
+
+import com.markussecundus.forms.utils.Pair;
+import com.markussecundus.forms.wrappers.WriteonlyWrapper;
+import com.markussecundus.forms.wrappers.property.binding.Bindings;
+import com.markussecundus.forms.wrappers.property.impl.general.SimpleFloatProperty;
+import com.markussecundus.forms.wrappers.property.impl.general.SimpleProperty;
+import com.markussecundus.forms.wrappers.property.impl.readonly.SimpleReadonlyProperty;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class PropertyTransactionTest {
+
+    private final List<String> fired = new ArrayList<>();
+
+    private <T> void record(ReadonlyProperty<T> prop, String name){
+        prop.getSetterListeners().add(e -> fired.add(name + ":" + e.oldVal() + "->" + e.newVal().get()));
+    }
+
+    @Test
+    public void listenersFireOnceAtCloseWithTheOriginalOldValue(){
+        SimpleProperty<Integer> a = new SimpleProperty<>(0), b = new SimpleProperty<>(0);
+        record(a, "a");
+        record(b, "b");
+
+        try(PropertyTransaction tr = PropertyTransaction.begin()){
+            a.set(1);
+            b.set(5);
+            a.set(2);
+            assertTrue(fired.isEmpty());
+            assertEquals(2, (int) a.get());
+        }
+
+        assertFalse(PropertyTransaction.isActive());
+        assertEquals(Arrays.asList("a:0->2", "b:0->5"), fired);
+    }
+
+    @Test
+    public void nestedTransactionsFireOnlyWhenTheOuterOneCloses(){
+        SimpleProperty<Integer> a = new SimpleProperty<>(0);
+        record(a, "a");
+
+        try(PropertyTransaction outer = PropertyTransaction.begin()){
+            try(PropertyTransaction inner = PropertyTransaction.begin()){
+                a.set(1);
+            }
+            assertTrue(fired.isEmpty());
+        }
+
+        assertEquals(Arrays.asList("a:0->1"), fired);
+    }
+
+    @Test
+    public void netUnchangedValueIsSuppressedByChangePolicy(){
+        SimpleProperty<Integer> a = new SimpleProperty<>(1);
+        a.setChangePolicy(ChangePolicy.EQUALS);
+        record(a, "a");
+        SimpleFloatProperty f = new SimpleFloatProperty(1f);
+        f.setChangePolicy(ChangePolicy.EQUALS);
+        record(f, "f");
+        Pair<SimpleReadonlyProperty<Integer>, WriteonlyWrapper<Integer>> r = SimpleReadonlyProperty.make(1);
+        r.first().setChangePolicy(ChangePolicy.EQUALS);
+        record(r.first(), "r");
+
+        try(PropertyTransaction tr = PropertyTransaction.begin()){
+            a.set(2); a.set(1);
+            f.set(2f); f.set(1f);
+            r.second().set(2); r.second().set(1);
+        }
+
+        assertTrue(fired.isEmpty());
+    }
+
+    @Test
+    public void pretendSetFiresEvenWithoutNetChange(){
+        SimpleProperty<Integer> a = new SimpleProperty<>(1);
+        a.setChangePolicy(ChangePolicy.EQUALS);
+        record(a, "a");
+
+        try(PropertyTransaction tr = PropertyTransaction.begin()){
+            a.pretendSet();
+        }
+
+        assertEquals(Arrays.asList("a:1->1"), fired);
+    }
+
+    @Test
+    public void failingListenerDoesNotLoseTheOthersNorTheBindingRuns(){
+        SimpleProperty<Integer> a = new SimpleProperty<>(0), b = new SimpleProperty<>(0), target = new SimpleProperty<>(0);
+        a.getSetterListeners().add(e -> {throw new IllegalStateException("boom");});
+        record(b, "b");
+        Bindings.bind(target, (Integer v) -> v * 10, b);
+
+        try {
+            try(PropertyTransaction tr = PropertyTransaction.begin()){
+                a.set(1);
+                b.set(2);
+            }
+            fail("The listener's exception must propagate");
+        }catch (IllegalStateException expected){}
+
+        assertEquals(Arrays.asList("b:0->2"), fired);
+        assertEquals(20, (int) target.get());
+        assertFalse(PropertyTransaction.isActive());
+
+        fired.clear();
+        SimpleProperty<Integer> unrelated = new SimpleProperty<>(0);
+        record(unrelated, "u");
+        try(PropertyTransaction tr = PropertyTransaction.begin()){
+            unrelated.set(1);
+        }
+        assertEquals(Arrays.asList("u:0->1"), fired);
+    }
+}
@@ -0,0 +1,56 @@
+package com.markussecundus.forms.wrappers.property.binding;
+
+import com.markussecundus.forms.extensibility.IExtensible;
+import com.markussecundus.forms.wrappers.property.impl.general.SimpleProperty;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class BindingGroupTest {
+
+    private final SimpleProperty<Integer> source = new SimpleProperty<>(0), target = new SimpleProperty<>(0);
+
+    @Test
+    public void attachedGroupSurvivesRemovalUnlessOptedIn(){
+        IExtensible owner = new IExtensible();
+        BindingGroup group = BindingGroup.of(owner);
+        group.add(Bindings.bind(target, source));
+
+        BindingGroup.disposeAttachedOnRemoval(owner);
+        source.set(1);
+
+        assertFalse(group.isDisposed());
+        assertEquals(1, (int) target.get());
+
+        group.setDisposedOnRemoval(true);
+        BindingGroup.disposeAttachedOnRemoval(owner);
+        source.set(2);
+
+        assertTrue(group.isDisposed());
+        assertEquals(1, (int) target.get());
+    }
+
+    @Test(timeout = 2000)
+    public void disposingManyBindingsOfOneSourceIsNotQuadratic(){
+        final int N = 200_000;
+        List<SimpleProperty<Integer>> targets = new ArrayList<>(N);
+        List<Binding<Integer>> bindings = new ArrayList<>(N);
+        for(int t = 0; t < N; ++t){
+            SimpleProperty<Integer> prop = new SimpleProperty<>(0);
+            targets.add(prop);
+            bindings.add(Bindings.bind(prop, source));
+        }
+
+        for(int t = N; --t >= 0;)
+            bindings.get(t).dispose();
+        source.set(3);
+
+        assertEquals(0, (int) targets.get(0).get());
+    }
+}
@@ -0,0 +1,57 @@
+package com.markussecundus.forms.wrappers.property.binding;
+
+import com.markussecundus.forms.wrappers.property.impl.general.SimpleProperty;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+public class DeferredBindingExecutorTest {
+
+    private final SimpleProperty<Integer> a = new SimpleProperty<>(0), b = new SimpleProperty<>(0);
+
+    @Test
+    public void lastWriteWinsWhenBothEndsOfBidirectionalBindingChange(){
+        DeferredBindingExecutor exec = new DeferredBindingExecutor();
+        Bindings.bindBidirectional(exec, a, b);
+        DeferredBindingExecutor.flushAll();
+
+        a.set(1);
+        b.set(2);
+        DeferredBindingExecutor.flushAll();
+
+        assertEquals(2, (int) a.get());
+        assertEquals(2, (int) b.get());
+
+        b.set(3);
+        a.set(4);
+        b.set(5);
+        a.set(6);
+        DeferredBindingExecutor.flushAll();
+
+        assertEquals(6, (int) a.get());
+        assertEquals(6, (int) b.get());
+    }
+
+    @Test
+    public void executorsQueuedAfterAFailingFlushAreFlushedNextTime(){
+        SimpleProperty<Integer> c = new SimpleProperty<>(0), d = new SimpleProperty<>(0);
+        Bindings.bind(new DeferredBindingExecutor(), b, (Integer v) -> {throw new IllegalStateException("boom");}, a);
+        DeferredBindingExecutor second = new DeferredBindingExecutor();
+        Bindings.bind(second, d, (Integer v) -> v + 1, c);
+
+        a.set(1);
+        c.set(1);
+        try {
+            DeferredBindingExecutor.flushAll();
+            fail("The failing binding must propagate its exception");
+        }catch (IllegalStateException expected){}
+
+        DeferredBindingExecutor.flushAll();
+
+        assertFalse(second.hasPending());
+        assertEquals(2, (int) d.get());
+    }
+}
@@ -0,0 +1,93 @@
+package com.markussecundus.forms.wrappers.property.binding;
+
+import com.markussecundus.forms.wrappers.property.impl.general.SimpleProperty;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.assertEquals;
+
+public class ParallelBindingExecutorTest {
+
+    private final ExecutorService workers = Executors.newFixedThreadPool(4);
+
+    private final SimpleProperty<Integer> a = new SimpleProperty<>(0), b = new SimpleProperty<>(0),
+                                          c = new SimpleProperty<>(0), d = new SimpleProperty<>(0);
+
+    @After
+    public void shutdownWorkers(){
+        workers.shutdownNow();
+    }
+
+    private void bindDiamond(BindingExecutor exec, boolean pure){
+        Binding<?>[] bindings = {
+            Bindings.bind(exec, b, (Integer v) -> v + 1, a),
+            Bindings.bind(exec, c, (Integer v) -> v * 10, b),
+            Bindings.bind(exec, d, (Integer x, Integer y) -> x + y, a, c),
+        };
+        if(pure)
+            for(Binding<?> binding: bindings)
+                binding.markPure();
+    }
+
+    @Test
+    public void diamondReadsOnlySettledValues(){
+        bindDiamond(new ParallelBindingExecutor(workers), false);
+
+        a.set(5);
+
+        assertEquals(6, (int) b.get());
+        assertEquals(60, (int) c.get());
+        assertEquals(65, (int) d.get());
+    }
+
+    @Test
+    public void pureDiamondReadsOnlySettledValues(){
+        bindDiamond(new ParallelBindingExecutor(workers), true);
+
+        a.set(5);
+        assertEquals(65, (int) d.get());
+
+        a.set(7);
+        assertEquals(8, (int) b.get());
+        assertEquals(80, (int) c.get());
+        assertEquals(87, (int) d.get());
+    }
+
+    @Test
+    public void independentPureBindingsAreAllEvaluated(){
+        ParallelBindingExecutor exec = new ParallelBindingExecutor(workers);
+        SimpleProperty<Integer> src = new SimpleProperty<>(0);
+        List<SimpleProperty<Integer>> targets = new ArrayList<>();
+        for(int t = 0; t < 64; ++t){
+            final int offset = t;
+            SimpleProperty<Integer> target = new SimpleProperty<>(0);
+            targets.add(target);
+            Bindings.bind(exec, target, (Integer v) -> v + offset, src).markPure();
+        }
+
+        src.set(100);
+
+        for(int t = 0; t < targets.size(); ++t)
+            assertEquals(100 + t, (int) targets.get(t).get());
+    }
+
+    @Test
+    public void bidirectionalBindingSettles(){
+        ParallelBindingExecutor exec = new ParallelBindingExecutor(workers);
+        SimpleProperty<Integer> p = new SimpleProperty<>(0), q = new SimpleProperty<>(0);
+        Bindings.bindBidirectional(exec, p, q, (Integer v) -> v * 2, (Integer v) -> v / 2);
+
+        p.set(4);
+        assertEquals(8, (int) q.get());
+        assertEquals(4, (int) p.get());
+
+        q.set(20);
+        assertEquals(10, (int) p.get());
+    }
+}
@@ -0,0 +1,53 @@
+package com.markussecundus.forms.wrappers.property.binding;
+
+import com.markussecundus.forms.wrappers.property.impl.general.SimpleProperty;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class TopologicalBindingExecutorTest {
+
+    private final SimpleProperty<Integer> a = new SimpleProperty<>(0), b = new SimpleProperty<>(0),
+                                          c = new SimpleProperty<>(0), d = new SimpleProperty<>(0);
+
+    private void bindDiamond(BindingExecutor exec){
+        Bindings.bind(exec, b, (Integer v) -> v + 1, a);
+        Bindings.bind(exec, c, (Integer v) -> v * 10, b);
+        Bindings.bind(exec, d, (Integer x, Integer y) -> x + y, a, c);
+    }
+
+    @Test
+    public void diamondIsEvaluatedInTopologicalOrder(){
+        bindDiamond(new TopologicalBindingExecutor());
+
+        a.set(5);
+
+        assertEquals(6, (int) b.get());
+        assertEquals(60, (int) c.get());
+        assertEquals(65, (int) d.get());
+    }
+
+    @Test
+    public void diamondIsEvaluatedInTopologicalOrderBehindDeferredExecutor(){
+        bindDiamond(new DeferredBindingExecutor(new TopologicalBindingExecutor()));
+
+        a.set(5);
+        assertEquals(0, (int) d.get());
+
+        DeferredBindingExecutor.flushAll();
+
+        assertEquals(6, (int) b.get());
+        assertEquals(60, (int) c.get());
+        assertEquals(65, (int) d.get());
+    }
+
+    @Test
+    public void diamondIsEvaluatedInTopologicalOrderBehindIndirectExecutor(){
+        bindDiamond(new BindingExecutor.Indirect(new TopologicalBindingExecutor()));
+
+        a.set(5);
+
+        assertEquals(65, (int) d.get());
+    }
+}
@@ -0,0 +1,51 @@
+package com.markussecundus.forms.wrappers.property.impl.general;
+
+import com.markussecundus.forms.events.ListenerPriorities;
+import com.markussecundus.forms.wrappers.property.raw.FloatProperty;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class AdaptedFloatPropertyTest {
+
+    @Test
+    public void boxedNullIsRejected(){
+        SimpleFloatProperty prop = new SimpleFloatProperty(1f);
+        try {
+            prop.set(null);
+            fail("set(null) must be rejected");
+        }catch (NullPointerException expected){}
+
+        assertEquals(1f, prop.get_raw(), 0f);
+    }
+
+    @Test
+    public void nullInBaseIsRejected(){
+        AdaptedFloatProperty adapted = new AdaptedFloatProperty(new SimpleProperty<>(null));
+        try {
+            adapted.get_raw();
+            fail("null read through the adapter must be rejected");
+        }catch (NullPointerException expected){}
+    }
+
+    @Test
+    public void disposeRemovesTheForwarderFromBase(){
+        SimpleProperty<Float> base = new SimpleProperty<>(0f);
+        int baseListeners = base.getSetterListeners().getListeners(ListenerPriorities.USER).size();
+        AdaptedFloatProperty adapted = (AdaptedFloatProperty) FloatProperty.of(base);
+        float[] seen = {-1f};
+        adapted.getSetterListeners().getListeners(ListenerPriorities.USER).add(e -> {seen[0] = e.oldVal_raw(); return true;});
+
+        base.set(2f);
+        assertEquals(0f, seen[0], 0f);
+
+        adapted.dispose();
+        base.set(3f);
+
+        assertEquals(0f, seen[0], 0f);
+        assertEquals(baseListeners, base.getSetterListeners().getListeners(ListenerPriorities.USER).size());
+        assertEquals(3f, adapted.get_raw(), 0f);
+    }
+}
@@ -0,0 +1,142 @@
+package com.markussecundus.forms.wrappers.property.impl.readonly;
+
+import com.markussecundus.forms.wrappers.property.PropertyTransaction;
+import com.markussecundus.forms.wrappers.property.impl.general.SimpleBooleanProperty;
+import com.markussecundus.forms.wrappers.property.impl.general.SimpleProperty;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ComputedPropertyTest {
+
+    private int computations = 0;
+
+    @Test
+    public void computesLazilyAndOncePerInvalidation(){
+        SimpleProperty<Integer> a = new SimpleProperty<>(1);
+        ComputedProperty<Integer> c = new ComputedProperty<>(() -> { ++computations; return a.get() * 10; });
+        assertEquals(0, computations);
+
+        assertEquals(10, (int) c.get());
+        assertEquals(10, (int) c.get());
+        assertEquals(1, computations);
+        assertTrue(c.isValid());
+
+        a.set(2);
+        a.set(3);
+        a.set(4);
+        assertFalse(c.isValid());
+        assertEquals(1, computations);
+
+        assertEquals(40, (int) c.get());
+        assertEquals(2, computations);
+    }
+
+    @Test
+    public void dependenciesFollowWhatTheLastComputationRead(){
+        SimpleBooleanProperty useA = new SimpleBooleanProperty(true);
+        SimpleProperty<Integer> a = new SimpleProperty<>(1), b = new SimpleProperty<>(2);
+        ComputedProperty<Integer> c = new ComputedProperty<>(() -> useA.get_raw() ? a.get() : b.get());
+
+        assertEquals(1, (int) c.get());
+        b.set(20);
+        assertTrue("b was not read, so it is not a dependency yet", c.isValid());
+
+        useA.set_raw(false);
+        assertFalse(c.isValid());
+        assertEquals(20, (int) c.get());
+
+        a.set(10);
+        assertTrue("a was not read by the last computation, so it got released", c.isValid());
+        b.set(30);
+        assertFalse(c.isValid());
+        assertEquals(30, (int) c.get());
+    }
+
+    @Test
+    public void chainedPropertiesInvalidateWithoutRecomputing(){
+        SimpleProperty<Integer> a = new SimpleProperty<>(1);
+        int[] innerComputations = {0};
+        ComputedProperty<Integer> inner = new ComputedProperty<>(() -> { ++innerComputations[0]; return a.get() * 2; });
+        ComputedProperty<Integer> outer = new ComputedProperty<>(() -> { ++computations; return inner.get() + 1; });
+
+        assertEquals(3, (int) outer.get());
+        assertEquals(1, innerComputations[0]);
+        assertEquals(1, computations);
+
+        a.set(5);
+        assertFalse(inner.isValid());
+        assertFalse(outer.isValid());
+        assertEquals("invalidation must not recompute the inner property", 1, innerComputations[0]);
+
+        assertEquals(11, (int) outer.get());
+        assertEquals(2, innerComputations[0]);
+        assertEquals(2, computations);
+
+        a.set(6);
+        a.set(7);
+        assertEquals(15, (int) outer.get());
+        assertEquals(3, innerComputations[0]);
+        assertEquals(3, computations);
+    }
+
+    @Test
+    public void propertyWithSetterListenersRecomputesEagerly(){
+        SimpleProperty<Integer> a = new SimpleProperty<>(1);
+        ComputedProperty<Integer> c = new ComputedProperty<>(() -> a.get() + 1);
+        List<Integer> seen = new ArrayList<>();
+        c.getSetterListeners().add(e -> seen.add(e.newVal().get()));
+
+        c.get();
+        a.set(2);
+        a.set(3);
+        assertTrue(c.isValid());
+        assertEquals(Arrays.asList(2, 3, 4), seen);
+    }
+
+    @Test
+    public void cyclicDependencyThrows(){
+        List<ComputedProperty<Integer>> props = new ArrayList<>();
+        props.add(new ComputedProperty<>(() -> props.get(1).get() + 1));
+        props.add(new ComputedProperty<>(() -> props.get(0).get() + 1));
+
+        try{
+            props.get(0).get();
+            fail("expected IllegalStateException");
+        }catch(IllegalStateException expected){}
+
+        SimpleProperty<Integer> a = new SimpleProperty<>(1);
+        ComputedProperty<Integer> c = new ComputedProperty<>(a::get);
+        assertEquals(1, (int) c.get());
+        a.set(2);
+        assertFalse("tracking must be restored after the failed computation", c.isValid());
+        assertEquals(2, (int) c.get());
+    }
+
+    @Test
+    public void readsDuringTransactionSeeCurrentValues(){
+        SimpleProperty<Integer> a = new SimpleProperty<>(1), b = new SimpleProperty<>(2);
+        ComputedProperty<Integer> sum = new ComputedProperty<>(() -> a.get() + b.get());
+        assertEquals(3, (int) sum.get());
+
+        try(PropertyTransaction tr = PropertyTransaction.begin()){
+            a.set(10);
+            assertEquals(12, (int) sum.get());
+            b.set(20);
+            assertEquals(30, (int) sum.get());
+        }
+
+        assertEquals(30, (int) sum.get());
+        a.set(100);
+        assertFalse("dependencies must survive the transaction", sum.isValid());
+        assertEquals(120, (int) sum.get());
+    }
+}
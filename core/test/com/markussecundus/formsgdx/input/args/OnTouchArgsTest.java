@@ -0,0 +1,60 @@
+package com.markussecundus.formsgdx.input.args;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class OnTouchArgsTest {
+
+    @Test
+    public void derivedArgsInUseAreNeverOverwritten(){
+        OnTouchArgs root = OnTouchArgs.obtain(null, null, 10, 20, 1, 0);
+        try {
+            OnTouchArgs first = root.with(null, 1, 2);
+            OnTouchArgs second = root.with(null, 3, 4);
+
+            assertNotSame(first, second);
+            assertEquals(1, first.x());
+            assertEquals(2, first.y());
+            assertEquals(3, second.x());
+            assertFalse(second.isTransient());
+        }finally {
+            root.release();
+        }
+    }
+
+    @Test
+    public void dispatchReleasesDerivedArgsForReuse(){
+        OnTouchArgs root = OnTouchArgs.obtain(null, null, 10, 20, 1, 0);
+        try {
+            OnTouchArgs[] seen = new OnTouchArgs[2];
+            OnInputEventArgs.dispatch(root.with(null, 1, 2), a -> {seen[0] = a; return true;});
+            OnInputEventArgs.dispatch(root.with(null, 3, 4), a -> {seen[1] = a; return true;});
+
+            assertSame(seen[0], seen[1]);
+            assertTrue(seen[1].isTransient());
+            assertEquals(3, seen[1].x());
+            assertEquals(1, seen[1].pointer());
+        }finally {
+            root.release();
+        }
+    }
+
+    @Test
+    public void retainedArgsOutliveTheDispatch(){
+        OnTouchArgs root = OnTouchArgs.obtain(null, null, 10, 20, 1, 2);
+        OnTouchArgs retained = root.retain();
+        root.release();
+
+        OnTouchArgs next = OnTouchArgs.obtain(null, null, 30, 40, 3, 4);
+        next.release();
+
+        assertFalse(retained.isTransient());
+        assertEquals(10, retained.x());
+        assertEquals(2, retained.button());
+    }
+}